@@ -0,0 +1,460 @@
+package tech.intellispaces.general.generator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Generator of the primitive specializations of the functional interfaces.
+ * <p>
+ * Interfaces are generated to the package {@code tech.intellispaces.general.function.primitive} from the matrix
+ * of the argument kinds and the result kinds. Each interface accepts at least one object argument. Object arguments
+ * go first, primitive arguments follow in order int, long, double. Shapes with object arguments and object result
+ * are not generated because they are covered by {@code Function}, {@code BiFunction} and {@code TriFunction}.
+ * <p>
+ * Usage: {@code java PrimitiveFunctionsGenerator.java <source root>}.
+ * The generator is also bound to the {@code generate-primitive-functions} Maven profile.
+ */
+public class PrimitiveFunctionsGenerator {
+  private static final String PACKAGE = "tech.intellispaces.general.function.primitive";
+  private static final int MAX_ARITY = 3;
+  private static final int LINE_LENGTH = 120;
+  private static final String[] COUNTS = { "", "single", "two", "three" };
+  private static final String[] ORDINALS = { "", "first", "second", "third" };
+  private static final List<Kind> PRIMITIVES = List.of(Kind.INT, Kind.LONG, Kind.DOUBLE);
+
+  enum Kind {
+    OBJECT("Object", "object", null, null),
+    INT("Int", "integer primitive", "int", "Integer"),
+    LONG("Long", "long primitive", "long", "Long"),
+    DOUBLE("Double", "double primitive", "double", "Double");
+
+    final String title;
+    final String description;
+    final String primitive;
+    final String boxed;
+
+    Kind(String title, String description, String primitive, String boxed) {
+      this.title = title;
+      this.description = description;
+      this.primitive = primitive;
+      this.boxed = boxed;
+    }
+  }
+
+  record Shape(List<Kind> arguments, Kind result) {
+
+    int arity() {
+      return arguments.size();
+    }
+
+    int objectCount() {
+      return (int) arguments.stream().filter(kind -> kind == Kind.OBJECT).count();
+    }
+
+    boolean isCoveredByObjectFunction() {
+      return objectCount() == arity() && result == Kind.OBJECT;
+    }
+
+    Shape withResult(Kind kind) {
+      return new Shape(arguments, kind);
+    }
+
+    String simpleName() {
+      if (isCoveredByObjectFunction()) {
+        return switch (arity()) {
+          case 1 -> "Function";
+          case 2 -> "BiFunction";
+          default -> "TriFunction";
+        };
+      }
+      var parts = new ArrayList<String>();
+      parts.add(switch (objectCount()) {
+        case 1 -> "Object";
+        case 2 -> "TwoObjects";
+        default -> "ThreeObjects";
+      });
+      for (Kind kind : PRIMITIVES) {
+        int count = count(kind);
+        if (count == 1) {
+          parts.add(kind.title);
+        } else if (count > 1) {
+          parts.add(capitalize(COUNTS[count]) + kind.title + "s");
+        }
+      }
+      return String.join("And", parts) + "To" + result.title + "Function";
+    }
+
+    int count(Kind kind) {
+      return (int) arguments.stream().filter(k -> k == kind).count();
+    }
+
+    List<String> objectTypeParams() {
+      if (objectCount() == 1) {
+        return List.of("T");
+      }
+      return IntStream.rangeClosed(1, objectCount()).mapToObj(i -> "T" + i).toList();
+    }
+
+    List<String> typeParams(String resultTypeParam) {
+      var params = new ArrayList<>(objectTypeParams());
+      if (result == Kind.OBJECT) {
+        params.add(resultTypeParam);
+      }
+      return params;
+    }
+
+    String type(List<String> objectTypeParams, String resultTypeParam) {
+      var params = new ArrayList<>(objectTypeParams);
+      if (result == Kind.OBJECT) {
+        params.add(resultTypeParam);
+      }
+      return simpleName() + "<" + String.join(", ", params) + ">";
+    }
+
+    String methodName() {
+      if (result == Kind.OBJECT || arity() > 1) {
+        return "apply";
+      }
+      return "applyAs" + result.title;
+    }
+
+    String jdkSuperinterface() {
+      if (arity() == 1 && result != Kind.OBJECT) {
+        return "To" + result.title + "Function";
+      }
+      return null;
+    }
+
+    List<String> argumentNames() {
+      if (arity() == 1) {
+        return List.of("arg");
+      }
+      return IntStream.rangeClosed(1, arity()).mapToObj(i -> "arg" + i).toList();
+    }
+
+    List<String> argumentTypes(List<String> objectTypeParams) {
+      var types = new ArrayList<String>();
+      int objectIndex = 0;
+      for (Kind kind : arguments) {
+        types.add(kind == Kind.OBJECT ? objectTypeParams.get(objectIndex++) : kind.primitive);
+      }
+      return types;
+    }
+
+    List<String> boxedArgumentTypes(List<String> objectTypeParams, boolean wildcards) {
+      var types = new ArrayList<String>();
+      int objectIndex = 0;
+      for (Kind kind : arguments) {
+        String type = kind == Kind.OBJECT ? objectTypeParams.get(objectIndex++) : kind.boxed;
+        types.add(wildcards ? "? super " + type : type);
+      }
+      return types;
+    }
+
+    String resultType(String resultTypeParam) {
+      return result == Kind.OBJECT ? resultTypeParam : result.primitive;
+    }
+
+    String boxedResultType(String resultTypeParam) {
+      return result == Kind.OBJECT ? resultTypeParam : result.boxed;
+    }
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 1) {
+      System.err.println("Usage: java PrimitiveFunctionsGenerator.java <source root>");
+      System.exit(1);
+    }
+    Path directory = Path.of(args[0]).resolve(PACKAGE.replace('.', '/'));
+    Files.createDirectories(directory);
+    List<Shape> shapes = shapes();
+    for (Shape shape : shapes) {
+      Path file = directory.resolve(shape.simpleName() + ".java");
+      Files.writeString(file, generate(shape), StandardCharsets.UTF_8);
+    }
+    System.out.println("Generated " + shapes.size() + " interfaces in " + directory);
+  }
+
+  static List<Shape> shapes() {
+    var shapes = new ArrayList<Shape>();
+    for (int arity = 1; arity <= MAX_ARITY; arity++) {
+      for (int objectCount = arity; objectCount >= 1; objectCount--) {
+        for (List<Kind> primitives : primitiveCombinations(arity - objectCount, 0)) {
+          var arguments = new ArrayList<Kind>();
+          IntStream.range(0, objectCount).forEach(i -> arguments.add(Kind.OBJECT));
+          arguments.addAll(primitives);
+          for (Kind result : Kind.values()) {
+            var shape = new Shape(List.copyOf(arguments), result);
+            if (!shape.isCoveredByObjectFunction()) {
+              shapes.add(shape);
+            }
+          }
+        }
+      }
+    }
+    return shapes;
+  }
+
+  /**
+   * Returns non-decreasing combinations of the primitive kinds.
+   */
+  private static List<List<Kind>> primitiveCombinations(int size, int fromIndex) {
+    if (size == 0) {
+      return List.of(List.of());
+    }
+    var combinations = new ArrayList<List<Kind>>();
+    for (int i = fromIndex; i < PRIMITIVES.size(); i++) {
+      for (List<Kind> tail : primitiveCombinations(size - 1, i)) {
+        var combination = new ArrayList<Kind>();
+        combination.add(PRIMITIVES.get(i));
+        combination.addAll(tail);
+        combinations.add(combination);
+      }
+    }
+    return combinations;
+  }
+
+  static String generate(Shape shape) {
+    var imports = new TreeMap<String, String>();
+    var body = new StringBuilder();
+    List<String> objectParams = shape.objectTypeParams();
+    List<String> argumentNames = shape.argumentNames();
+    String arguments = String.join(", ", argumentNames);
+    String lambdaArguments = shape.arity() == 1 ? arguments : "(" + arguments + ")";
+    String call = shape.methodName() + "(" + arguments + ")";
+
+    body.append("/**\n");
+    wrap(body, " * ", "Function that accepts " + argumentsDescription(shape) + " and returns "
+        + shape.result.description + " result.");
+    body.append(" *\n");
+    for (int i = 0; i < objectParams.size(); i++) {
+      String ordinal = objectParams.size() == 1 ? "the" : "the " + ORDINALS[i + 1];
+      body.append(" * @param <").append(objectParams.get(i)).append("> ").append(ordinal)
+          .append(" object argument type.\n");
+    }
+    if (shape.result == Kind.OBJECT) {
+      body.append(" * @param <R> the result type.\n");
+    }
+    body.append(" */\n");
+    body.append("@FunctionalInterface\n");
+    body.append("public interface ").append(shape.type(objectParams, "R"));
+    if (shape.jdkSuperinterface() != null) {
+      importJdk(imports, shape.jdkSuperinterface());
+      body.append(" extends ").append(shape.jdkSuperinterface()).append("<T>");
+    }
+    body.append(" {\n");
+
+    // Abstract method
+    List<String> argumentTypes = shape.argumentTypes(objectParams);
+    body.append("\n  /**\n");
+    body.append("   * Applies function.\n");
+    body.append("   *\n");
+    for (int i = 0; i < argumentNames.size(); i++) {
+      String ordinal = argumentNames.size() == 1 ? "the" : "the " + ORDINALS[i + 1];
+      body.append("   * @param ").append(argumentNames.get(i)).append(" ").append(ordinal).append(" argument.\n");
+    }
+    body.append("   * @return the function result.\n");
+    body.append("   */\n");
+    body.append("  ").append(shape.resultType("R")).append(" ").append(shape.methodName()).append("(")
+        .append(IntStream.range(0, argumentNames.size())
+            .mapToObj(i -> argumentTypes.get(i) + " " + argumentNames.get(i))
+            .collect(Collectors.joining(", ")))
+        .append(");\n");
+
+    // Combinators with after function
+    var targets = new ArrayList<Kind>();
+    targets.add(shape.result);
+    Arrays.stream(Kind.values()).filter(kind -> kind != shape.result).forEach(targets::add);
+    for (Kind target : targets) {
+      Shape targetShape = shape.withResult(target);
+      importShape(imports, targetShape);
+      String afterType = afterFunctionType(shape.result, target, imports);
+      String methodName = target == shape.result ? "andThen" : "andThenTo" + target.title;
+      String afterMethodName = target == Kind.OBJECT ? "apply" : "applyAs" + target.title;
+      body.append("\n  /**\n");
+      body.append("   * Returns composed function that applies this function and then the {@code after} function to the"
+          + " result.\n");
+      body.append("   *\n");
+      body.append("   * @param after the function to apply after this function.\n");
+      if (target == Kind.OBJECT) {
+        body.append("   * @param <V> the result type of the composed function.\n");
+      }
+      body.append("   * @return the composed function.\n");
+      body.append("   */\n");
+      body.append("  default ").append(target == Kind.OBJECT ? "<V> " : "")
+          .append(targetShape.type(objectParams, "V")).append(" ").append(methodName).append("(")
+          .append(afterType).append(" after) {\n");
+      body.append("    Objects.requireNonNull(after);\n");
+      body.append("    return ").append(lambdaArguments).append(" -> after.").append(afterMethodName).append("(")
+          .append(call).append(");\n");
+      body.append("  }\n");
+    }
+
+    // Combinator with before function
+    importJdk(imports, "Function");
+    var composedParams = new ArrayList<>(objectParams);
+    composedParams.set(0, "V");
+    var composedArguments = new ArrayList<>(argumentNames);
+    composedArguments.set(0, "before.apply(" + argumentNames.get(0) + ")");
+    body.append("\n  /**\n");
+    body.append("   * Returns composed function that first applies the {@code before} function to the first"
+        + " argument.\n");
+    body.append("   *\n");
+    body.append("   * @param before the function to apply to the first argument before this function.\n");
+    body.append("   * @param <V> the first argument type of the composed function.\n");
+    body.append("   * @return the composed function.\n");
+    body.append("   */\n");
+    body.append("  default <V> ").append(shape.type(composedParams, "R")).append(" compose(Function<? super V, ? extends ")
+        .append(objectParams.get(0)).append("> before) {\n");
+    body.append("    Objects.requireNonNull(before);\n");
+    body.append("    return ").append(lambdaArguments).append(" -> ").append(shape.methodName()).append("(")
+        .append(String.join(", ", composedArguments)).append(");\n");
+    body.append("  }\n");
+
+    // Boxed adapters
+    Shape boxedShape = new Shape(Collections.nCopies(shape.arity(), Kind.OBJECT), Kind.OBJECT);
+    String boxedFunction = boxedShape.simpleName();
+    String boxedType = boxedFunction + "<"
+        + String.join(", ", shape.boxedArgumentTypes(objectParams, false)) + ", " + shape.boxedResultType("R") + ">";
+    String boxedWildcardType = boxedFunction + "<"
+        + String.join(", ", shape.boxedArgumentTypes(objectParams, true)) + ", ? extends "
+        + shape.boxedResultType("R") + ">";
+    importObjectFunction(imports, boxedShape.arity());
+    body.append("\n  /**\n");
+    body.append("   * Returns boxed form of this function.\n");
+    body.append("   *\n");
+    body.append("   * @return the function that accepts and returns boxed values.\n");
+    body.append("   */\n");
+    body.append("  default ").append(boxedType).append(" boxed() {\n");
+    body.append("    return this::").append(shape.methodName()).append(";\n");
+    body.append("  }\n");
+
+    List<String> staticParams = shape.typeParams("R");
+    body.append("\n  /**\n");
+    body.append("   * Returns function that delegates to the boxed function.\n");
+    body.append("   *\n");
+    body.append("   * @param function the function that accepts and returns boxed values.\n");
+    for (String param : staticParams) {
+      body.append("   * @param <").append(param).append("> the ")
+          .append(param.equals("R") ? "result type" : objectTypeDescription(objectParams, param)).append(".\n");
+    }
+    body.append("   * @return the function that accepts and returns unboxed values.\n");
+    body.append("   */\n");
+    String signature = "  static <" + String.join(", ", staticParams) + "> " + shape.type(objectParams, "R")
+        + " fromBoxed(";
+    if (signature.length() + boxedWildcardType.length() + " function) {".length() > LINE_LENGTH) {
+      body.append(signature).append("\n      ").append(boxedWildcardType).append(" function\n  ) {\n");
+    } else {
+      body.append(signature).append(boxedWildcardType).append(" function) {\n");
+    }
+    body.append("    Objects.requireNonNull(function);\n");
+    body.append("    return function::apply;\n");
+    body.append("  }\n");
+    body.append("}\n");
+
+    imports.put("java.util.Objects", "Objects");
+    var source = new StringBuilder();
+    source.append("// Generated by PrimitiveFunctionsGenerator. Do not edit manually.\n");
+    source.append("package ").append(PACKAGE).append(";\n\n");
+    List<String> projectImports = imports.keySet().stream().filter(i -> i.startsWith("tech.")).toList();
+    List<String> jdkImports = imports.keySet().stream().filter(i -> i.startsWith("java.")).toList();
+    projectImports.forEach(i -> source.append("import ").append(i).append(";\n"));
+    if (!projectImports.isEmpty()) {
+      source.append("\n");
+    }
+    jdkImports.forEach(i -> source.append("import ").append(i).append(";\n"));
+    source.append("\n");
+    source.append(body);
+    return source.toString();
+  }
+
+  private static String argumentsDescription(Shape shape) {
+    var parts = new ArrayList<String>();
+    int objectCount = shape.objectCount();
+    parts.add(COUNTS[objectCount] + " object argument" + (objectCount > 1 ? "s" : ""));
+    for (Kind kind : PRIMITIVES) {
+      int count = shape.count(kind);
+      if (count > 0) {
+        parts.add(COUNTS[count] + " " + kind.description + " argument" + (count > 1 ? "s" : ""));
+      }
+    }
+    if (parts.size() == 1) {
+      return parts.get(0);
+    }
+    return String.join(", ", parts.subList(0, parts.size() - 1)) + " and " + parts.get(parts.size() - 1);
+  }
+
+  private static String objectTypeDescription(List<String> objectParams, String param) {
+    if (objectParams.size() == 1) {
+      return "object argument type";
+    }
+    return ORDINALS[objectParams.indexOf(param) + 1] + " object argument type";
+  }
+
+  private static String afterFunctionType(Kind source, Kind target, Map<String, String> imports) {
+    String type;
+    String generic;
+    if (source == Kind.OBJECT) {
+      type = target == Kind.OBJECT ? "Function" : "To" + target.title + "Function";
+      generic = target == Kind.OBJECT ? "<? super R, ? extends V>" : "<? super R>";
+    } else if (target == Kind.OBJECT) {
+      type = source.title + "Function";
+      generic = "<? extends V>";
+    } else if (target == source) {
+      type = source.title + "UnaryOperator";
+      generic = "";
+    } else {
+      type = source.title + "To" + target.title + "Function";
+      generic = "";
+    }
+    importJdk(imports, type);
+    return type + generic;
+  }
+
+  private static void importShape(Map<String, String> imports, Shape shape) {
+    if (shape.isCoveredByObjectFunction()) {
+      importObjectFunction(imports, shape.arity());
+    }
+  }
+
+  private static void importObjectFunction(Map<String, String> imports, int arity) {
+    switch (arity) {
+      case 1 -> importJdk(imports, "Function");
+      case 2 -> importJdk(imports, "BiFunction");
+      default -> imports.put("tech.intellispaces.general.function.TriFunction", "TriFunction");
+    }
+  }
+
+  private static void importJdk(Map<String, String> imports, String simpleName) {
+    imports.put("java.util.function." + simpleName, simpleName);
+  }
+
+  private static void wrap(StringBuilder sb, String prefix, String text) {
+    var line = new StringBuilder(prefix);
+    for (String word : text.split(" ")) {
+      if (line.length() > prefix.length() && line.length() + 1 + word.length() > LINE_LENGTH) {
+        sb.append(line).append("\n");
+        line = new StringBuilder(prefix);
+      }
+      if (line.length() > prefix.length()) {
+        line.append(' ');
+      }
+      line.append(word);
+    }
+    sb.append(line).append("\n");
+  }
+
+  private static String capitalize(String value) {
+    return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+  }
+}
@@ -0,0 +1,108 @@
+// Generated by PrimitiveFunctionsGenerator. Do not edit manually.
+package tech.intellispaces.general.function.primitive;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Function that accepts single object argument and single double primitive argument and returns long primitive result.
+ *
+ * @param <T> the object argument type.
+ */
+@FunctionalInterface
+public interface ObjectAndDoubleToLongFunction<T> {
+
+  /**
+   * Applies function.
+   *
+   * @param arg1 the first argument.
+   * @param arg2 the second argument.
+   * @return the function result.
+   */
+  long apply(T arg1, double arg2);
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndDoubleToLongFunction<T> andThen(LongUnaryOperator after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.applyAsLong(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @param <V> the result type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndDoubleToObjectFunction<T, V> andThenToObject(LongFunction<? extends V> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.apply(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndDoubleToIntFunction<T> andThenToInt(LongToIntFunction after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.applyAsInt(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndDoubleToDoubleFunction<T> andThenToDouble(LongToDoubleFunction after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.applyAsDouble(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that first applies the {@code before} function to the first argument.
+   *
+   * @param before the function to apply to the first argument before this function.
+   * @param <V> the first argument type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndDoubleToLongFunction<V> compose(Function<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return (arg1, arg2) -> apply(before.apply(arg1), arg2);
+  }
+
+  /**
+   * Returns boxed form of this function.
+   *
+   * @return the function that accepts and returns boxed values.
+   */
+  default BiFunction<T, Double, Long> boxed() {
+    return this::apply;
+  }
+
+  /**
+   * Returns function that delegates to the boxed function.
+   *
+   * @param function the function that accepts and returns boxed values.
+   * @param <T> the object argument type.
+   * @return the function that accepts and returns unboxed values.
+   */
+  static <T> ObjectAndDoubleToLongFunction<T> fromBoxed(
+      BiFunction<? super T, ? super Double, ? extends Long> function
+  ) {
+    Objects.requireNonNull(function);
+    return function::apply;
+  }
+}
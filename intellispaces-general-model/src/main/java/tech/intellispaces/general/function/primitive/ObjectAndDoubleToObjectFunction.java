@@ -1,10 +1,18 @@
+// Generated by PrimitiveFunctionsGenerator. Do not edit manually.
 package tech.intellispaces.general.function.primitive;
 
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
- * Function that accepts single object argument and single double primitive argument and returns object value.
+ * Function that accepts single object argument and single double primitive argument and returns object result.
  *
  * @param <T> the object argument type.
- * @param <R> the returned object type.
+ * @param <R> the result type.
  */
 @FunctionalInterface
 public interface ObjectAndDoubleToObjectFunction<T, R> {
@@ -17,4 +25,85 @@ public interface ObjectAndDoubleToObjectFunction<T, R> {
    * @return the function result.
    */
   R apply(T arg1, double arg2);
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @param <V> the result type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndDoubleToObjectFunction<T, V> andThen(Function<? super R, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.apply(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndDoubleToIntFunction<T> andThenToInt(ToIntFunction<? super R> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.applyAsInt(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndDoubleToLongFunction<T> andThenToLong(ToLongFunction<? super R> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.applyAsLong(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndDoubleToDoubleFunction<T> andThenToDouble(ToDoubleFunction<? super R> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2) -> after.applyAsDouble(apply(arg1, arg2));
+  }
+
+  /**
+   * Returns composed function that first applies the {@code before} function to the first argument.
+   *
+   * @param before the function to apply to the first argument before this function.
+   * @param <V> the first argument type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndDoubleToObjectFunction<V, R> compose(Function<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return (arg1, arg2) -> apply(before.apply(arg1), arg2);
+  }
+
+  /**
+   * Returns boxed form of this function.
+   *
+   * @return the function that accepts and returns boxed values.
+   */
+  default BiFunction<T, Double, R> boxed() {
+    return this::apply;
+  }
+
+  /**
+   * Returns function that delegates to the boxed function.
+   *
+   * @param function the function that accepts and returns boxed values.
+   * @param <T> the object argument type.
+   * @param <R> the result type.
+   * @return the function that accepts and returns unboxed values.
+   */
+  static <T, R> ObjectAndDoubleToObjectFunction<T, R> fromBoxed(
+      BiFunction<? super T, ? super Double, ? extends R> function
+  ) {
+    Objects.requireNonNull(function);
+    return function::apply;
+  }
 }
@@ -1,11 +1,20 @@
+// Generated by PrimitiveFunctionsGenerator. Do not edit manually.
 package tech.intellispaces.general.function.primitive;
 
+import tech.intellispaces.general.function.TriFunction;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * Function that accepts single object argument, single integer primitive argument and single double primitive argument
  * and returns object result.
  *
  * @param <T> the object argument type.
- * @param <R> the returned type.
+ * @param <R> the result type.
  */
 @FunctionalInterface
 public interface ObjectAndIntAndDoubleToObjectFunction<T, R> {
@@ -19,4 +28,85 @@ public interface ObjectAndIntAndDoubleToObjectFunction<T, R> {
    * @return the function result.
    */
   R apply(T arg1, int arg2, double arg3);
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @param <V> the result type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndIntAndDoubleToObjectFunction<T, V> andThen(Function<? super R, ? extends V> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.apply(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndIntAndDoubleToIntFunction<T> andThenToInt(ToIntFunction<? super R> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsInt(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndIntAndDoubleToLongFunction<T> andThenToLong(ToLongFunction<? super R> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsLong(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndIntAndDoubleToDoubleFunction<T> andThenToDouble(ToDoubleFunction<? super R> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsDouble(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that first applies the {@code before} function to the first argument.
+   *
+   * @param before the function to apply to the first argument before this function.
+   * @param <V> the first argument type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndIntAndDoubleToObjectFunction<V, R> compose(Function<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return (arg1, arg2, arg3) -> apply(before.apply(arg1), arg2, arg3);
+  }
+
+  /**
+   * Returns boxed form of this function.
+   *
+   * @return the function that accepts and returns boxed values.
+   */
+  default TriFunction<T, Integer, Double, R> boxed() {
+    return this::apply;
+  }
+
+  /**
+   * Returns function that delegates to the boxed function.
+   *
+   * @param function the function that accepts and returns boxed values.
+   * @param <T> the object argument type.
+   * @param <R> the result type.
+   * @return the function that accepts and returns unboxed values.
+   */
+  static <T, R> ObjectAndIntAndDoubleToObjectFunction<T, R> fromBoxed(
+      TriFunction<? super T, ? super Integer, ? super Double, ? extends R> function
+  ) {
+    Objects.requireNonNull(function);
+    return function::apply;
+  }
 }
@@ -0,0 +1,111 @@
+// Generated by PrimitiveFunctionsGenerator. Do not edit manually.
+package tech.intellispaces.general.function.primitive;
+
+import tech.intellispaces.general.function.TriFunction;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Function that accepts single object argument, single integer primitive argument and single long primitive argument
+ * and returns integer primitive result.
+ *
+ * @param <T> the object argument type.
+ */
+@FunctionalInterface
+public interface ObjectAndIntAndLongToIntFunction<T> {
+
+  /**
+   * Applies function.
+   *
+   * @param arg1 the first argument.
+   * @param arg2 the second argument.
+   * @param arg3 the third argument.
+   * @return the function result.
+   */
+  int apply(T arg1, int arg2, long arg3);
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndIntAndLongToIntFunction<T> andThen(IntUnaryOperator after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsInt(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @param <V> the result type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndIntAndLongToObjectFunction<T, V> andThenToObject(IntFunction<? extends V> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.apply(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndIntAndLongToLongFunction<T> andThenToLong(IntToLongFunction after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsLong(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ObjectAndIntAndLongToDoubleFunction<T> andThenToDouble(IntToDoubleFunction after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsDouble(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that first applies the {@code before} function to the first argument.
+   *
+   * @param before the function to apply to the first argument before this function.
+   * @param <V> the first argument type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ObjectAndIntAndLongToIntFunction<V> compose(Function<? super V, ? extends T> before) {
+    Objects.requireNonNull(before);
+    return (arg1, arg2, arg3) -> apply(before.apply(arg1), arg2, arg3);
+  }
+
+  /**
+   * Returns boxed form of this function.
+   *
+   * @return the function that accepts and returns boxed values.
+   */
+  default TriFunction<T, Integer, Long, Integer> boxed() {
+    return this::apply;
+  }
+
+  /**
+   * Returns function that delegates to the boxed function.
+   *
+   * @param function the function that accepts and returns boxed values.
+   * @param <T> the object argument type.
+   * @return the function that accepts and returns unboxed values.
+   */
+  static <T> ObjectAndIntAndLongToIntFunction<T> fromBoxed(
+      TriFunction<? super T, ? super Integer, ? super Long, ? extends Integer> function
+  ) {
+    Objects.requireNonNull(function);
+    return function::apply;
+  }
+}
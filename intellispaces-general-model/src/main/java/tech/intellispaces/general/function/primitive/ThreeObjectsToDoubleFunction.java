@@ -1,11 +1,21 @@
+// Generated by PrimitiveFunctionsGenerator. Do not edit manually.
 package tech.intellispaces.general.function.primitive;
 
+import tech.intellispaces.general.function.TriFunction;
+
+import java.util.Objects;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
 /**
  * Function that accepts three object arguments and returns double primitive result.
  *
- * @param <T1> the first argument type.
- * @param <T2> the second argument type.
- * @param <T3> the third argument type.
+ * @param <T1> the first object argument type.
+ * @param <T2> the second object argument type.
+ * @param <T3> the third object argument type.
  */
 @FunctionalInterface
 public interface ThreeObjectsToDoubleFunction<T1, T2, T3> {
@@ -19,4 +29,86 @@ public interface ThreeObjectsToDoubleFunction<T1, T2, T3> {
    * @return the function result.
    */
   double apply(T1 arg1, T2 arg2, T3 arg3);
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ThreeObjectsToDoubleFunction<T1, T2, T3> andThen(DoubleUnaryOperator after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsDouble(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @param <V> the result type of the composed function.
+   * @return the composed function.
+   */
+  default <V> TriFunction<T1, T2, T3, V> andThenToObject(DoubleFunction<? extends V> after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.apply(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ThreeObjectsToIntFunction<T1, T2, T3> andThenToInt(DoubleToIntFunction after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsInt(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that applies this function and then the {@code after} function to the result.
+   *
+   * @param after the function to apply after this function.
+   * @return the composed function.
+   */
+  default ThreeObjectsToLongFunction<T1, T2, T3> andThenToLong(DoubleToLongFunction after) {
+    Objects.requireNonNull(after);
+    return (arg1, arg2, arg3) -> after.applyAsLong(apply(arg1, arg2, arg3));
+  }
+
+  /**
+   * Returns composed function that first applies the {@code before} function to the first argument.
+   *
+   * @param before the function to apply to the first argument before this function.
+   * @param <V> the first argument type of the composed function.
+   * @return the composed function.
+   */
+  default <V> ThreeObjectsToDoubleFunction<V, T2, T3> compose(Function<? super V, ? extends T1> before) {
+    Objects.requireNonNull(before);
+    return (arg1, arg2, arg3) -> apply(before.apply(arg1), arg2, arg3);
+  }
+
+  /**
+   * Returns boxed form of this function.
+   *
+   * @return the function that accepts and returns boxed values.
+   */
+  default TriFunction<T1, T2, T3, Double> boxed() {
+    return this::apply;
+  }
+
+  /**
+   * Returns function that delegates to the boxed function.
+   *
+   * @param function the function that accepts and returns boxed values.
+   * @param <T1> the first object argument type.
+   * @param <T2> the second object argument type.
+   * @param <T3> the third object argument type.
+   * @return the function that accepts and returns unboxed values.
+   */
+  static <T1, T2, T3> ThreeObjectsToDoubleFunction<T1, T2, T3> fromBoxed(
+      TriFunction<? super T1, ? super T2, ? super T3, ? extends Double> function
+  ) {
+    Objects.requireNonNull(function);
+    return function::apply;
+  }
 }
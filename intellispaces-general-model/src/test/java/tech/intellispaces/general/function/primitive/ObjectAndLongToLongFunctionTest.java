@@ -0,0 +1,51 @@
+package tech.intellispaces.general.function.primitive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link ObjectAndLongToLongFunction}.
+ */
+public class ObjectAndLongToLongFunctionTest {
+  private final ObjectAndLongToLongFunction<String> function = (s, l) -> s.length() + l;
+
+  @Test
+  public void testAndThen() {
+    assertThat(function.andThen(l -> l * 2).apply("abc", 1)).isEqualTo(8);
+    assertThat(function.andThenToInt(l -> (int) -l).apply("abc", 1)).isEqualTo(-4);
+    assertThat(function.andThenToDouble(l -> l / 2.0).apply("abc", 0)).isEqualTo(1.5);
+
+    ObjectAndLongToObjectFunction<String, String> objectFunction = function.andThenToObject(Long::toString);
+    assertThat(objectFunction.apply("abc", 1)).isEqualTo("4");
+  }
+
+  @Test
+  public void testCompose() {
+    ObjectAndLongToLongFunction<Integer> composed = function.compose(i -> "a".repeat(i));
+    assertThat(composed.apply(5, 1)).isEqualTo(6);
+  }
+
+  @Test
+  public void testBoxed() {
+    BiFunction<String, Long, Long> boxed = function.boxed();
+    assertThat(boxed.apply("abc", 2L)).isEqualTo(5L);
+  }
+
+  @Test
+  public void testFromBoxed() {
+    BiFunction<String, Long, Long> boxed = (s, l) -> s.length() * l;
+    assertThat(ObjectAndLongToLongFunction.fromBoxed(boxed).apply("abc", 2)).isEqualTo(6);
+  }
+
+  @Test
+  public void testObjectToLongFunction() {
+    ObjectToLongFunction<String> length = String::length;
+    Function<String, String> described = length.andThen(l -> l + 1).andThenToObject(l -> "length " + l);
+    assertThat(described.apply("abc")).isEqualTo("length 4");
+    assertThat(length.compose(Object::toString).applyAsLong(12345)).isEqualTo(5);
+  }
+}
@@ -1,5 +1,6 @@
 package tech.intellispaces.general.collection;
 
+import tech.intellispaces.general.exception.UnexpectedExceptions;
 import tech.intellispaces.general.function.ThrowingFunction;
 
 import java.util.ArrayList;
@@ -8,6 +9,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Collection processing functions.
@@ -116,4 +118,64 @@ public interface CollectionFunctions {
     }
     return result;
   }
+
+  /**
+   * Maps collection elements concurrently on virtual threads.
+   * <p>
+   * Suitable for I/O bound mappers. Not more than {@code maxConcurrency} elements are mapped at the same time.
+   * The order of the result list matches the order of the source collection. The first exception thrown by the mapper
+   * cancels outstanding work and is rethrown as is. If virtual threads are not supported by the runtime, daemon
+   * platform threads are used.
+   *
+   * @param source the source collection.
+   * @param mapper the element mapper.
+   * @param maxConcurrency the maximum number of the concurrently mapped elements.
+   * @return the list of mapped elements.
+   * @param <E1> the source element type.
+   * @param <E2> the result element type.
+   * @param <E> the exception type.
+   * @throws E the exception thrown by the mapper.
+   */
+  static <E1, E2, E extends Exception> List<E2> mapEachConcurrently(
+      Collection<E1> source, ThrowingFunction<E1, E2, E> mapper, int maxConcurrency
+  ) throws E {
+    if (maxConcurrency < 1) {
+      throw UnexpectedExceptions.withMessage("Max concurrency should be positive number. Actual value: {0}",
+          maxConcurrency);
+    }
+    if (source == null) {
+      return null;
+    }
+    if (maxConcurrency == 1 || source.size() < 2) {
+      return mapEach(source, mapper);
+    }
+    return ConcurrentMapping.mapOnVirtualThreads(source, mapper, maxConcurrency);
+  }
+
+  /**
+   * Maps collection elements concurrently in the fork/join pool.
+   * <p>
+   * Suitable for CPU bound mappers. The order of the result list matches the order of the source collection.
+   * The first exception thrown by the mapper cancels outstanding work and is rethrown as is.
+   *
+   * @param source the source collection.
+   * @param mapper the element mapper.
+   * @param pool the fork/join pool.
+   * @return the list of mapped elements.
+   * @param <E1> the source element type.
+   * @param <E2> the result element type.
+   * @param <E> the exception type.
+   * @throws E the exception thrown by the mapper.
+   */
+  static <E1, E2, E extends Exception> List<E2> mapEachConcurrently(
+      Collection<E1> source, ThrowingFunction<E1, E2, E> mapper, ForkJoinPool pool
+  ) throws E {
+    if (source == null) {
+      return null;
+    }
+    if (source.size() < 2) {
+      return mapEach(source, mapper);
+    }
+    return ConcurrentMapping.mapOnPool(source, mapper, pool);
+  }
 }
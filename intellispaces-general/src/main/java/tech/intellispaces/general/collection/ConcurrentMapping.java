@@ -0,0 +1,168 @@
+package tech.intellispaces.general.collection;
+
+import tech.intellispaces.general.concurrent.ThreadFunctions;
+import tech.intellispaces.general.exception.ExceptionFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+import tech.intellispaces.general.function.ThrowingFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Concurrent mapping of the collection elements.
+ * <p>
+ * Results are written to the array by element index, so the order of the source collection is preserved.
+ * The first failure cancels outstanding work and is rethrown to the caller as is.
+ */
+final class ConcurrentMapping<E1, E2, E extends Exception> {
+  /**
+   * Number of the fork/join tasks per pool thread.
+   */
+  private static final int TASKS_PER_THREAD = 8;
+
+  private final Object[] elements;
+  private final Object[] results;
+  private final ThrowingFunction<E1, E2, E> mapper;
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private volatile boolean cancelled;
+  private volatile Thread[] threads;
+
+  private ConcurrentMapping(Collection<E1> source, ThrowingFunction<E1, E2, E> mapper) {
+    this.elements = source.toArray();
+    this.results = new Object[elements.length];
+    this.mapper = mapper;
+  }
+
+  static <E1, E2, E extends Exception> List<E2> mapOnThreads(
+      Collection<E1> source, ThrowingFunction<E1, E2, E> mapper, int maxConcurrency, ThreadFactory threadFactory
+  ) throws E {
+    return new ConcurrentMapping<>(source, mapper).runOnThreads(maxConcurrency, threadFactory);
+  }
+
+  static <E1, E2, E extends Exception> List<E2> mapOnVirtualThreads(
+      Collection<E1> source, ThrowingFunction<E1, E2, E> mapper, int maxConcurrency
+  ) throws E {
+    return mapOnThreads(source, mapper, maxConcurrency, ThreadFunctions.virtualThreadFactory());
+  }
+
+  static <E1, E2, E extends Exception> List<E2> mapOnPool(
+      Collection<E1> source, ThrowingFunction<E1, E2, E> mapper, ForkJoinPool pool
+  ) throws E {
+    return new ConcurrentMapping<>(source, mapper).runOnPool(pool);
+  }
+
+  private List<E2> runOnThreads(int maxConcurrency, ThreadFactory threadFactory) throws E {
+    int workerCount = Math.min(maxConcurrency, elements.length);
+    var nextIndex = new AtomicInteger();
+    Runnable worker = () -> {
+      int index;
+      while (!cancelled && (index = nextIndex.getAndIncrement()) < elements.length) {
+        map(index);
+      }
+    };
+
+    var threads = new Thread[workerCount];
+    for (int i = 0; i < workerCount; i++) {
+      threads[i] = threadFactory.newThread(worker);
+    }
+    this.threads = threads;
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    try {
+      for (Thread thread : threads) {
+        thread.join();
+      }
+    } catch (InterruptedException e) {
+      cancel();
+      Thread.currentThread().interrupt();
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Interrupted while waiting for mapping results");
+    }
+    return result();
+  }
+
+  private List<E2> runOnPool(ForkJoinPool pool) throws E {
+    int threshold = Math.max(1, elements.length / (pool.getParallelism() * TASKS_PER_THREAD));
+    try {
+      pool.invoke(new MappingTask(0, elements.length, threshold));
+    } catch (RuntimeException | Error e) {
+      if (failure.get() == null) {
+        throw e;
+      }
+    }
+    return result();
+  }
+
+  @SuppressWarnings("unchecked")
+  private void map(int index) {
+    try {
+      results[index] = mapper.applyThrows((E1) elements[index]);
+    } catch (Throwable e) {
+      if (failure.compareAndSet(null, e)) {
+        cancel();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<E2> result() throws E {
+    Throwable e = failure.get();
+    if (e != null) {
+      if (e instanceof Error) {
+        throw (Error) e;
+      }
+      throw ExceptionFunctions.sneakyThrow((Exception) e);
+    }
+    return new ArrayList<>((List<E2>) Arrays.asList(results));
+  }
+
+  /**
+   * Stops taking new elements and interrupts own worker threads blocked in the mapper calls.
+   * <p>
+   * Fork/join pool threads are not interrupted because the pool can be shared.
+   */
+  private void cancel() {
+    cancelled = true;
+    Thread[] threads = this.threads;
+    if (threads != null) {
+      Thread currentThread = Thread.currentThread();
+      for (Thread thread : threads) {
+        if (thread != currentThread) {
+          thread.interrupt();
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("serial")
+  private final class MappingTask extends RecursiveAction {
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    MappingTask(int from, int to, int threshold) {
+      this.from = from;
+      this.to = to;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= threshold) {
+        for (int index = from; index < to && !cancelled; index++) {
+          map(index);
+        }
+        return;
+      }
+      int middle = (from + to) >>> 1;
+      invokeAll(new MappingTask(from, middle, threshold), new MappingTask(middle, to, threshold));
+    }
+  }
+}
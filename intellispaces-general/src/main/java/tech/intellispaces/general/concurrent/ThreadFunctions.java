@@ -0,0 +1,39 @@
+package tech.intellispaces.general.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Thread related functions.
+ */
+public interface ThreadFunctions {
+
+  /**
+   * Checks that virtual threads are supported by the current runtime.
+   */
+  static boolean isVirtualThreadsSupported() {
+    return VirtualThreads.isSupported();
+  }
+
+  /**
+   * Returns factory of the virtual threads.
+   * <p>
+   * If virtual threads are not supported by the current runtime, returns factory of the daemon platform threads.
+   *
+   * @return the thread factory.
+   */
+  static ThreadFactory virtualThreadFactory() {
+    return VirtualThreads.factory();
+  }
+
+  /**
+   * Creates executor that starts new virtual thread for each task.
+   * <p>
+   * If virtual threads are not supported by the current runtime, daemon platform threads are used.
+   *
+   * @return the executor.
+   */
+  static ExecutorService newVirtualThreadPerTaskExecutor() {
+    return VirtualThreads.newThreadPerTaskExecutor();
+  }
+}
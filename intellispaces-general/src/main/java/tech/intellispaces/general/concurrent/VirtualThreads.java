@@ -0,0 +1,77 @@
+package tech.intellispaces.general.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Access to the virtual threads.
+ * <p>
+ * Virtual threads API is resolved reflectively, so the library can run on the runtime without virtual threads.
+ * In this case daemon platform threads are used instead.
+ */
+final class VirtualThreads {
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY;
+  private static final MethodHandle NEW_THREAD_PER_TASK_EXECUTOR;
+  private static final ThreadFactory PLATFORM_THREAD_FACTORY = new PlatformThreadFactory();
+
+  static {
+    ThreadFactory factory = null;
+    MethodHandle newThreadPerTaskExecutor = null;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Object builder = lookup.findStatic(
+          Thread.class, "ofVirtual", MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual"))
+      ).invoke();
+      factory = (ThreadFactory) lookup.findVirtual(
+          builderClass, "factory", MethodType.methodType(ThreadFactory.class)
+      ).invoke(builder);
+      newThreadPerTaskExecutor = lookup.findStatic(
+          Executors.class, "newThreadPerTaskExecutor", MethodType.methodType(ExecutorService.class, ThreadFactory.class)
+      );
+    } catch (Throwable e) {
+      // Virtual threads are not available
+      factory = null;
+      newThreadPerTaskExecutor = null;
+    }
+    VIRTUAL_THREAD_FACTORY = factory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  private VirtualThreads() {}
+
+  static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  static ThreadFactory factory() {
+    return VIRTUAL_THREAD_FACTORY != null ? VIRTUAL_THREAD_FACTORY : PLATFORM_THREAD_FACTORY;
+  }
+
+  static ExecutorService newThreadPerTaskExecutor() {
+    if (NEW_THREAD_PER_TASK_EXECUTOR != null) {
+      try {
+        return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(VIRTUAL_THREAD_FACTORY);
+      } catch (Throwable e) {
+        // Fall back to platform threads
+      }
+    }
+    return Executors.newCachedThreadPool(PLATFORM_THREAD_FACTORY);
+  }
+
+  private static final class PlatformThreadFactory implements ThreadFactory {
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      var thread = new Thread(runnable, "intellispaces-worker-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
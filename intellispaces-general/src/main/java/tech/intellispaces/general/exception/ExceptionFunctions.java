@@ -12,4 +12,20 @@ public interface ExceptionFunctions {
       return new WrappedException(e);
     }
   }
+
+  /**
+   * Rethrows the exception as is, without wrapping it.
+   * <p>
+   * The checked exception is propagated through code that does not declare it, because generic exception type is
+   * erased at runtime. The method never returns normally, return type allows using it in a throw statement.
+   *
+   * @param e the exception to rethrow.
+   * @return never returns.
+   * @param <E> the exception type seen by the compiler.
+   * @throws E always.
+   */
+  @SuppressWarnings("unchecked")
+  static <E extends Exception> RuntimeException sneakyThrow(Exception e) throws E {
+    throw (E) e;
+  }
 }
@@ -0,0 +1,42 @@
+package tech.intellispaces.general.function;
+
+import java.util.function.Consumer;
+
+/**
+ * Consumer that buffers values and consumes them on the background thread.
+ * <p>
+ * Exceptions and errors thrown by the original consumer are logged and counted, they are not propagated to the
+ * callers. The <code>null</code> values are not accepted.
+ *
+ * @param <T> the consumer input type.
+ */
+public interface AsyncConsumer<T> extends Consumer<T>, AutoCloseable {
+
+  /**
+   * Returns number of the buffered values waiting for consumption.
+   */
+  int queueDepth();
+
+  /**
+   * Returns number of the values dropped because buffer was full.
+   */
+  long droppedCount();
+
+  /**
+   * Returns number of the values consumed on the caller thread because buffer was full.
+   */
+  long callerRunsCount();
+
+  /**
+   * Returns number of the values which consumption failed.
+   */
+  long failureCount();
+
+  /**
+   * Consumes buffered values and stops the background thread.
+   * <p>
+   * Values accepted after closing are rejected.
+   */
+  @Override
+  void close();
+}
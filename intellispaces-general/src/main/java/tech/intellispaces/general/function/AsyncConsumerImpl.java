@@ -0,0 +1,178 @@
+package tech.intellispaces.general.function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous consumer backed by the bounded ring buffer.
+ * <p>
+ * Producers never take locks. The drain thread parks when buffer is empty and is unparked by the producer that
+ * observes it sleeping. Producers are counted while they check closing and offer the value, so the final drain after
+ * closing waits for them and does not miss their values.
+ */
+class AsyncConsumerImpl<T, E extends Exception> implements AsyncConsumer<T> {
+  private static final Logger LOG = LoggerFactory.getLogger(AsyncConsumerImpl.class);
+  private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final ThrowingConsumer<T, E> consumer;
+  private final BackpressurePolicy backpressurePolicy;
+  private final int drainBatchSize;
+  private final MpscRingBuffer<T> buffer;
+  private final Thread drainThread;
+
+  private final LongAdder droppedCount = new LongAdder();
+  private final LongAdder callerRunsCount = new LongAdder();
+  private final LongAdder failureCount = new LongAdder();
+  private final AtomicInteger activeProducers = new AtomicInteger();
+
+  private volatile boolean sleeping;
+  private volatile boolean closed;
+
+  AsyncConsumerImpl(ThrowingConsumer<T, E> consumer, AsyncConsumerSettings settings) {
+    this.consumer = consumer;
+    this.backpressurePolicy = settings.backpressurePolicy();
+    this.drainBatchSize = settings.drainBatchSize();
+    this.buffer = new MpscRingBuffer<>(settings.capacity());
+    this.drainThread = settings.threadFactory().newThread(this::drain);
+    this.drainThread.start();
+  }
+
+  @Override
+  public void accept(T value) {
+    Objects.requireNonNull(value, "Asynchronous consumer does not accept null values");
+    boolean callerRuns = false;
+    activeProducers.incrementAndGet();
+    try {
+      if (closed) {
+        throw UnexpectedExceptions.withMessage("Asynchronous consumer is closed");
+      }
+      if (!buffer.offer(value)) {
+        switch (backpressurePolicy) {
+          case DROP:
+            droppedCount.increment();
+            return;
+          case CALLER_RUNS:
+            callerRuns = true;
+            break;
+          default:
+            offerBlocking(value);
+        }
+      }
+    } finally {
+      activeProducers.decrementAndGet();
+    }
+    if (callerRuns) {
+      callerRunsCount.increment();
+      consume(value);
+      return;
+    }
+    if (sleeping) {
+      LockSupport.unpark(drainThread);
+    }
+  }
+
+  @Override
+  public int queueDepth() {
+    return buffer.size();
+  }
+
+  @Override
+  public long droppedCount() {
+    return droppedCount.sum();
+  }
+
+  @Override
+  public long callerRunsCount() {
+    return callerRunsCount.sum();
+  }
+
+  @Override
+  public long failureCount() {
+    return failureCount.sum();
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    LockSupport.unpark(drainThread);
+    try {
+      drainThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Interrupted while closing asynchronous consumer");
+    }
+  }
+
+  private void offerBlocking(T value) {
+    long backoffNanos = 1_000;
+    while (!buffer.offer(value)) {
+      if (closed) {
+        throw UnexpectedExceptions.withMessage("Asynchronous consumer is closed");
+      }
+      if (sleeping) {
+        LockSupport.unpark(drainThread);
+      }
+      LockSupport.parkNanos(this, backoffNanos);
+      if (Thread.interrupted()) {
+        Thread.currentThread().interrupt();
+        throw UnexpectedExceptions.withMessage("Interrupted while waiting for asynchronous consumer buffer");
+      }
+      backoffNanos = Math.min(backoffNanos * 2, MAX_BACKOFF_NANOS);
+    }
+  }
+
+  private void drain() {
+    while (true) {
+      int consumed = drainBatch();
+      if (consumed > 0) {
+        continue;
+      }
+      if (closed) {
+        // Values offered concurrently with closing
+        while (activeProducers.get() > 0) {
+          Thread.onSpinWait();
+        }
+        while (drainBatch() > 0) {
+          // Continue until buffer is empty
+        }
+        return;
+      }
+      sleeping = true;
+      if (buffer.isEmpty() && !closed) {
+        LockSupport.parkNanos(this, MAX_PARK_NANOS);
+      }
+      sleeping = false;
+    }
+  }
+
+  private int drainBatch() {
+    int count = 0;
+    T value;
+    while (count < drainBatchSize && (value = buffer.poll()) != null) {
+      consume(value);
+      count++;
+    }
+    return count;
+  }
+
+  private void consume(T value) {
+    try {
+      consumer.acceptThrows(value);
+    } catch (Throwable e) {
+      // Errors are not propagated too, otherwise they would stop the drain thread
+      failureCount.increment();
+      LOG.error("Asynchronous consumer failed", e);
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.concurrent.ThreadFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Asynchronous consumer settings.
+ * <p>
+ * Settings are immutable, each modifying method returns new settings.
+ */
+public final class AsyncConsumerSettings {
+  private static final AsyncConsumerSettings DEFAULT = new AsyncConsumerSettings(
+      1024, BackpressurePolicy.BLOCK, 64, null
+  );
+
+  private final int capacity;
+  private final BackpressurePolicy backpressurePolicy;
+  private final int drainBatchSize;
+  private final ThreadFactory threadFactory;
+
+  private AsyncConsumerSettings(
+      int capacity, BackpressurePolicy backpressurePolicy, int drainBatchSize, ThreadFactory threadFactory
+  ) {
+    this.capacity = capacity;
+    this.backpressurePolicy = backpressurePolicy;
+    this.drainBatchSize = drainBatchSize;
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * Returns default settings: capacity 1024, blocking backpressure and virtual drain thread.
+   */
+  public static AsyncConsumerSettings defaults() {
+    return DEFAULT;
+  }
+
+  /**
+   * Sets buffer capacity. Capacity is rounded up to the power of two.
+   *
+   * @param capacity the buffer capacity.
+   * @return new settings.
+   */
+  public AsyncConsumerSettings capacity(int capacity) {
+    if (capacity <= 0 || capacity > (1 << 30)) {
+      throw UnexpectedExceptions.withMessage("Capacity should be positive number not greater than 2^30. "
+          + "Actual value: {0}", capacity);
+    }
+    return new AsyncConsumerSettings(capacity, backpressurePolicy, drainBatchSize, threadFactory);
+  }
+
+  /**
+   * Sets behaviour when buffer is full.
+   *
+   * @param backpressurePolicy the backpressure policy.
+   * @return new settings.
+   */
+  public AsyncConsumerSettings backpressure(BackpressurePolicy backpressurePolicy) {
+    Objects.requireNonNull(backpressurePolicy);
+    return new AsyncConsumerSettings(capacity, backpressurePolicy, drainBatchSize, threadFactory);
+  }
+
+  /**
+   * Sets the maximum number of values consumed by the background thread in one drain pass.
+   *
+   * @param drainBatchSize the drain batch size.
+   * @return new settings.
+   */
+  public AsyncConsumerSettings drainBatchSize(int drainBatchSize) {
+    if (drainBatchSize <= 0) {
+      throw UnexpectedExceptions.withMessage("Drain batch size should be positive number. Actual value: {0}",
+          drainBatchSize);
+    }
+    return new AsyncConsumerSettings(capacity, backpressurePolicy, drainBatchSize, threadFactory);
+  }
+
+  /**
+   * Sets factory of the background thread. By default, virtual thread is used.
+   *
+   * @param threadFactory the thread factory.
+   * @return new settings.
+   */
+  public AsyncConsumerSettings threadFactory(ThreadFactory threadFactory) {
+    Objects.requireNonNull(threadFactory);
+    return new AsyncConsumerSettings(capacity, backpressurePolicy, drainBatchSize, threadFactory);
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  BackpressurePolicy backpressurePolicy() {
+    return backpressurePolicy;
+  }
+
+  int drainBatchSize() {
+    return drainBatchSize;
+  }
+
+  ThreadFactory threadFactory() {
+    return threadFactory != null ? threadFactory : ThreadFunctions.virtualThreadFactory();
+  }
+}
@@ -0,0 +1,22 @@
+package tech.intellispaces.general.function;
+
+/**
+ * Behaviour of the asynchronous consumer when its buffer is full.
+ */
+public enum BackpressurePolicy {
+
+  /**
+   * The caller waits until buffer has free space.
+   */
+  BLOCK,
+
+  /**
+   * The value is dropped.
+   */
+  DROP,
+
+  /**
+   * The value is consumed on the caller thread.
+   */
+  CALLER_RUNS
+}
@@ -0,0 +1,44 @@
+package tech.intellispaces.general.function;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Function that coalesces concurrent single argument calls into calls of the batch function.
+ * <p>
+ * The batch is flushed when it reaches the maximum size or when the time window since the first pending argument
+ * expires. Results and failures of the batch function are fanned out to the callers.
+ *
+ * @param <T> the function argument type.
+ * @param <R> the function result type.
+ * @param <E> the exception type.
+ */
+public interface Batcher<T, R, E extends Exception> extends ThrowingFunction<T, R, E> {
+
+  /**
+   * Adds argument to the current batch and waits for the result.
+   *
+   * @param arg the function argument.
+   * @return the function result.
+   * @throws E the exception thrown by the batch function.
+   */
+  @Override
+  R applyThrows(T arg) throws E;
+
+  /**
+   * Adds argument to the current batch.
+   *
+   * @param arg the function argument.
+   * @return the future of the function result.
+   */
+  CompletableFuture<R> applyAsync(T arg);
+
+  /**
+   * Flushes pending arguments without waiting for the batch size or the time window.
+   */
+  void flush();
+
+  /**
+   * Returns number of the pending arguments.
+   */
+  int pendingCount();
+}
@@ -0,0 +1,172 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.concurrent.ThreadFunctions;
+import tech.intellispaces.general.exception.ExceptionFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free batcher.
+ * <p>
+ * Pending calls are kept in the concurrent queue. The caller that fills the batch triggers the flush, the first
+ * caller of the time window schedules the timer flush. Batch function is invoked by the executor, not by the callers
+ * or the timer thread.
+ */
+class BatcherImpl<T, R, E extends Exception> implements Batcher<T, R, E> {
+  static final Executor VIRTUAL_THREAD_EXECUTOR = runnable -> ThreadFunctions.virtualThreadFactory()
+      .newThread(runnable)
+      .start();
+
+  private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+    var thread = new Thread(runnable, "intellispaces-batcher-timer");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final ThrowingFunction<List<T>, List<R>, E> batchFunction;
+  private final int maxBatchSize;
+  private final long maxDelayNanos;
+  private final Executor executor;
+
+  private final ConcurrentLinkedQueue<PendingCall<T, R>> queue = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger pendingCount = new AtomicInteger();
+  private final AtomicBoolean timerScheduled = new AtomicBoolean();
+
+  BatcherImpl(
+      ThrowingFunction<List<T>, List<R>, E> batchFunction, int maxBatchSize, Duration maxDelay, Executor executor
+  ) {
+    if (maxBatchSize < 1) {
+      throw UnexpectedExceptions.withMessage("Max batch size should be positive number. Actual value: {0}",
+          maxBatchSize);
+    }
+    this.batchFunction = Objects.requireNonNull(batchFunction);
+    this.maxBatchSize = maxBatchSize;
+    this.maxDelayNanos = maxDelay.toNanos();
+    this.executor = Objects.requireNonNull(executor);
+  }
+
+  @Override
+  public R applyThrows(T arg) throws E {
+    CompletableFuture<R> future = applyAsync(arg);
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw ExceptionFunctions.sneakyThrow((Exception) cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Interrupted while waiting for batch result");
+    }
+  }
+
+  @Override
+  public CompletableFuture<R> applyAsync(T arg) {
+    var call = new PendingCall<T, R>(arg);
+    queue.add(call);
+    int count = pendingCount.incrementAndGet();
+    if (count == maxBatchSize) {
+      executor.execute(this::flushFullBatches);
+    } else if (timerScheduled.compareAndSet(false, true)) {
+      TIMER.schedule(this::onTimer, maxDelayNanos, TimeUnit.NANOSECONDS);
+    }
+    return call.future;
+  }
+
+  @Override
+  public void flush() {
+    executor.execute(this::flushAll);
+  }
+
+  @Override
+  public int pendingCount() {
+    return pendingCount.get();
+  }
+
+  private void onTimer() {
+    timerScheduled.set(false);
+    if (pendingCount.get() > 0) {
+      executor.execute(this::flushAll);
+    }
+  }
+
+  private void flushFullBatches() {
+    while (pendingCount.get() >= maxBatchSize) {
+      if (!flushBatch()) {
+        return;
+      }
+    }
+  }
+
+  private void flushAll() {
+    while (flushBatch()) {
+      // Continue until queue is empty
+    }
+  }
+
+  /**
+   * Takes up to the maximum batch size of the pending calls and invokes the batch function.
+   *
+   * @return {@code true} if any pending call was taken.
+   */
+  private boolean flushBatch() {
+    var calls = new ArrayList<PendingCall<T, R>>(Math.min(maxBatchSize, Math.max(pendingCount.get(), 1)));
+    PendingCall<T, R> call;
+    while (calls.size() < maxBatchSize && (call = queue.poll()) != null) {
+      calls.add(call);
+    }
+    if (calls.isEmpty()) {
+      return false;
+    }
+    pendingCount.addAndGet(-calls.size());
+    invoke(calls);
+    return true;
+  }
+
+  private void invoke(List<PendingCall<T, R>> calls) {
+    var args = new ArrayList<T>(calls.size());
+    for (PendingCall<T, R> call : calls) {
+      args.add(call.arg);
+    }
+    List<R> results;
+    try {
+      results = batchFunction.applyThrows(args);
+    } catch (Throwable e) {
+      calls.forEach(c -> c.future.completeExceptionally(e));
+      return;
+    }
+    if (results == null || results.size() != calls.size()) {
+      var e = UnexpectedExceptions.withMessage("Batch function returned {0} results for {1} arguments",
+          results == null ? null : results.size(), calls.size());
+      calls.forEach(c -> c.future.completeExceptionally(e));
+      return;
+    }
+    for (int i = 0; i < calls.size(); i++) {
+      calls.get(i).future.complete(results.get(i));
+    }
+  }
+
+  private static final class PendingCall<T, R> {
+    final T arg;
+    final CompletableFuture<R> future = new CompletableFuture<>();
+
+    PendingCall(T arg) {
+      this.arg = arg;
+    }
+  }
+}
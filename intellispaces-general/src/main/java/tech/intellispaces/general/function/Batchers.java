@@ -0,0 +1,48 @@
+package tech.intellispaces.general.function;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Batcher provider.
+ */
+public interface Batchers {
+
+  /**
+   * Creates batcher which invokes the batch function on virtual threads.
+   * <p>
+   * If virtual threads are not supported by the runtime, daemon platform threads are used.
+   *
+   * @param batchFunction the batch function. Should return results in order of the arguments.
+   * @param maxBatchSize the maximum batch size.
+   * @param maxDelay the maximum delay of the first pending argument.
+   * @return the batcher.
+   * @param <T> the function argument type.
+   * @param <R> the function result type.
+   * @param <E> the exception type.
+   */
+  static <T, R, E extends Exception> Batcher<T, R, E> get(
+      ThrowingFunction<List<T>, List<R>, E> batchFunction, int maxBatchSize, Duration maxDelay
+  ) {
+    return get(batchFunction, maxBatchSize, maxDelay, BatcherImpl.VIRTUAL_THREAD_EXECUTOR);
+  }
+
+  /**
+   * Creates batcher which invokes the batch function by given executor.
+   *
+   * @param batchFunction the batch function. Should return results in order of the arguments.
+   * @param maxBatchSize the maximum batch size.
+   * @param maxDelay the maximum delay of the first pending argument.
+   * @param executor the executor of the batch function calls.
+   * @return the batcher.
+   * @param <T> the function argument type.
+   * @param <R> the function result type.
+   * @param <E> the exception type.
+   */
+  static <T, R, E extends Exception> Batcher<T, R, E> get(
+      ThrowingFunction<List<T>, List<R>, E> batchFunction, int maxBatchSize, Duration maxDelay, Executor executor
+  ) {
+    return new BatcherImpl<>(batchFunction, maxBatchSize, maxDelay, executor);
+  }
+}
@@ -0,0 +1,1230 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.function.primitive.ObjectAndDoubleToDoubleFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndDoubleToIntFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndDoubleToLongFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndDoubleToObjectFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndIntToDoubleFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndIntToIntFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndIntToLongFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndIntToObjectFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndLongToDoubleFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndLongToIntFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndLongToLongFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndLongToObjectFunction;
+import tech.intellispaces.general.function.primitive.ObjectToDoubleFunction;
+import tech.intellispaces.general.function.primitive.ObjectToIntFunction;
+import tech.intellispaces.general.function.primitive.ObjectToLongFunction;
+import tech.intellispaces.general.function.primitive.ThreeObjectsToDoubleFunction;
+import tech.intellispaces.general.function.primitive.ThreeObjectsToIntFunction;
+import tech.intellispaces.general.function.primitive.ThreeObjectsToLongFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndDoubleToDoubleFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndDoubleToIntFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndDoubleToLongFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndDoubleToObjectFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndIntToDoubleFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndIntToIntFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndIntToLongFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndIntToObjectFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndLongToDoubleFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndLongToIntFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndLongToLongFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndLongToObjectFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsToDoubleFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsToIntFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsToLongFunction;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongFunction;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Partial application of the multi-arity functions.
+ * <p>
+ * Bound functions are small final classes holding the bound arguments, so invocation of the bound function is
+ * single direct call of the original function.
+ * <p>
+ * Bindings of the primitive specializations have names reflecting the primitive argument and result types, like
+ * {@code bind1IntToLong}. Overloaded methods differ by arity of the function, so lambda expressions can be passed
+ * directly.
+ */
+public final class Bindings {
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, T3, R> BiFunction<T2, T3, R> bind1(TriFunction<T1, T2, T3, R> function, T1 arg1) {
+    return new BoundTriFunction1<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first two arguments of the function.
+   */
+  public static <T1, T2, T3, R> Function<T3, R> bind2(TriFunction<T1, T2, T3, R> function, T1 arg1, T2 arg2) {
+    return new BoundTriFunction2<>(Objects.requireNonNull(function), arg1, arg2);
+  }
+
+  /**
+   * Returns function that binds first argument of the function.
+   */
+  public static <T1, T2, T3, R> Function<T1, BiFunction<T2, T3, R>> curry(TriFunction<T1, T2, T3, R> function) {
+    return new CurriedTriFunction<>(Objects.requireNonNull(function));
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, T3, T4, R> TriFunction<T2, T3, T4, R> bind1(
+      QuadriFunction<T1, T2, T3, T4, R> function, T1 arg1
+  ) {
+    return new BoundQuadriFunction1<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first two arguments of the function.
+   */
+  public static <T1, T2, T3, T4, R> BiFunction<T3, T4, R> bind2(
+      QuadriFunction<T1, T2, T3, T4, R> function, T1 arg1, T2 arg2
+  ) {
+    return new BoundQuadriFunction2<>(Objects.requireNonNull(function), arg1, arg2);
+  }
+
+  /**
+   * Binds first three arguments of the function.
+   */
+  public static <T1, T2, T3, T4, R> Function<T4, R> bind3(
+      QuadriFunction<T1, T2, T3, T4, R> function, T1 arg1, T2 arg2, T3 arg3
+  ) {
+    return new BoundQuadriFunction3<>(Objects.requireNonNull(function), arg1, arg2, arg3);
+  }
+
+  /**
+   * Returns function that binds first argument of the function.
+   */
+  public static <T1, T2, T3, T4, R> Function<T1, TriFunction<T2, T3, T4, R>> curry(
+      QuadriFunction<T1, T2, T3, T4, R> function
+  ) {
+    return new CurriedQuadriFunction<>(Objects.requireNonNull(function));
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, T3, T4, T5, R> QuadriFunction<T2, T3, T4, T5, R> bind1(
+      QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1
+  ) {
+    return new BoundQuintiFunction1<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first two arguments of the function.
+   */
+  public static <T1, T2, T3, T4, T5, R> TriFunction<T3, T4, T5, R> bind2(
+      QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1, T2 arg2
+  ) {
+    return new BoundQuintiFunction2<>(Objects.requireNonNull(function), arg1, arg2);
+  }
+
+  /**
+   * Binds first three arguments of the function.
+   */
+  public static <T1, T2, T3, T4, T5, R> BiFunction<T4, T5, R> bind3(
+      QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1, T2 arg2, T3 arg3
+  ) {
+    return new BoundQuintiFunction3<>(Objects.requireNonNull(function), arg1, arg2, arg3);
+  }
+
+  /**
+   * Binds first four arguments of the function.
+   */
+  public static <T1, T2, T3, T4, T5, R> Function<T5, R> bind4(
+      QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1, T2 arg2, T3 arg3, T4 arg4
+  ) {
+    return new BoundQuintiFunction4<>(Objects.requireNonNull(function), arg1, arg2, arg3, arg4);
+  }
+
+  /**
+   * Returns function that binds first argument of the function.
+   */
+  public static <T1, T2, T3, T4, T5, R> Function<T1, QuadriFunction<T2, T3, T4, T5, R>> curry(
+      QuintiFunction<T1, T2, T3, T4, T5, R> function
+  ) {
+    return new CurriedQuintiFunction<>(Objects.requireNonNull(function));
+  }
+
+  /**
+   * Binds first argument of the consumer.
+   */
+  public static <T1, T2, T3, T4, T5, T6> QuintiConsumer<T2, T3, T4, T5, T6> bind1(
+      SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1
+  ) {
+    return new BoundSexiConsumer1<>(Objects.requireNonNull(consumer), arg1);
+  }
+
+  /**
+   * Binds first two arguments of the consumer.
+   */
+  public static <T1, T2, T3, T4, T5, T6> QuadriConsumer<T3, T4, T5, T6> bind2(
+      SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2
+  ) {
+    return new BoundSexiConsumer2<>(Objects.requireNonNull(consumer), arg1, arg2);
+  }
+
+  /**
+   * Binds first three arguments of the consumer.
+   */
+  public static <T1, T2, T3, T4, T5, T6> TriConsumer<T4, T5, T6> bind3(
+      SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2, T3 arg3
+  ) {
+    return new BoundSexiConsumer3<>(Objects.requireNonNull(consumer), arg1, arg2, arg3);
+  }
+
+  /**
+   * Binds first four arguments of the consumer.
+   */
+  public static <T1, T2, T3, T4, T5, T6> BiConsumer<T5, T6> bind4(
+      SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2, T3 arg3, T4 arg4
+  ) {
+    return new BoundSexiConsumer4<>(Objects.requireNonNull(consumer), arg1, arg2, arg3, arg4);
+  }
+
+  /**
+   * Binds first five arguments of the consumer.
+   */
+  public static <T1, T2, T3, T4, T5, T6> Consumer<T6> bind5(
+      SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2, T3 arg3, T4 arg4, T5 arg5
+  ) {
+    return new BoundSexiConsumer5<>(Objects.requireNonNull(consumer), arg1, arg2, arg3, arg4, arg5);
+  }
+
+  /**
+   * Returns function that binds first argument of the consumer.
+   */
+  public static <T1, T2, T3, T4, T5, T6> Function<T1, QuintiConsumer<T2, T3, T4, T5, T6>> curry(
+      SexiConsumer<T1, T2, T3, T4, T5, T6> consumer
+  ) {
+    return new CurriedSexiConsumer<>(Objects.requireNonNull(consumer));
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectToIntFunction<T2> bind1ToInt(TwoObjectsToIntFunction<T1, T2> function, T1 arg1) {
+    return new BoundTwoObjectsToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectToLongFunction<T2> bind1ToLong(TwoObjectsToLongFunction<T1, T2> function, T1 arg1) {
+    return new BoundTwoObjectsToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectToDoubleFunction<T2> bind1ToDouble(
+      TwoObjectsToDoubleFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, T3> TwoObjectsToIntFunction<T2, T3> bind1ToInt(
+      ThreeObjectsToIntFunction<T1, T2, T3> function, T1 arg1
+  ) {
+    return new BoundThreeObjectsToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, T3> TwoObjectsToLongFunction<T2, T3> bind1ToLong(
+      ThreeObjectsToLongFunction<T1, T2, T3> function, T1 arg1
+  ) {
+    return new BoundThreeObjectsToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, T3> TwoObjectsToDoubleFunction<T2, T3> bind1ToDouble(
+      ThreeObjectsToDoubleFunction<T1, T2, T3> function, T1 arg1
+  ) {
+    return new BoundThreeObjectsToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, R> ObjectAndIntToObjectFunction<T2, R> bind1IntToObject(
+      TwoObjectsAndIntToObjectFunction<T1, T2, R> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndIntToObjectFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndIntToIntFunction<T2> bind1IntToInt(
+      TwoObjectsAndIntToIntFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndIntToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndIntToLongFunction<T2> bind1IntToLong(
+      TwoObjectsAndIntToLongFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndIntToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndIntToDoubleFunction<T2> bind1IntToDouble(
+      TwoObjectsAndIntToDoubleFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndIntToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, R> ObjectAndLongToObjectFunction<T2, R> bind1LongToObject(
+      TwoObjectsAndLongToObjectFunction<T1, T2, R> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndLongToObjectFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndLongToIntFunction<T2> bind1LongToInt(
+      TwoObjectsAndLongToIntFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndLongToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndLongToLongFunction<T2> bind1LongToLong(
+      TwoObjectsAndLongToLongFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndLongToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndLongToDoubleFunction<T2> bind1LongToDouble(
+      TwoObjectsAndLongToDoubleFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndLongToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2, R> ObjectAndDoubleToObjectFunction<T2, R> bind1DoubleToObject(
+      TwoObjectsAndDoubleToObjectFunction<T1, T2, R> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndDoubleToObjectFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndDoubleToIntFunction<T2> bind1DoubleToInt(
+      TwoObjectsAndDoubleToIntFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndDoubleToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndDoubleToLongFunction<T2> bind1DoubleToLong(
+      TwoObjectsAndDoubleToLongFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndDoubleToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, T2> ObjectAndDoubleToDoubleFunction<T2> bind1DoubleToDouble(
+      TwoObjectsAndDoubleToDoubleFunction<T1, T2> function, T1 arg1
+  ) {
+    return new BoundTwoObjectsAndDoubleToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, R> IntFunction<R> bind1IntToObject(ObjectAndIntToObjectFunction<T1, R> function, T1 arg1) {
+    return new BoundObjectAndIntToObjectFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> IntUnaryOperator bind1IntToInt(ObjectAndIntToIntFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndIntToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> IntToLongFunction bind1IntToLong(ObjectAndIntToLongFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndIntToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> IntToDoubleFunction bind1IntToDouble(ObjectAndIntToDoubleFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndIntToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, R> LongFunction<R> bind1LongToObject(ObjectAndLongToObjectFunction<T1, R> function, T1 arg1) {
+    return new BoundObjectAndLongToObjectFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> LongToIntFunction bind1LongToInt(ObjectAndLongToIntFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndLongToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> LongUnaryOperator bind1LongToLong(ObjectAndLongToLongFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndLongToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> LongToDoubleFunction bind1LongToDouble(ObjectAndLongToDoubleFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndLongToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1, R> DoubleFunction<R> bind1DoubleToObject(
+      ObjectAndDoubleToObjectFunction<T1, R> function, T1 arg1
+  ) {
+    return new BoundObjectAndDoubleToObjectFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> DoubleToIntFunction bind1DoubleToInt(ObjectAndDoubleToIntFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndDoubleToIntFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> DoubleToLongFunction bind1DoubleToLong(ObjectAndDoubleToLongFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndDoubleToLongFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  /**
+   * Binds first argument of the function.
+   */
+  public static <T1> DoubleUnaryOperator bind1DoubleToDouble(ObjectAndDoubleToDoubleFunction<T1> function, T1 arg1) {
+    return new BoundObjectAndDoubleToDoubleFunction<>(Objects.requireNonNull(function), arg1);
+  }
+
+  private Bindings() {}
+
+  private static final class BoundTriFunction1<T1, T2, T3, R> implements BiFunction<T2, T3, R> {
+    private final TriFunction<T1, T2, T3, R> function;
+    private final T1 arg1;
+
+    BoundTriFunction1(TriFunction<T1, T2, T3, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(T2 arg2, T3 arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTriFunction2<T1, T2, T3, R> implements Function<T3, R> {
+    private final TriFunction<T1, T2, T3, R> function;
+    private final T1 arg1;
+    private final T2 arg2;
+
+    BoundTriFunction2(TriFunction<T1, T2, T3, R> function, T1 arg1, T2 arg2) {
+      this.function = function;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+    }
+
+    @Override
+    public R apply(T3 arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class CurriedTriFunction<T1, T2, T3, R> implements Function<T1, BiFunction<T2, T3, R>> {
+    private final TriFunction<T1, T2, T3, R> function;
+
+    CurriedTriFunction(TriFunction<T1, T2, T3, R> function) {
+      this.function = function;
+    }
+
+    @Override
+    public BiFunction<T2, T3, R> apply(T1 arg1) {
+      return new BoundTriFunction1<>(function, arg1);
+    }
+  }
+
+  private static final class BoundQuadriFunction1<T1, T2, T3, T4, R> implements TriFunction<T2, T3, T4, R> {
+    private final QuadriFunction<T1, T2, T3, T4, R> function;
+    private final T1 arg1;
+
+    BoundQuadriFunction1(QuadriFunction<T1, T2, T3, T4, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(T2 arg2, T3 arg3, T4 arg4) {
+      return function.apply(arg1, arg2, arg3, arg4);
+    }
+  }
+
+  private static final class BoundQuadriFunction2<T1, T2, T3, T4, R> implements BiFunction<T3, T4, R> {
+    private final QuadriFunction<T1, T2, T3, T4, R> function;
+    private final T1 arg1;
+    private final T2 arg2;
+
+    BoundQuadriFunction2(QuadriFunction<T1, T2, T3, T4, R> function, T1 arg1, T2 arg2) {
+      this.function = function;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+    }
+
+    @Override
+    public R apply(T3 arg3, T4 arg4) {
+      return function.apply(arg1, arg2, arg3, arg4);
+    }
+  }
+
+  private static final class BoundQuadriFunction3<T1, T2, T3, T4, R> implements Function<T4, R> {
+    private final QuadriFunction<T1, T2, T3, T4, R> function;
+    private final T1 arg1;
+    private final T2 arg2;
+    private final T3 arg3;
+
+    BoundQuadriFunction3(QuadriFunction<T1, T2, T3, T4, R> function, T1 arg1, T2 arg2, T3 arg3) {
+      this.function = function;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+      this.arg3 = arg3;
+    }
+
+    @Override
+    public R apply(T4 arg4) {
+      return function.apply(arg1, arg2, arg3, arg4);
+    }
+  }
+
+  private static final class CurriedQuadriFunction<T1, T2, T3, T4, R>
+      implements Function<T1, TriFunction<T2, T3, T4, R>> {
+    private final QuadriFunction<T1, T2, T3, T4, R> function;
+
+    CurriedQuadriFunction(QuadriFunction<T1, T2, T3, T4, R> function) {
+      this.function = function;
+    }
+
+    @Override
+    public TriFunction<T2, T3, T4, R> apply(T1 arg1) {
+      return new BoundQuadriFunction1<>(function, arg1);
+    }
+  }
+
+  private static final class BoundQuintiFunction1<T1, T2, T3, T4, T5, R> implements QuadriFunction<T2, T3, T4, T5, R> {
+    private final QuintiFunction<T1, T2, T3, T4, T5, R> function;
+    private final T1 arg1;
+
+    BoundQuintiFunction1(QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(T2 arg2, T3 arg3, T4 arg4, T5 arg5) {
+      return function.apply(arg1, arg2, arg3, arg4, arg5);
+    }
+  }
+
+  private static final class BoundQuintiFunction2<T1, T2, T3, T4, T5, R> implements TriFunction<T3, T4, T5, R> {
+    private final QuintiFunction<T1, T2, T3, T4, T5, R> function;
+    private final T1 arg1;
+    private final T2 arg2;
+
+    BoundQuintiFunction2(QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1, T2 arg2) {
+      this.function = function;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+    }
+
+    @Override
+    public R apply(T3 arg3, T4 arg4, T5 arg5) {
+      return function.apply(arg1, arg2, arg3, arg4, arg5);
+    }
+  }
+
+  private static final class BoundQuintiFunction3<T1, T2, T3, T4, T5, R> implements BiFunction<T4, T5, R> {
+    private final QuintiFunction<T1, T2, T3, T4, T5, R> function;
+    private final T1 arg1;
+    private final T2 arg2;
+    private final T3 arg3;
+
+    BoundQuintiFunction3(QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1, T2 arg2, T3 arg3) {
+      this.function = function;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+      this.arg3 = arg3;
+    }
+
+    @Override
+    public R apply(T4 arg4, T5 arg5) {
+      return function.apply(arg1, arg2, arg3, arg4, arg5);
+    }
+  }
+
+  private static final class BoundQuintiFunction4<T1, T2, T3, T4, T5, R> implements Function<T5, R> {
+    private final QuintiFunction<T1, T2, T3, T4, T5, R> function;
+    private final T1 arg1;
+    private final T2 arg2;
+    private final T3 arg3;
+    private final T4 arg4;
+
+    BoundQuintiFunction4(QuintiFunction<T1, T2, T3, T4, T5, R> function, T1 arg1, T2 arg2, T3 arg3, T4 arg4) {
+      this.function = function;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+      this.arg3 = arg3;
+      this.arg4 = arg4;
+    }
+
+    @Override
+    public R apply(T5 arg5) {
+      return function.apply(arg1, arg2, arg3, arg4, arg5);
+    }
+  }
+
+  private static final class CurriedQuintiFunction<T1, T2, T3, T4, T5, R>
+      implements Function<T1, QuadriFunction<T2, T3, T4, T5, R>> {
+    private final QuintiFunction<T1, T2, T3, T4, T5, R> function;
+
+    CurriedQuintiFunction(QuintiFunction<T1, T2, T3, T4, T5, R> function) {
+      this.function = function;
+    }
+
+    @Override
+    public QuadriFunction<T2, T3, T4, T5, R> apply(T1 arg1) {
+      return new BoundQuintiFunction1<>(function, arg1);
+    }
+  }
+
+  private static final class BoundSexiConsumer1<T1, T2, T3, T4, T5, T6> implements QuintiConsumer<T2, T3, T4, T5, T6> {
+    private final SexiConsumer<T1, T2, T3, T4, T5, T6> consumer;
+    private final T1 arg1;
+
+    BoundSexiConsumer1(SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1) {
+      this.consumer = consumer;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public void accept(T2 arg2, T3 arg3, T4 arg4, T5 arg5, T6 arg6) {
+      consumer.accept(arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+  }
+
+  private static final class BoundSexiConsumer2<T1, T2, T3, T4, T5, T6> implements QuadriConsumer<T3, T4, T5, T6> {
+    private final SexiConsumer<T1, T2, T3, T4, T5, T6> consumer;
+    private final T1 arg1;
+    private final T2 arg2;
+
+    BoundSexiConsumer2(SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2) {
+      this.consumer = consumer;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+    }
+
+    @Override
+    public void accept(T3 arg3, T4 arg4, T5 arg5, T6 arg6) {
+      consumer.accept(arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+  }
+
+  private static final class BoundSexiConsumer3<T1, T2, T3, T4, T5, T6> implements TriConsumer<T4, T5, T6> {
+    private final SexiConsumer<T1, T2, T3, T4, T5, T6> consumer;
+    private final T1 arg1;
+    private final T2 arg2;
+    private final T3 arg3;
+
+    BoundSexiConsumer3(SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2, T3 arg3) {
+      this.consumer = consumer;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+      this.arg3 = arg3;
+    }
+
+    @Override
+    public void accept(T4 arg4, T5 arg5, T6 arg6) {
+      consumer.accept(arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+  }
+
+  private static final class BoundSexiConsumer4<T1, T2, T3, T4, T5, T6> implements BiConsumer<T5, T6> {
+    private final SexiConsumer<T1, T2, T3, T4, T5, T6> consumer;
+    private final T1 arg1;
+    private final T2 arg2;
+    private final T3 arg3;
+    private final T4 arg4;
+
+    BoundSexiConsumer4(SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2, T3 arg3, T4 arg4) {
+      this.consumer = consumer;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+      this.arg3 = arg3;
+      this.arg4 = arg4;
+    }
+
+    @Override
+    public void accept(T5 arg5, T6 arg6) {
+      consumer.accept(arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+  }
+
+  private static final class BoundSexiConsumer5<T1, T2, T3, T4, T5, T6> implements Consumer<T6> {
+    private final SexiConsumer<T1, T2, T3, T4, T5, T6> consumer;
+    private final T1 arg1;
+    private final T2 arg2;
+    private final T3 arg3;
+    private final T4 arg4;
+    private final T5 arg5;
+
+    BoundSexiConsumer5(SexiConsumer<T1, T2, T3, T4, T5, T6> consumer, T1 arg1, T2 arg2, T3 arg3, T4 arg4, T5 arg5) {
+      this.consumer = consumer;
+      this.arg1 = arg1;
+      this.arg2 = arg2;
+      this.arg3 = arg3;
+      this.arg4 = arg4;
+      this.arg5 = arg5;
+    }
+
+    @Override
+    public void accept(T6 arg6) {
+      consumer.accept(arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+  }
+
+  private static final class CurriedSexiConsumer<T1, T2, T3, T4, T5, T6>
+      implements Function<T1, QuintiConsumer<T2, T3, T4, T5, T6>> {
+    private final SexiConsumer<T1, T2, T3, T4, T5, T6> consumer;
+
+    CurriedSexiConsumer(SexiConsumer<T1, T2, T3, T4, T5, T6> consumer) {
+      this.consumer = consumer;
+    }
+
+    @Override
+    public QuintiConsumer<T2, T3, T4, T5, T6> apply(T1 arg1) {
+      return new BoundSexiConsumer1<>(consumer, arg1);
+    }
+  }
+
+  private static final class BoundTwoObjectsToIntFunction<T1, T2> implements ObjectToIntFunction<T2> {
+    private final TwoObjectsToIntFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsToIntFunction(TwoObjectsToIntFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int applyAsInt(T2 arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundTwoObjectsToLongFunction<T1, T2> implements ObjectToLongFunction<T2> {
+    private final TwoObjectsToLongFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsToLongFunction(TwoObjectsToLongFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long applyAsLong(T2 arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundTwoObjectsToDoubleFunction<T1, T2> implements ObjectToDoubleFunction<T2> {
+    private final TwoObjectsToDoubleFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsToDoubleFunction(TwoObjectsToDoubleFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double applyAsDouble(T2 arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundThreeObjectsToIntFunction<T1, T2, T3> implements TwoObjectsToIntFunction<T2, T3> {
+    private final ThreeObjectsToIntFunction<T1, T2, T3> function;
+    private final T1 arg1;
+
+    BoundThreeObjectsToIntFunction(ThreeObjectsToIntFunction<T1, T2, T3> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int apply(T2 arg2, T3 arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundThreeObjectsToLongFunction<T1, T2, T3> implements TwoObjectsToLongFunction<T2, T3> {
+    private final ThreeObjectsToLongFunction<T1, T2, T3> function;
+    private final T1 arg1;
+
+    BoundThreeObjectsToLongFunction(ThreeObjectsToLongFunction<T1, T2, T3> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long apply(T2 arg2, T3 arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundThreeObjectsToDoubleFunction<T1, T2, T3>
+      implements TwoObjectsToDoubleFunction<T2, T3> {
+    private final ThreeObjectsToDoubleFunction<T1, T2, T3> function;
+    private final T1 arg1;
+
+    BoundThreeObjectsToDoubleFunction(ThreeObjectsToDoubleFunction<T1, T2, T3> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double apply(T2 arg2, T3 arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndIntToObjectFunction<T1, T2, R>
+      implements ObjectAndIntToObjectFunction<T2, R> {
+    private final TwoObjectsAndIntToObjectFunction<T1, T2, R> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndIntToObjectFunction(TwoObjectsAndIntToObjectFunction<T1, T2, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(T2 arg2, int arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndIntToIntFunction<T1, T2> implements ObjectAndIntToIntFunction<T2> {
+    private final TwoObjectsAndIntToIntFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndIntToIntFunction(TwoObjectsAndIntToIntFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int apply(T2 arg2, int arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndIntToLongFunction<T1, T2> implements ObjectAndIntToLongFunction<T2> {
+    private final TwoObjectsAndIntToLongFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndIntToLongFunction(TwoObjectsAndIntToLongFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long apply(T2 arg2, int arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndIntToDoubleFunction<T1, T2> implements ObjectAndIntToDoubleFunction<T2> {
+    private final TwoObjectsAndIntToDoubleFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndIntToDoubleFunction(TwoObjectsAndIntToDoubleFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double apply(T2 arg2, int arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndLongToObjectFunction<T1, T2, R>
+      implements ObjectAndLongToObjectFunction<T2, R> {
+    private final TwoObjectsAndLongToObjectFunction<T1, T2, R> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndLongToObjectFunction(TwoObjectsAndLongToObjectFunction<T1, T2, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(T2 arg2, long arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndLongToIntFunction<T1, T2> implements ObjectAndLongToIntFunction<T2> {
+    private final TwoObjectsAndLongToIntFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndLongToIntFunction(TwoObjectsAndLongToIntFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int apply(T2 arg2, long arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndLongToLongFunction<T1, T2> implements ObjectAndLongToLongFunction<T2> {
+    private final TwoObjectsAndLongToLongFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndLongToLongFunction(TwoObjectsAndLongToLongFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long apply(T2 arg2, long arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndLongToDoubleFunction<T1, T2>
+      implements ObjectAndLongToDoubleFunction<T2> {
+    private final TwoObjectsAndLongToDoubleFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndLongToDoubleFunction(TwoObjectsAndLongToDoubleFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double apply(T2 arg2, long arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndDoubleToObjectFunction<T1, T2, R>
+      implements ObjectAndDoubleToObjectFunction<T2, R> {
+    private final TwoObjectsAndDoubleToObjectFunction<T1, T2, R> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndDoubleToObjectFunction(TwoObjectsAndDoubleToObjectFunction<T1, T2, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(T2 arg2, double arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndDoubleToIntFunction<T1, T2> implements ObjectAndDoubleToIntFunction<T2> {
+    private final TwoObjectsAndDoubleToIntFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndDoubleToIntFunction(TwoObjectsAndDoubleToIntFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int apply(T2 arg2, double arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndDoubleToLongFunction<T1, T2>
+      implements ObjectAndDoubleToLongFunction<T2> {
+    private final TwoObjectsAndDoubleToLongFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndDoubleToLongFunction(TwoObjectsAndDoubleToLongFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long apply(T2 arg2, double arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundTwoObjectsAndDoubleToDoubleFunction<T1, T2>
+      implements ObjectAndDoubleToDoubleFunction<T2> {
+    private final TwoObjectsAndDoubleToDoubleFunction<T1, T2> function;
+    private final T1 arg1;
+
+    BoundTwoObjectsAndDoubleToDoubleFunction(TwoObjectsAndDoubleToDoubleFunction<T1, T2> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double apply(T2 arg2, double arg3) {
+      return function.apply(arg1, arg2, arg3);
+    }
+  }
+
+  private static final class BoundObjectAndIntToObjectFunction<T1, R> implements IntFunction<R> {
+    private final ObjectAndIntToObjectFunction<T1, R> function;
+    private final T1 arg1;
+
+    BoundObjectAndIntToObjectFunction(ObjectAndIntToObjectFunction<T1, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(int arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndIntToIntFunction<T1> implements IntUnaryOperator {
+    private final ObjectAndIntToIntFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndIntToIntFunction(ObjectAndIntToIntFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int applyAsInt(int arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndIntToLongFunction<T1> implements IntToLongFunction {
+    private final ObjectAndIntToLongFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndIntToLongFunction(ObjectAndIntToLongFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long applyAsLong(int arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndIntToDoubleFunction<T1> implements IntToDoubleFunction {
+    private final ObjectAndIntToDoubleFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndIntToDoubleFunction(ObjectAndIntToDoubleFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double applyAsDouble(int arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndLongToObjectFunction<T1, R> implements LongFunction<R> {
+    private final ObjectAndLongToObjectFunction<T1, R> function;
+    private final T1 arg1;
+
+    BoundObjectAndLongToObjectFunction(ObjectAndLongToObjectFunction<T1, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(long arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndLongToIntFunction<T1> implements LongToIntFunction {
+    private final ObjectAndLongToIntFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndLongToIntFunction(ObjectAndLongToIntFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int applyAsInt(long arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndLongToLongFunction<T1> implements LongUnaryOperator {
+    private final ObjectAndLongToLongFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndLongToLongFunction(ObjectAndLongToLongFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long applyAsLong(long arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndLongToDoubleFunction<T1> implements LongToDoubleFunction {
+    private final ObjectAndLongToDoubleFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndLongToDoubleFunction(ObjectAndLongToDoubleFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double applyAsDouble(long arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndDoubleToObjectFunction<T1, R> implements DoubleFunction<R> {
+    private final ObjectAndDoubleToObjectFunction<T1, R> function;
+    private final T1 arg1;
+
+    BoundObjectAndDoubleToObjectFunction(ObjectAndDoubleToObjectFunction<T1, R> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public R apply(double arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndDoubleToIntFunction<T1> implements DoubleToIntFunction {
+    private final ObjectAndDoubleToIntFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndDoubleToIntFunction(ObjectAndDoubleToIntFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public int applyAsInt(double arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndDoubleToLongFunction<T1> implements DoubleToLongFunction {
+    private final ObjectAndDoubleToLongFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndDoubleToLongFunction(ObjectAndDoubleToLongFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public long applyAsLong(double arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+
+  private static final class BoundObjectAndDoubleToDoubleFunction<T1> implements DoubleUnaryOperator {
+    private final ObjectAndDoubleToDoubleFunction<T1> function;
+    private final T1 arg1;
+
+    BoundObjectAndDoubleToDoubleFunction(ObjectAndDoubleToDoubleFunction<T1> function, T1 arg1) {
+      this.function = function;
+      this.arg1 = arg1;
+    }
+
+    @Override
+    public double applyAsDouble(double arg2) {
+      return function.apply(arg1, arg2);
+    }
+  }
+}
@@ -1,7 +1,10 @@
 package tech.intellispaces.general.function;
 
 import tech.intellispaces.general.exception.WrappedException;
+import tech.intellispaces.general.metric.LatencyTimer;
 
+import java.util.Objects;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -39,6 +42,111 @@ public final class Consumers {
     };
   }
 
+  /**
+   * Adapts throwing consumer to standard consumer without wrapping of the checked exceptions.
+   * <p>
+   * The checked exception thrown by the consumer is propagated unchanged.
+   *
+   * @param consumer the throwing consumer.
+   * @return standard consumer.
+   * @param <T> the consumer input type.
+   * @param <E> the exception type.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T, E extends Exception> Consumer<T> sneakyConsumer(ThrowingConsumer<T, E> consumer) {
+    var uncheckedConsumer = (ThrowingConsumer<T, RuntimeException>) (ThrowingConsumer<T, ?>) consumer;
+    return uncheckedConsumer::acceptThrows;
+  }
+
+  /**
+   * Adapts throwing consumer to standard bi-consumer without wrapping of the checked exceptions.
+   *
+   * @param consumer the throwing consumer.
+   * @return standard bi-consumer.
+   * @param <T1> the first input type.
+   * @param <T2> the second input type.
+   * @param <E> the exception type.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T1, T2, E extends Exception> BiConsumer<T1, T2> sneakyBiConsumer(
+      ThrowingBiConsumer<T1, T2, E> consumer
+  ) {
+    var uncheckedConsumer = (ThrowingBiConsumer<T1, T2, RuntimeException>) (ThrowingBiConsumer<T1, T2, ?>) consumer;
+    return uncheckedConsumer::acceptThrows;
+  }
+
+  /**
+   * Wraps consumer to asynchronous consumer with default settings.
+   *
+   * @param consumer the original consumer.
+   * @return asynchronous consumer.
+   * @param <T> the consumer input type.
+   */
+  public static <T> AsyncConsumer<T> async(Consumer<T> consumer) {
+    return async(consumer, AsyncConsumerSettings.defaults());
+  }
+
+  /**
+   * Wraps consumer to asynchronous consumer.
+   * <p>
+   * Values are buffered in the bounded ring buffer and consumed on the background thread.
+   *
+   * @param consumer the original consumer.
+   * @param settings the asynchronous consumer settings.
+   * @return asynchronous consumer.
+   * @param <T> the consumer input type.
+   */
+  public static <T> AsyncConsumer<T> async(Consumer<T> consumer, AsyncConsumerSettings settings) {
+    Objects.requireNonNull(consumer);
+    return new AsyncConsumerImpl<T, RuntimeException>(consumer::accept, settings);
+  }
+
+  public static <T, E extends Exception> AsyncConsumer<T> asyncThrowing(ThrowingConsumer<T, E> consumer) {
+    return asyncThrowing(consumer, AsyncConsumerSettings.defaults());
+  }
+
+  public static <T, E extends Exception> AsyncConsumer<T> asyncThrowing(
+      ThrowingConsumer<T, E> consumer, AsyncConsumerSettings settings
+  ) {
+    return new AsyncConsumerImpl<>(Objects.requireNonNull(consumer), settings);
+  }
+
+  /**
+   * Wraps consumer to consumer recording latency of each call into timer with given name.
+   *
+   * @param name the timer name.
+   * @param consumer the original consumer.
+   * @return timed consumer.
+   * @param <T> the consumer input type.
+   */
+  public static <T> Consumer<T> timed(String name, Consumer<T> consumer) {
+    return timed(name, consumer, 1);
+  }
+
+  /**
+   * Wraps consumer to consumer recording latency of one of {@code sampleRate} calls into timer with given name.
+   *
+   * @param name the timer name.
+   * @param consumer the original consumer.
+   * @param sampleRate the sample rate.
+   * @return timed consumer.
+   * @param <T> the consumer input type.
+   */
+  public static <T> Consumer<T> timed(String name, Consumer<T> consumer, int sampleRate) {
+    Objects.requireNonNull(consumer);
+    LatencyTimer timer = TimedCalls.timer(name, sampleRate);
+    return value -> {
+      long start = timer.start(sampleRate);
+      try {
+        consumer.accept(value);
+        timer.stop(start);
+      } catch (Throwable e) {
+        timer.stopWithError(start);
+        throw e;
+      }
+    };
+  }
+
   @SuppressWarnings("unchecked")
   public static <T> Consumer<T> idle() {
     return (Consumer<T>) IDLE_CONSUMER;
@@ -84,4 +84,37 @@ public interface FunctionFunctions {
       }
     }
   }
+
+  /**
+   * Applies the function and declares exception that can be propagated by function without wrapping.
+   * <p>
+   * Function is expected to be created by methods like {@link Functions#sneakyFunction}. Unlike
+   * {@link #applyAndUnwrap}, no exception unwrapping is required.
+   *
+   * @param value the function argument.
+   * @param function the function.
+   * @param e the exception class.
+   * @return the function result.
+   * @param <T> the function argument type.
+   * @param <R> the function result type.
+   * @param <E> the exception type.
+   * @throws E the exception propagated by the function.
+   */
+  static <T, R, E extends Exception> R applyAndPropagate(
+      T value, Function<T, R> function, Class<E> e
+  ) throws E {
+    return function.apply(value);
+  }
+
+  /**
+   * Runs the runnable and declares exception that can be propagated by runnable without wrapping.
+   *
+   * @param runnable the runnable.
+   * @param e the exception class.
+   * @param <E> the exception type.
+   * @throws E the exception propagated by the runnable.
+   */
+  static <E extends Exception> void runAndPropagate(Runnable runnable, Class<E> e) throws E {
+    runnable.run();
+  }
 }
@@ -1,7 +1,11 @@
 package tech.intellispaces.general.function;
 
 import tech.intellispaces.general.exception.WrappedException;
+import tech.intellispaces.general.metric.LatencyTimer;
+import tech.intellispaces.general.metric.LatencyTimers;
 
+import java.util.Objects;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
 /**
@@ -37,4 +41,172 @@ public interface Functions {
       }
     };
   }
+
+  /**
+   * Adapts throwing function to standard function without wrapping of the checked exceptions.
+   * <p>
+   * The checked exception thrown by the function is propagated unchanged. Use methods
+   * {@link FunctionFunctions#applyAndPropagate} or {@link FunctionFunctions#runAndPropagate} to catch it
+   * outside the function call.
+   *
+   * @param function the throwing function.
+   * @return standard function.
+   * @param <T> the function argument type.
+   * @param <R> the function result type.
+   * @param <E> the exception type.
+   */
+  static <T, R, E extends Exception> Function<T, R> sneakyFunction(ThrowingFunction<T, R, E> function) {
+    ThrowingFunction<T, R, RuntimeException> uncheckedFunction = uncheck(function);
+    return uncheckedFunction::applyThrows;
+  }
+
+  /**
+   * Adapts throwing function to standard bi-function without wrapping of the checked exceptions.
+   *
+   * @param function the throwing function.
+   * @return standard function.
+   * @param <T1> the first argument type.
+   * @param <T2> the second argument type.
+   * @param <R> the function result type.
+   * @param <E> the exception type.
+   */
+  static <T1, T2, R, E extends Exception> BiFunction<T1, T2, R> sneakyBiFunction(
+      ThrowingBiFunction<T1, T2, R, E> function
+  ) {
+    ThrowingBiFunction<T1, T2, R, RuntimeException> uncheckedFunction = uncheck(function);
+    return uncheckedFunction::applyThrows;
+  }
+
+  /**
+   * Adapts throwing function to tri-function without wrapping of the checked exceptions.
+   *
+   * @param function the throwing function.
+   * @return tri-function.
+   * @param <T1> the first argument type.
+   * @param <T2> the second argument type.
+   * @param <T3> the third argument type.
+   * @param <R> the function result type.
+   * @param <E> the exception type.
+   */
+  static <T1, T2, T3, R, E extends Exception> TriFunction<T1, T2, T3, R> sneakyTriFunction(
+      ThrowingTriFunction<T1, T2, T3, R, E> function
+  ) {
+    ThrowingTriFunction<T1, T2, T3, R, RuntimeException> uncheckedFunction = uncheck(function);
+    return uncheckedFunction::applyThrows;
+  }
+
+  /**
+   * Adapts throwing function to quadri-function without wrapping of the checked exceptions.
+   *
+   * @param function the throwing function.
+   * @return quadri-function.
+   * @param <T1> the first argument type.
+   * @param <T2> the second argument type.
+   * @param <T3> the third argument type.
+   * @param <T4> the fourth argument type.
+   * @param <R> the function result type.
+   * @param <E> the exception type.
+   */
+  static <T1, T2, T3, T4, R, E extends Exception> QuadriFunction<T1, T2, T3, T4, R> sneakyQuadriFunction(
+      ThrowingQuadriFunction<T1, T2, T3, T4, R, E> function
+  ) {
+    ThrowingQuadriFunction<T1, T2, T3, T4, R, RuntimeException> uncheckedFunction = uncheck(function);
+    return uncheckedFunction::applyThrows;
+  }
+
+  /**
+   * Wraps function to function recording latency of each call into timer with given name.
+   *
+   * @param name the timer name.
+   * @param function the original function.
+   * @return timed function.
+   * @param <T> the function argument type.
+   * @param <R> the function result type.
+   * @see LatencyTimers
+   */
+  static <T, R> Function<T, R> timed(String name, Function<T, R> function) {
+    return timed(name, function, 1);
+  }
+
+  /**
+   * Wraps function to function recording latency of one of {@code sampleRate} calls into timer with given name.
+   * <p>
+   * Calls and errors are counted for all calls.
+   *
+   * @param name the timer name.
+   * @param function the original function.
+   * @param sampleRate the sample rate.
+   * @return timed function.
+   * @param <T> the function argument type.
+   * @param <R> the function result type.
+   */
+  static <T, R> Function<T, R> timed(String name, Function<T, R> function, int sampleRate) {
+    Objects.requireNonNull(function);
+    LatencyTimer timer = TimedCalls.timer(name, sampleRate);
+    return arg -> {
+      long start = timer.start(sampleRate);
+      try {
+        R result = function.apply(arg);
+        timer.stop(start);
+        return result;
+      } catch (Throwable e) {
+        timer.stopWithError(start);
+        throw e;
+      }
+    };
+  }
+
+  static <T, R, E extends Exception> ThrowingFunction<T, R, E> timedThrowing(
+      String name, ThrowingFunction<T, R, E> function
+  ) {
+    return timedThrowing(name, function, 1);
+  }
+
+  static <T, R, E extends Exception> ThrowingFunction<T, R, E> timedThrowing(
+      String name, ThrowingFunction<T, R, E> function, int sampleRate
+  ) {
+    Objects.requireNonNull(function);
+    LatencyTimer timer = TimedCalls.timer(name, sampleRate);
+    return arg -> {
+      long start = timer.start(sampleRate);
+      try {
+        R result = function.applyThrows(arg);
+        timer.stop(start);
+        return result;
+      } catch (Throwable e) {
+        timer.stopWithError(start);
+        throw e;
+      }
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T, R, E extends Exception> ThrowingFunction<T, R, RuntimeException> uncheck(
+      ThrowingFunction<T, R, E> function
+  ) {
+    return (ThrowingFunction<T, R, RuntimeException>) (ThrowingFunction<T, R, ?>) function;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T1, T2, R, E extends Exception> ThrowingBiFunction<T1, T2, R, RuntimeException> uncheck(
+      ThrowingBiFunction<T1, T2, R, E> function
+  ) {
+    return (ThrowingBiFunction<T1, T2, R, RuntimeException>) (ThrowingBiFunction<T1, T2, R, ?>) function;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T1, T2, T3, R, E extends Exception> ThrowingTriFunction<T1, T2, T3, R, RuntimeException> uncheck(
+      ThrowingTriFunction<T1, T2, T3, R, E> function
+  ) {
+    return (ThrowingTriFunction<T1, T2, T3, R, RuntimeException>) (ThrowingTriFunction<T1, T2, T3, R, ?>) function;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T1, T2, T3, T4, R, E extends Exception>
+      ThrowingQuadriFunction<T1, T2, T3, T4, R, RuntimeException> uncheck(
+          ThrowingQuadriFunction<T1, T2, T3, T4, R, E> function
+  ) {
+    return (ThrowingQuadriFunction<T1, T2, T3, T4, R, RuntimeException>)
+        (ThrowingQuadriFunction<T1, T2, T3, T4, R, ?>) function;
+  }
 }
@@ -0,0 +1,17 @@
+package tech.intellispaces.general.function;
+
+/**
+ * Function with memoized results.
+ */
+public interface Memoized {
+
+  /**
+   * Returns snapshot of the memoization statistics.
+   */
+  MemoizerStats stats();
+
+  /**
+   * Discards all memoized results.
+   */
+  void invalidateAll();
+}
@@ -0,0 +1,21 @@
+package tech.intellispaces.general.function;
+
+import java.util.function.BiFunction;
+
+/**
+ * Function of two arguments with memoized results.
+ *
+ * @param <T1> the first argument type.
+ * @param <T2> the second argument type.
+ * @param <R> the function result type.
+ */
+public interface MemoizedBiFunction<T1, T2, R> extends BiFunction<T1, T2, R>, Memoized {
+
+  /**
+   * Discards memoized result for the given arguments.
+   *
+   * @param arg1 the first argument.
+   * @param arg2 the second argument.
+   */
+  void invalidate(T1 arg1, T2 arg2);
+}
@@ -0,0 +1,19 @@
+package tech.intellispaces.general.function;
+
+import java.util.function.Function;
+
+/**
+ * Function with memoized results.
+ *
+ * @param <T> the function argument type.
+ * @param <R> the function result type.
+ */
+public interface MemoizedFunction<T, R> extends Function<T, R>, Memoized {
+
+  /**
+   * Discards memoized result for the given argument.
+   *
+   * @param arg the function argument.
+   */
+  void invalidate(T arg);
+}
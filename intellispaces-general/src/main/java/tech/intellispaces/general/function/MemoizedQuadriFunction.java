@@ -0,0 +1,23 @@
+package tech.intellispaces.general.function;
+
+/**
+ * Function of four arguments with memoized results.
+ *
+ * @param <T1> the first argument type.
+ * @param <T2> the second argument type.
+ * @param <T3> the third argument type.
+ * @param <T4> the fourth argument type.
+ * @param <R> the function result type.
+ */
+public interface MemoizedQuadriFunction<T1, T2, T3, T4, R> extends QuadriFunction<T1, T2, T3, T4, R>, Memoized {
+
+  /**
+   * Discards memoized result for the given arguments.
+   *
+   * @param arg1 the first argument.
+   * @param arg2 the second argument.
+   * @param arg3 the third argument.
+   * @param arg4 the fourth argument.
+   */
+  void invalidate(T1 arg1, T2 arg2, T3 arg3, T4 arg4);
+}
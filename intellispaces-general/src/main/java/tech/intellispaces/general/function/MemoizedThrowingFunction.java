@@ -0,0 +1,18 @@
+package tech.intellispaces.general.function;
+
+/**
+ * Throwing function with memoized results.
+ *
+ * @param <T> the function argument type.
+ * @param <R> the function result type.
+ * @param <E> the exception type.
+ */
+public interface MemoizedThrowingFunction<T, R, E extends Exception> extends ThrowingFunction<T, R, E>, Memoized {
+
+  /**
+   * Discards memoized result for the given argument.
+   *
+   * @param arg the function argument.
+   */
+  void invalidate(T arg);
+}
@@ -0,0 +1,21 @@
+package tech.intellispaces.general.function;
+
+/**
+ * Function of three arguments with memoized results.
+ *
+ * @param <T1> the first argument type.
+ * @param <T2> the second argument type.
+ * @param <T3> the third argument type.
+ * @param <R> the function result type.
+ */
+public interface MemoizedTriFunction<T1, T2, T3, R> extends TriFunction<T1, T2, T3, R>, Memoized {
+
+  /**
+   * Discards memoized result for the given arguments.
+   *
+   * @param arg1 the first argument.
+   * @param arg2 the second argument.
+   * @param arg3 the third argument.
+   */
+  void invalidate(T1 arg1, T2 arg2, T3 arg3);
+}
@@ -0,0 +1,125 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * Memoization settings.
+ * <p>
+ * Settings are immutable, each modifying method returns new settings.
+ * <p>
+ * When size or weight is bounded, the memoized results are evicted according to the S3-FIFO policy: new results
+ * are placed into a small probationary queue and are promoted to the main queue only when they are requested
+ * again before eviction.
+ */
+public final class MemoizerSettings {
+  private static final MemoizerSettings UNBOUNDED = new MemoizerSettings(
+      Long.MAX_VALUE, (key, value) -> 1, 0, false
+  );
+
+  private final long maximumWeight;
+  private final ToLongBiFunction<Object, Object> weigher;
+  private final long expireAfterWriteNanos;
+  private final boolean memoizeFailures;
+
+  private MemoizerSettings(
+      long maximumWeight,
+      ToLongBiFunction<Object, Object> weigher,
+      long expireAfterWriteNanos,
+      boolean memoizeFailures
+  ) {
+    this.maximumWeight = maximumWeight;
+    this.weigher = weigher;
+    this.expireAfterWriteNanos = expireAfterWriteNanos;
+    this.memoizeFailures = memoizeFailures;
+  }
+
+  /**
+   * Returns settings without bounds and expiration.
+   */
+  public static MemoizerSettings unbounded() {
+    return UNBOUNDED;
+  }
+
+  /**
+   * Limits the number of the memoized results.
+   *
+   * @param maximumSize the maximum number of the memoized results.
+   * @return new settings.
+   */
+  public MemoizerSettings maximumSize(long maximumSize) {
+    if (maximumSize <= 0) {
+      throw UnexpectedExceptions.withMessage("Maximum size should be positive");
+    }
+    return new MemoizerSettings(maximumSize, (key, value) -> 1, expireAfterWriteNanos, memoizeFailures);
+  }
+
+  /**
+   * Limits the total weight of the memoized results.
+   *
+   * @param maximumWeight the maximum total weight.
+   * @param weigher the weigher of the function argument and result. Arguments of the multi-argument functions are
+   *                passed as list.
+   * @return new settings.
+   */
+  @SuppressWarnings("unchecked")
+  public MemoizerSettings maximumWeight(long maximumWeight, ToLongBiFunction<?, ?> weigher) {
+    if (maximumWeight <= 0) {
+      throw UnexpectedExceptions.withMessage("Maximum weight should be positive");
+    }
+    Objects.requireNonNull(weigher);
+    return new MemoizerSettings(
+        maximumWeight, (ToLongBiFunction<Object, Object>) weigher, expireAfterWriteNanos, memoizeFailures
+    );
+  }
+
+  /**
+   * Sets the time to live of the memoized results.
+   *
+   * @param duration the time to live counted from the moment result was calculated.
+   * @return new settings.
+   */
+  public MemoizerSettings expireAfterWrite(Duration duration) {
+    if (duration.isNegative() || duration.isZero()) {
+      throw UnexpectedExceptions.withMessage("Expiration duration should be positive");
+    }
+    return new MemoizerSettings(maximumWeight, weigher, duration.toNanos(), memoizeFailures);
+  }
+
+  /**
+   * Defines whether exceptions thrown by function should be memoized like regular results.
+   *
+   * @param memoizeFailures <code>true</code> if exceptions should be memoized.
+   * @return new settings.
+   */
+  public MemoizerSettings memoizeFailures(boolean memoizeFailures) {
+    return new MemoizerSettings(maximumWeight, weigher, expireAfterWriteNanos, memoizeFailures);
+  }
+
+  long maximumWeight() {
+    return maximumWeight;
+  }
+
+  boolean isBounded() {
+    return maximumWeight != Long.MAX_VALUE;
+  }
+
+  ToLongBiFunction<Object, Object> weigher() {
+    return weigher;
+  }
+
+  long expireAfterWriteNanos() {
+    return expireAfterWriteNanos;
+  }
+
+  boolean isExpirable() {
+    return expireAfterWriteNanos > 0;
+  }
+
+  boolean isMemoizeFailures() {
+    return memoizeFailures;
+  }
+}
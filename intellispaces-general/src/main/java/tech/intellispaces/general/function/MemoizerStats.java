@@ -0,0 +1,66 @@
+package tech.intellispaces.general.function;
+
+/**
+ * Snapshot of the memoization statistics.
+ */
+public final class MemoizerStats {
+  private final long hitCount;
+  private final long missCount;
+  private final long failureCount;
+  private final long evictionCount;
+  private final long size;
+
+  MemoizerStats(long hitCount, long missCount, long failureCount, long evictionCount, long size) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.failureCount = failureCount;
+    this.evictionCount = evictionCount;
+    this.size = size;
+  }
+
+  /**
+   * Number of calls served by memoized or concurrently calculated result.
+   */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Number of calls that caused function invocation.
+   */
+  public long missCount() {
+    return missCount;
+  }
+
+  /**
+   * Number of function invocations completed with exception.
+   */
+  public long failureCount() {
+    return failureCount;
+  }
+
+  /**
+   * Number of results evicted due to size or weight bounds.
+   */
+  public long evictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * Number of memoized results.
+   */
+  public long size() {
+    return size;
+  }
+
+  public double hitRate() {
+    long requestCount = hitCount + missCount;
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  @Override
+  public String toString() {
+    return "MemoizerStats{hitCount=" + hitCount + ", missCount=" + missCount + ", failureCount=" + failureCount
+        + ", evictionCount=" + evictionCount + ", size=" + size + "}";
+  }
+}
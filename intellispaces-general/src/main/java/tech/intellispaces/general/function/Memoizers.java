@@ -0,0 +1,258 @@
+package tech.intellispaces.general.function;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Memoized function provider.
+ * <p>
+ * Memoized function remembers results of the original function in concurrent cache. Concurrent calls with the same
+ * arguments invoke original function once, the other callers wait for the result. The <code>null</code> arguments
+ * are supported.
+ */
+public final class Memoizers {
+
+  /**
+   * Returns settings without bounds and expiration.
+   */
+  public static MemoizerSettings settings() {
+    return MemoizerSettings.unbounded();
+  }
+
+  public static <T, R> MemoizedFunction<T, R> memoize(Function<T, R> function) {
+    return memoize(function, MemoizerSettings.unbounded());
+  }
+
+  public static <T, R> MemoizedFunction<T, R> memoize(Function<T, R> function, MemoizerSettings settings) {
+    return new MemoizedFunctionImpl<>(function, settings);
+  }
+
+  public static <T, R, E extends Exception> MemoizedThrowingFunction<T, R, E> memoizeThrowing(
+      ThrowingFunction<T, R, E> function
+  ) {
+    return memoizeThrowing(function, MemoizerSettings.unbounded());
+  }
+
+  public static <T, R, E extends Exception> MemoizedThrowingFunction<T, R, E> memoizeThrowing(
+      ThrowingFunction<T, R, E> function, MemoizerSettings settings
+  ) {
+    return new MemoizedThrowingFunctionImpl<>(function, settings);
+  }
+
+  public static <T1, T2, R> MemoizedBiFunction<T1, T2, R> memoize(BiFunction<T1, T2, R> function) {
+    return memoize(function, MemoizerSettings.unbounded());
+  }
+
+  public static <T1, T2, R> MemoizedBiFunction<T1, T2, R> memoize(
+      BiFunction<T1, T2, R> function, MemoizerSettings settings
+  ) {
+    return new MemoizedBiFunctionImpl<>(function, settings);
+  }
+
+  public static <T1, T2, T3, R> MemoizedTriFunction<T1, T2, T3, R> memoize(TriFunction<T1, T2, T3, R> function) {
+    return memoize(function, MemoizerSettings.unbounded());
+  }
+
+  public static <T1, T2, T3, R> MemoizedTriFunction<T1, T2, T3, R> memoize(
+      TriFunction<T1, T2, T3, R> function, MemoizerSettings settings
+  ) {
+    return new MemoizedTriFunctionImpl<>(function, settings);
+  }
+
+  public static <T1, T2, T3, T4, R> MemoizedQuadriFunction<T1, T2, T3, T4, R> memoize(
+      QuadriFunction<T1, T2, T3, T4, R> function
+  ) {
+    return memoize(function, MemoizerSettings.unbounded());
+  }
+
+  public static <T1, T2, T3, T4, R> MemoizedQuadriFunction<T1, T2, T3, T4, R> memoize(
+      QuadriFunction<T1, T2, T3, T4, R> function, MemoizerSettings settings
+  ) {
+    return new MemoizedQuadriFunctionImpl<>(function, settings);
+  }
+
+  private Memoizers() {}
+
+  private abstract static class AbstractMemoized implements Memoized {
+    final MemoizingCache cache;
+
+    AbstractMemoized(MemoizerSettings settings) {
+      this.cache = new MemoizingCache(Objects.requireNonNull(settings));
+    }
+
+    @Override
+    public MemoizerStats stats() {
+      return cache.stats();
+    }
+
+    @Override
+    public void invalidateAll() {
+      cache.invalidateAll();
+    }
+  }
+
+  private static final class MemoizedFunctionImpl<T, R> extends AbstractMemoized implements MemoizedFunction<T, R> {
+    private final ThrowingFunction<T, R, RuntimeException> function;
+
+    MemoizedFunctionImpl(Function<T, R> function, MemoizerSettings settings) {
+      super(settings);
+      this.function = function::apply;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(T arg) {
+      return (R) cache.get(arg, function);
+    }
+
+    @Override
+    public void invalidate(T arg) {
+      cache.invalidate(arg);
+    }
+  }
+
+  private static final class MemoizedThrowingFunctionImpl<T, R, E extends Exception>
+      extends AbstractMemoized implements MemoizedThrowingFunction<T, R, E> {
+    private final ThrowingFunction<T, R, E> function;
+
+    MemoizedThrowingFunctionImpl(ThrowingFunction<T, R, E> function, MemoizerSettings settings) {
+      super(settings);
+      this.function = Objects.requireNonNull(function);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R applyThrows(T arg) throws E {
+      return (R) cache.get(arg, function);
+    }
+
+    @Override
+    public void invalidate(T arg) {
+      cache.invalidate(arg);
+    }
+  }
+
+  private static final class MemoizedBiFunctionImpl<T1, T2, R>
+      extends AbstractMemoized implements MemoizedBiFunction<T1, T2, R> {
+    private final BiFunction<T1, T2, R> function;
+    private final ThrowingFunction<Arguments, R, RuntimeException> loader = this::applyArguments;
+
+    MemoizedBiFunctionImpl(BiFunction<T1, T2, R> function, MemoizerSettings settings) {
+      super(settings);
+      this.function = Objects.requireNonNull(function);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(T1 arg1, T2 arg2) {
+      return (R) cache.get(new Arguments(arg1, arg2), loader);
+    }
+
+    @Override
+    public void invalidate(T1 arg1, T2 arg2) {
+      cache.invalidate(new Arguments(arg1, arg2));
+    }
+
+    @SuppressWarnings("unchecked")
+    private R applyArguments(Arguments arguments) {
+      Object[] args = arguments.values;
+      return function.apply((T1) args[0], (T2) args[1]);
+    }
+  }
+
+  private static final class MemoizedTriFunctionImpl<T1, T2, T3, R>
+      extends AbstractMemoized implements MemoizedTriFunction<T1, T2, T3, R> {
+    private final TriFunction<T1, T2, T3, R> function;
+    private final ThrowingFunction<Arguments, R, RuntimeException> loader = this::applyArguments;
+
+    MemoizedTriFunctionImpl(TriFunction<T1, T2, T3, R> function, MemoizerSettings settings) {
+      super(settings);
+      this.function = Objects.requireNonNull(function);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(T1 arg1, T2 arg2, T3 arg3) {
+      return (R) cache.get(new Arguments(arg1, arg2, arg3), loader);
+    }
+
+    @Override
+    public void invalidate(T1 arg1, T2 arg2, T3 arg3) {
+      cache.invalidate(new Arguments(arg1, arg2, arg3));
+    }
+
+    @SuppressWarnings("unchecked")
+    private R applyArguments(Arguments arguments) {
+      Object[] args = arguments.values;
+      return function.apply((T1) args[0], (T2) args[1], (T3) args[2]);
+    }
+  }
+
+  private static final class MemoizedQuadriFunctionImpl<T1, T2, T3, T4, R>
+      extends AbstractMemoized implements MemoizedQuadriFunction<T1, T2, T3, T4, R> {
+    private final QuadriFunction<T1, T2, T3, T4, R> function;
+    private final ThrowingFunction<Arguments, R, RuntimeException> loader = this::applyArguments;
+
+    MemoizedQuadriFunctionImpl(QuadriFunction<T1, T2, T3, T4, R> function, MemoizerSettings settings) {
+      super(settings);
+      this.function = Objects.requireNonNull(function);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public R apply(T1 arg1, T2 arg2, T3 arg3, T4 arg4) {
+      return (R) cache.get(new Arguments(arg1, arg2, arg3, arg4), loader);
+    }
+
+    @Override
+    public void invalidate(T1 arg1, T2 arg2, T3 arg3, T4 arg4) {
+      cache.invalidate(new Arguments(arg1, arg2, arg3, arg4));
+    }
+
+    @SuppressWarnings("unchecked")
+    private R applyArguments(Arguments arguments) {
+      Object[] args = arguments.values;
+      return function.apply((T1) args[0], (T2) args[1], (T3) args[2], (T4) args[3]);
+    }
+  }
+
+  /**
+   * Cache key of the multi-argument function.
+   */
+  private static final class Arguments extends AbstractList<Object> {
+    final Object[] values;
+    final int hash;
+
+    Arguments(Object... values) {
+      this.values = values;
+      this.hash = Arrays.hashCode(values);
+    }
+
+    @Override
+    public Object get(int index) {
+      return values[index];
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o instanceof Arguments) {
+        var other = (Arguments) o;
+        return hash == other.hash && Arrays.equals(values, other.values);
+      }
+      return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
@@ -0,0 +1,310 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.exception.ExceptionFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Concurrent cache of the function results.
+ * <p>
+ * Lookups are lock-free. Concurrent misses for the same key are served by single function invocation. Admission
+ * and eviction of the bounded cache are performed under lock according to the S3-FIFO policy. Removed nodes are
+ * purged from the queues when they make up half of the queued nodes, so the queues are bounded by twice the number
+ * of live nodes. The <code>null</code> key is supported.
+ */
+final class MemoizingCache {
+  private static final int MAX_FREQUENCY = 3;
+  private static final Object NULL_KEY = new Object();
+
+  private final MemoizerSettings settings;
+  private final ConcurrentHashMap<Object, Node> nodes = new ConcurrentHashMap<>();
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder failureCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  private final ReentrantLock evictionLock = new ReentrantLock();
+  private final ArrayDeque<Node> smallQueue = new ArrayDeque<>();
+  private final ArrayDeque<Node> mainQueue = new ArrayDeque<>();
+  private final ArrayDeque<Object> ghostQueue = new ArrayDeque<>();
+  private final Set<Object> ghostKeys = new HashSet<>();
+  private long smallWeight;
+  private long totalWeight;
+  private int removedQueuedCount;
+
+  MemoizingCache(MemoizerSettings settings) {
+    this.settings = settings;
+  }
+
+  /**
+   * Returns memoized result or calculates it.
+   * <p>
+   * Exception thrown by the function is rethrown as is.
+   *
+   * @param key the function argument or arguments list.
+   * @param function the function.
+   * @return the function result.
+   */
+  @SuppressWarnings("unchecked")
+  <K> Object get(K key, ThrowingFunction<K, ?, ?> function) {
+    Object cacheKey = mask(key);
+    Node node = nodes.get(cacheKey);
+    while (true) {
+      if (node != null) {
+        if (!node.isExpired()) {
+          hitCount.increment();
+          node.touch();
+          return node.await();
+        }
+        remove(node);
+      }
+      var newNode = new Node(cacheKey);
+      node = nodes.putIfAbsent(cacheKey, newNode);
+      if (node == null) {
+        missCount.increment();
+        return load(newNode, (ThrowingFunction<Object, ?, ?>) function);
+      }
+    }
+  }
+
+  void invalidate(Object key) {
+    Node node = nodes.get(mask(key));
+    if (node != null) {
+      remove(node);
+    }
+  }
+
+  void invalidateAll() {
+    evictionLock.lock();
+    try {
+      nodes.values().forEach(node -> node.removed = true);
+      nodes.clear();
+      smallQueue.clear();
+      mainQueue.clear();
+      ghostQueue.clear();
+      ghostKeys.clear();
+      smallWeight = 0;
+      totalWeight = 0;
+      removedQueuedCount = 0;
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  MemoizerStats stats() {
+    return new MemoizerStats(
+        hitCount.sum(), missCount.sum(), failureCount.sum(), evictionCount.sum(), nodes.size()
+    );
+  }
+
+  /**
+   * Returns number of the nodes in the eviction queues, including removed ones.
+   */
+  int queuedCount() {
+    evictionLock.lock();
+    try {
+      return smallQueue.size() + mainQueue.size();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private Object load(Node node, ThrowingFunction<Object, ?, ?> function) {
+    Object value;
+    try {
+      value = function.applyThrows(unmask(node.key));
+    } catch (Exception e) {
+      failureCount.increment();
+      node.future.completeExceptionally(e);
+      if (settings.isMemoizeFailures()) {
+        admit(node, 1);
+      } else {
+        nodes.remove(node.key, node);
+      }
+      throw ExceptionFunctions.sneakyThrow(e);
+    } catch (Error e) {
+      node.future.completeExceptionally(e);
+      nodes.remove(node.key, node);
+      throw e;
+    }
+    node.future.complete(value);
+    admit(node, settings.isBounded() ? settings.weigher().applyAsLong(unmask(node.key), value) : 1);
+    return value;
+  }
+
+  private static Object mask(Object key) {
+    return key != null ? key : NULL_KEY;
+  }
+
+  private static Object unmask(Object key) {
+    return key != NULL_KEY ? key : null;
+  }
+
+  private void admit(Node node, long weight) {
+    if (settings.isExpirable()) {
+      node.expirationTime = System.nanoTime() + settings.expireAfterWriteNanos();
+    }
+    if (!settings.isBounded()) {
+      return;
+    }
+    evictionLock.lock();
+    try {
+      if (node.removed) {
+        return;
+      }
+      node.weight = weight;
+      node.admitted = true;
+      if (ghostKeys.remove(node.key)) {
+        node.inMainQueue = true;
+        mainQueue.add(node);
+      } else {
+        smallQueue.add(node);
+        smallWeight += weight;
+      }
+      totalWeight += weight;
+      evict();
+      purgeRemovedNodes();
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private void remove(Node node) {
+    if (!nodes.remove(node.key, node) || !settings.isBounded()) {
+      return;
+    }
+    evictionLock.lock();
+    try {
+      if (!node.removed) {
+        node.removed = true;
+        if (node.admitted) {
+          totalWeight -= node.weight;
+          if (!node.inMainQueue) {
+            smallWeight -= node.weight;
+          }
+          removedQueuedCount++;
+          purgeRemovedNodes();
+        }
+      }
+    } finally {
+      evictionLock.unlock();
+    }
+  }
+
+  private void evict() {
+    long maximumWeight = settings.maximumWeight();
+    while (totalWeight > maximumWeight && !(smallQueue.isEmpty() && mainQueue.isEmpty())) {
+      if (!smallQueue.isEmpty() && (smallWeight >= maximumWeight / 10 || mainQueue.isEmpty())) {
+        evictFromSmallQueue();
+      } else {
+        evictFromMainQueue();
+      }
+    }
+  }
+
+  private void purgeRemovedNodes() {
+    if (removedQueuedCount * 2 > smallQueue.size() + mainQueue.size()) {
+      smallQueue.removeIf(node -> node.removed);
+      mainQueue.removeIf(node -> node.removed);
+      removedQueuedCount = 0;
+    }
+  }
+
+  private void evictFromSmallQueue() {
+    Node node = smallQueue.poll();
+    if (node.removed) {
+      removedQueuedCount--;
+      return;
+    }
+    smallWeight -= node.weight;
+    if (node.frequency > 1) {
+      node.frequency = 0;
+      node.inMainQueue = true;
+      mainQueue.add(node);
+      return;
+    }
+    evictNode(node);
+    ghostQueue.add(node.key);
+    ghostKeys.add(node.key);
+    while (ghostQueue.size() > mainQueue.size() + smallQueue.size() + 1) {
+      ghostKeys.remove(ghostQueue.poll());
+    }
+  }
+
+  private void evictFromMainQueue() {
+    Node node = mainQueue.poll();
+    if (node.removed) {
+      removedQueuedCount--;
+      return;
+    }
+    if (node.frequency > 0) {
+      node.frequency--;
+      mainQueue.add(node);
+      return;
+    }
+    evictNode(node);
+  }
+
+  private void evictNode(Node node) {
+    node.removed = true;
+    totalWeight -= node.weight;
+    nodes.remove(node.key, node);
+    evictionCount.increment();
+  }
+
+  private static final class Node {
+    final Object key;
+    final CompletableFuture<Object> future = new CompletableFuture<>();
+    volatile long expirationTime = Long.MAX_VALUE;
+
+    /**
+     * Approximate access frequency. Updated without synchronization.
+     */
+    int frequency;
+
+    // Fields guarded by eviction lock
+    long weight;
+    boolean admitted;
+    boolean inMainQueue;
+    boolean removed;
+
+    Node(Object key) {
+      this.key = key;
+    }
+
+    boolean isExpired() {
+      long expirationTime = this.expirationTime;
+      return expirationTime != Long.MAX_VALUE && System.nanoTime() - expirationTime >= 0;
+    }
+
+    void touch() {
+      if (frequency < MAX_FREQUENCY) {
+        frequency++;
+      }
+    }
+
+    Object await() {
+      try {
+        return future.get();
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        throw ExceptionFunctions.sneakyThrow((Exception) cause);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw UnexpectedExceptions.withCauseAndMessage(e, "Interrupted while waiting for memoized result");
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package tech.intellispaces.general.function;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer single-consumer ring buffer.
+ * <p>
+ * Each slot has a sequence number: the slot is free for the producer when the sequence equals the producer
+ * position and is ready for the consumer when the sequence equals the consumer position plus one.
+ *
+ * @param <E> the element type.
+ */
+final class MpscRingBuffer<E> {
+  private final int mask;
+  private final AtomicReferenceArray<E> elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong producerPosition = new AtomicLong();
+  private volatile long consumerPosition;
+
+  MpscRingBuffer(int capacity) {
+    int size = Integer.highestOneBit(capacity);
+    if (size < capacity) {
+      size <<= 1;
+    }
+    this.mask = size - 1;
+    this.elements = new AtomicReferenceArray<>(size);
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; i++) {
+      sequences.set(i, i);
+    }
+  }
+
+  /**
+   * Adds element to the buffer. May be called concurrently.
+   *
+   * @param element the element.
+   * @return {@code true} if element was added or {@code false} if buffer is full.
+   */
+  boolean offer(E element) {
+    while (true) {
+      long position = producerPosition.get();
+      int index = (int) position & mask;
+      long difference = sequences.get(index) - position;
+      if (difference == 0) {
+        if (producerPosition.compareAndSet(position, position + 1)) {
+          elements.lazySet(index, element);
+          sequences.set(index, position + 1);
+          return true;
+        }
+      } else if (difference < 0) {
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Takes element from the buffer. Should be called by single consumer thread.
+   *
+   * @return the element or {@code null} if buffer is empty.
+   */
+  E poll() {
+    long position = consumerPosition;
+    int index = (int) position & mask;
+    if (sequences.get(index) != position + 1) {
+      return null;
+    }
+    E element = elements.get(index);
+    elements.lazySet(index, null);
+    sequences.set(index, position + mask + 1);
+    consumerPosition = position + 1;
+    return element;
+  }
+
+  int size() {
+    long size = producerPosition.get() - consumerPosition;
+    return (int) Math.max(0, Math.min(size, mask + 1));
+  }
+
+  boolean isEmpty() {
+    long position = consumerPosition;
+    return sequences.get((int) position & mask) != position + 1;
+  }
+}
@@ -0,0 +1,113 @@
+package tech.intellispaces.general.function;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Builder of the function pipeline.
+ * <p>
+ * Pipeline steps are assembled into single method handle tree, so the built function has one call site instead of
+ * the chain of nested function calls. The builder is immutable, each step returns new builder.
+ * <p>
+ * Building defines new class, so built function should be created once and reused.
+ *
+ * @param <T> the pipeline argument type.
+ * @param <R> the pipeline result type.
+ */
+public interface Pipeline<T, R> {
+
+  /**
+   * Adds step applying the function to the current value.
+   *
+   * @param function the function.
+   * @return new pipeline.
+   * @param <V> the new result type.
+   */
+  <V> Pipeline<T, V> map(Function<? super R, ? extends V> function);
+
+  /**
+   * Adds step applying the throwing function to the current value.
+   * <p>
+   * Checked exception is wrapped to {@link tech.intellispaces.general.exception.WrappedException} like in method
+   * {@link Functions#wrapThrowingFunction(ThrowingFunction)}.
+   *
+   * @param function the throwing function.
+   * @return new pipeline.
+   * @param <V> the new result type.
+   */
+  <V> Pipeline<T, V> mapThrowing(ThrowingFunction<? super R, ? extends V, ?> function);
+
+  /**
+   * Adds step applying the throwing function to the current value.
+   * <p>
+   * Checked exception is translated by the exception factory like in method
+   * {@link Functions#wrapThrowingFunction(ThrowingFunction, Function)}.
+   *
+   * @param function the throwing function.
+   * @param exceptionFactory the exception factory.
+   * @return new pipeline.
+   * @param <V> the new result type.
+   * @param <E> the checked exception type.
+   */
+  <V, E extends Exception> Pipeline<T, V> mapThrowing(
+      ThrowingFunction<? super R, ? extends V, E> function,
+      Function<? super E, ? extends RuntimeException> exceptionFactory
+  );
+
+  /**
+   * Adds step returning the first non-null result of the functions applied to the current value.
+   *
+   * @param function1 the first function.
+   * @param function2 the second function.
+   * @return new pipeline.
+   * @param <V> the new result type.
+   */
+  <V> Pipeline<T, V> coalesce(Function<? super R, ? extends V> function1, Function<? super R, ? extends V> function2);
+
+  /**
+   * Adds step returning the first non-null result of the functions applied to the current value.
+   *
+   * @param functions the functions.
+   * @return new pipeline.
+   * @param <V> the new result type.
+   */
+  <V> Pipeline<T, V> coalesce(List<? extends Function<? super R, ? extends V>> functions);
+
+  /**
+   * Adds step replacing null value by the default value.
+   *
+   * @param defaultValue the default value.
+   * @return new pipeline.
+   */
+  Pipeline<T, R> orElse(R defaultValue);
+
+  /**
+   * Adds step replacing null value by the value of the supplier.
+   *
+   * @param supplier the default value supplier.
+   * @return new pipeline.
+   */
+  Pipeline<T, R> orElseGet(Supplier<? extends R> supplier);
+
+  /**
+   * Translates exceptions of the given class thrown by the previous steps.
+   *
+   * @param exceptionClass the exception class.
+   * @param translator the exception translator.
+   * @return new pipeline.
+   * @param <X> the exception type.
+   */
+  <X extends RuntimeException> Pipeline<T, R> translateException(
+      Class<X> exceptionClass, Function<? super X, ? extends RuntimeException> translator
+  );
+
+  /**
+   * Builds pipeline function.
+   * <p>
+   * Method handle tree of the pipeline is bound to the built function as constant, so JIT compiler can inline it.
+   *
+   * @return the function.
+   */
+  Function<T, R> build();
+}
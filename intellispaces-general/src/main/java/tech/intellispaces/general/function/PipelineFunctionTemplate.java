@@ -0,0 +1,40 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.function.Function;
+
+/**
+ * Template of the pipeline function.
+ * <p>
+ * The class is not used directly. Its bytecode is defined as hidden class per pipeline with method handle of type
+ * {@code (Object)Object} as class data. Method handle is stored to the static final field, so it is constant for JIT
+ * compiler and the handle tree can be inlined into the call site.
+ */
+final class PipelineFunctionTemplate implements Function<Object, Object> {
+  private static final MethodHandle HANDLE;
+
+  static {
+    try {
+      HANDLE = MethodHandles.classData(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class);
+    } catch (IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  PipelineFunctionTemplate() {}
+
+  @Override
+  public Object apply(Object value) {
+    try {
+      return (Object) HANDLE.invokeExact(value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Failed to execute function pipeline");
+    }
+  }
+}
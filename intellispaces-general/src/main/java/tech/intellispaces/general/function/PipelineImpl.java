@@ -0,0 +1,195 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+import tech.intellispaces.general.exception.WrappedException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Pipeline builder assembling steps into method handle of type {@code (Object)Object}.
+ */
+class PipelineImpl<T, R> implements Pipeline<T, R> {
+  private static final MethodType STEP_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodHandle IDENTITY = MethodHandles.identity(Object.class);
+  private static final MethodHandle FUNCTION_APPLY;
+  private static final MethodHandle THROWING_FUNCTION_APPLY;
+  private static final MethodHandle SUPPLIER_GET;
+  private static final MethodHandle IS_NULL;
+  private static final MethodHandle DEFAULT_IF_NULL;
+  private static final MethodHandle SUPPLY_IF_NULL;
+  private static final MethodHandle WRAP_EXCEPTION;
+  private static final MethodHandle TRANSLATE_EXCEPTION;
+  private static final byte[] FUNCTION_TEMPLATE = readFunctionTemplate();
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      FUNCTION_APPLY = lookup.findVirtual(Function.class, "apply", STEP_TYPE);
+      THROWING_FUNCTION_APPLY = lookup.findVirtual(ThrowingFunction.class, "applyThrows", STEP_TYPE);
+      SUPPLIER_GET = lookup.findVirtual(Supplier.class, "get", MethodType.methodType(Object.class));
+      IS_NULL = lookup.findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+      DEFAULT_IF_NULL = lookup.findStatic(PipelineImpl.class, "defaultIfNull",
+          MethodType.methodType(Object.class, Object.class, Object.class));
+      SUPPLY_IF_NULL = lookup.findStatic(PipelineImpl.class, "supplyIfNull",
+          MethodType.methodType(Object.class, Supplier.class, Object.class));
+      WRAP_EXCEPTION = lookup.findStatic(PipelineImpl.class, "wrapException",
+          MethodType.methodType(Object.class, Function.class, Exception.class));
+      TRANSLATE_EXCEPTION = lookup.findStatic(PipelineImpl.class, "translateException",
+          MethodType.methodType(Object.class, Function.class, RuntimeException.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private final MethodHandle handle;
+
+  private PipelineImpl(MethodHandle handle) {
+    this.handle = handle;
+  }
+
+  static <T> Pipeline<T, T> identity() {
+    return new PipelineImpl<>(IDENTITY);
+  }
+
+  @Override
+  public <V> Pipeline<T, V> map(Function<? super R, ? extends V> function) {
+    return andThen(FUNCTION_APPLY.bindTo(Objects.requireNonNull(function)));
+  }
+
+  @Override
+  public <V> Pipeline<T, V> mapThrowing(ThrowingFunction<? super R, ? extends V, ?> function) {
+    return mapThrowing(function, WrappedException::new);
+  }
+
+  @Override
+  public <V, E extends Exception> Pipeline<T, V> mapThrowing(
+      ThrowingFunction<? super R, ? extends V, E> function,
+      Function<? super E, ? extends RuntimeException> exceptionFactory
+  ) {
+    MethodHandle step = THROWING_FUNCTION_APPLY.bindTo(Objects.requireNonNull(function));
+    MethodHandle handler = MethodHandles.dropArguments(
+        WRAP_EXCEPTION.bindTo(Objects.requireNonNull(exceptionFactory)), 1, Object.class
+    );
+    return andThen(MethodHandles.catchException(step, Exception.class, handler));
+  }
+
+  @Override
+  public <V> Pipeline<T, V> coalesce(
+      Function<? super R, ? extends V> function1, Function<? super R, ? extends V> function2
+  ) {
+    return coalesce(List.of(function1, function2));
+  }
+
+  @Override
+  public <V> Pipeline<T, V> coalesce(List<? extends Function<? super R, ? extends V>> functions) {
+    if (functions.isEmpty()) {
+      return andThen(MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class));
+    }
+    // Nested tree: f1(x) != null ? f1(x) : (f2(x) != null ? f2(x) : ...)
+    MethodHandle step = FUNCTION_APPLY.bindTo(Objects.requireNonNull(functions.get(functions.size() - 1)));
+    for (int i = functions.size() - 2; i >= 0; i--) {
+      MethodHandle function = FUNCTION_APPLY.bindTo(Objects.requireNonNull(functions.get(i)));
+      // (result, value) -> result == null ? next(value) : result
+      MethodHandle select = MethodHandles.guardWithTest(
+          MethodHandles.dropArguments(IS_NULL, 1, Object.class),
+          MethodHandles.dropArguments(step, 0, Object.class),
+          MethodHandles.dropArguments(IDENTITY, 1, Object.class)
+      );
+      step = MethodHandles.foldArguments(select, function);
+    }
+    return andThen(step);
+  }
+
+  @Override
+  public Pipeline<T, R> orElse(R defaultValue) {
+    if (defaultValue == null) {
+      return this;
+    }
+    return andThen(MethodHandles.insertArguments(DEFAULT_IF_NULL, 1, defaultValue));
+  }
+
+  @Override
+  public Pipeline<T, R> orElseGet(Supplier<? extends R> supplier) {
+    return andThen(SUPPLY_IF_NULL.bindTo(Objects.requireNonNull(supplier)));
+  }
+
+  @Override
+  public <X extends RuntimeException> Pipeline<T, R> translateException(
+      Class<X> exceptionClass, Function<? super X, ? extends RuntimeException> translator
+  ) {
+    MethodHandle handler = TRANSLATE_EXCEPTION.bindTo(Objects.requireNonNull(translator))
+        .asType(MethodType.methodType(Object.class, exceptionClass));
+    return new PipelineImpl<>(MethodHandles.catchException(
+        handle, exceptionClass, MethodHandles.dropArguments(handler, 1, Object.class)
+    ));
+  }
+
+  /**
+   * Builds pipeline function.
+   * <p>
+   * Each built function is an instance of its own hidden class, defined from the bytecode of the
+   * {@link PipelineFunctionTemplate} class with the pipeline method handle as class data.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Function<T, R> build() {
+    try {
+      MethodHandles.Lookup functionLookup = MethodHandles.lookup().defineHiddenClassWithClassData(
+          FUNCTION_TEMPLATE, handle.asType(STEP_TYPE), true
+      );
+      return (Function<T, R>) functionLookup.findConstructor(
+          functionLookup.lookupClass(), MethodType.methodType(void.class)
+      ).invoke();
+    } catch (Throwable e) {
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Failed to build function pipeline");
+    }
+  }
+
+  private <V> Pipeline<T, V> andThen(MethodHandle step) {
+    if (handle == IDENTITY) {
+      return new PipelineImpl<>(step);
+    }
+    return new PipelineImpl<>(MethodHandles.filterReturnValue(handle, step));
+  }
+
+  private static Object defaultIfNull(Object value, Object defaultValue) {
+    return value != null ? value : defaultValue;
+  }
+
+  private static Object supplyIfNull(Supplier<?> supplier, Object value) {
+    return value != null ? value : supplier.get();
+  }
+
+  private static Object wrapException(Function<Exception, RuntimeException> exceptionFactory, Exception e) {
+    if (e instanceof RuntimeException) {
+      throw (RuntimeException) e;
+    }
+    throw exceptionFactory.apply(e);
+  }
+
+  private static Object translateException(
+      Function<RuntimeException, RuntimeException> translator, RuntimeException e
+  ) {
+    throw translator.apply(e);
+  }
+
+  private static byte[] readFunctionTemplate() {
+    String name = PipelineFunctionTemplate.class.getSimpleName() + ".class";
+    try (InputStream is = PipelineFunctionTemplate.class.getResourceAsStream(name)) {
+      if (is == null) {
+        throw UnexpectedExceptions.withMessage("Resource {0} is not found", name);
+      }
+      return is.readAllBytes();
+    } catch (IOException e) {
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Failed to read resource {0}", name);
+    }
+  }
+}
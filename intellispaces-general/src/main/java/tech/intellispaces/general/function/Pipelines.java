@@ -0,0 +1,24 @@
+package tech.intellispaces.general.function;
+
+import java.util.function.Function;
+
+/**
+ * Function pipeline provider.
+ */
+public interface Pipelines {
+
+  /**
+   * Returns pipeline that passes the argument as is.
+   */
+  static <T> Pipeline<T, T> identity() {
+    return PipelineImpl.identity();
+  }
+
+  static <T, R> Pipeline<T, R> of(Function<T, R> function) {
+    return PipelineImpl.<T>identity().map(function);
+  }
+
+  static <T, R> Pipeline<T, R> ofThrowing(ThrowingFunction<T, R, ?> function) {
+    return PipelineImpl.<T>identity().mapThrowing(function);
+  }
+}
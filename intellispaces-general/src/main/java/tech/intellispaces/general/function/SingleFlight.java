@@ -0,0 +1,30 @@
+package tech.intellispaces.general.function;
+
+/**
+ * Deduplicator of the concurrent identical calls of the function.
+ * <p>
+ * Concurrent calls with the same key share single in-flight execution of the function and its result or exception.
+ * Results are not kept after the execution completes, the next call with the same key executes the function again.
+ * The function and its exception type are bound on creation, so all callers can receive only the declared
+ * exceptions.
+ *
+ * @param <K> the key type.
+ * @param <V> the result type.
+ * @param <E> the exception type.
+ */
+public interface SingleFlight<K, V, E extends Exception> {
+
+  /**
+   * Executes function or joins in-flight execution with the same key.
+   *
+   * @param key the key.
+   * @return the function result.
+   * @throws E the exception thrown by the function.
+   */
+  V execute(K key) throws E;
+
+  /**
+   * Returns number of the in-flight executions.
+   */
+  int inFlightCount();
+}
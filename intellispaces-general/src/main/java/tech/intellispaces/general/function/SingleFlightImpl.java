@@ -0,0 +1,67 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.exception.ExceptionFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Single-flight deduplicator based on the concurrent map of futures.
+ * <p>
+ * Waiting callers are parked by the future without monitors, so virtual threads are not pinned.
+ */
+class SingleFlightImpl<K, V, E extends Exception> implements SingleFlight<K, V, E> {
+  private static final Object NULL_KEY = new Object();
+
+  private final ThrowingFunction<K, V, E> function;
+  private final ConcurrentHashMap<Object, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+  SingleFlightImpl(ThrowingFunction<K, V, E> function) {
+    this.function = Objects.requireNonNull(function);
+  }
+
+  @Override
+  public V execute(K key) throws E {
+    Object mapKey = key != null ? key : NULL_KEY;
+    var future = new CompletableFuture<V>();
+    CompletableFuture<V> inFlight = calls.putIfAbsent(mapKey, future);
+    if (inFlight != null) {
+      return await(inFlight);
+    }
+
+    V result;
+    try {
+      result = function.applyThrows(key);
+    } catch (Exception | Error e) {
+      calls.remove(mapKey, future);
+      future.completeExceptionally(e);
+      throw e;
+    }
+    calls.remove(mapKey, future);
+    future.complete(result);
+    return result;
+  }
+
+  @Override
+  public int inFlightCount() {
+    return calls.size();
+  }
+
+  private V await(CompletableFuture<V> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw ExceptionFunctions.sneakyThrow((Exception) cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Interrupted while waiting for in-flight execution");
+    }
+  }
+}
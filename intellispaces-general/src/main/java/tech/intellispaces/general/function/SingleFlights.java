@@ -0,0 +1,17 @@
+package tech.intellispaces.general.function;
+
+import java.util.function.Function;
+
+/**
+ * Single-flight deduplicator provider.
+ */
+public interface SingleFlights {
+
+  static <K, V> SingleFlight<K, V, RuntimeException> get(Function<K, V> function) {
+    return new SingleFlightImpl<>(function::apply);
+  }
+
+  static <K, V, E extends Exception> SingleFlight<K, V, E> getThrowing(ThrowingFunction<K, V, E> function) {
+    return new SingleFlightImpl<>(function);
+  }
+}
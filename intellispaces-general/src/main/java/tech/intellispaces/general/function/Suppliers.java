@@ -0,0 +1,51 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.metric.LatencyTimer;
+import tech.intellispaces.general.metric.LatencyTimers;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Supplier provider.
+ */
+public interface Suppliers {
+
+  /**
+   * Wraps supplier to supplier recording latency of each call into timer with given name.
+   *
+   * @param name the timer name.
+   * @param supplier the original supplier.
+   * @return timed supplier.
+   * @param <T> the supplier result type.
+   * @see LatencyTimers
+   */
+  static <T> Supplier<T> timed(String name, Supplier<T> supplier) {
+    return timed(name, supplier, 1);
+  }
+
+  /**
+   * Wraps supplier to supplier recording latency of one of {@code sampleRate} calls into timer with given name.
+   *
+   * @param name the timer name.
+   * @param supplier the original supplier.
+   * @param sampleRate the sample rate.
+   * @return timed supplier.
+   * @param <T> the supplier result type.
+   */
+  static <T> Supplier<T> timed(String name, Supplier<T> supplier, int sampleRate) {
+    Objects.requireNonNull(supplier);
+    LatencyTimer timer = TimedCalls.timer(name, sampleRate);
+    return () -> {
+      long start = timer.start(sampleRate);
+      try {
+        T result = supplier.get();
+        timer.stop(start);
+        return result;
+      } catch (Throwable e) {
+        timer.stopWithError(start);
+        throw e;
+      }
+    };
+  }
+}
@@ -0,0 +1,21 @@
+package tech.intellispaces.general.function;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+import tech.intellispaces.general.metric.LatencyTimer;
+import tech.intellispaces.general.metric.LatencyTimers;
+
+/**
+ * Helper of the timed function wrappers.
+ */
+final class TimedCalls {
+
+  static LatencyTimer timer(String name, int sampleRate) {
+    if (sampleRate < 1) {
+      throw UnexpectedExceptions.withMessage("Sample rate should be positive number. Actual value: {0}",
+          sampleRate);
+    }
+    return LatencyTimers.get(name);
+  }
+
+  private TimedCalls() {}
+}
@@ -0,0 +1,133 @@
+package tech.intellispaces.general.metric;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the latency timer.
+ * <p>
+ * Call and error counts include all calls. Latency statistics are calculated over the sampled calls only.
+ */
+public final class LatencySnapshot {
+  private final String name;
+  private final long count;
+  private final long errorCount;
+  private final long sampleCount;
+  private final long totalSampledNanos;
+  private final long maxNanos;
+  private final long elapsedNanos;
+  private final long[] bucketCounts;
+
+  LatencySnapshot(
+      String name,
+      long count,
+      long errorCount,
+      long totalSampledNanos,
+      long maxNanos,
+      long elapsedNanos,
+      long[] bucketCounts
+  ) {
+    this.name = name;
+    this.count = count;
+    this.errorCount = errorCount;
+    this.totalSampledNanos = totalSampledNanos;
+    this.maxNanos = maxNanos;
+    this.elapsedNanos = elapsedNanos;
+    this.bucketCounts = bucketCounts;
+    long sampleCount = 0;
+    for (long bucketCount : bucketCounts) {
+      sampleCount += bucketCount;
+    }
+    this.sampleCount = sampleCount;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Returns number of the calls.
+   */
+  public long count() {
+    return count;
+  }
+
+  /**
+   * Returns number of the calls completed with exception.
+   */
+  public long errorCount() {
+    return errorCount;
+  }
+
+  /**
+   * Returns number of the calls which latency was recorded.
+   */
+  public long sampleCount() {
+    return sampleCount;
+  }
+
+  /**
+   * Returns number of the calls per second since the timer was created.
+   */
+  public double ratePerSecond() {
+    return elapsedNanos > 0 ? count * 1e9 / elapsedNanos : 0;
+  }
+
+  /**
+   * Returns share of the calls completed with exception.
+   */
+  public double errorRate() {
+    return count > 0 ? (double) errorCount / count : 0;
+  }
+
+  public Duration mean() {
+    return Duration.ofNanos(sampleCount > 0 ? totalSampledNanos / sampleCount : 0);
+  }
+
+  public Duration max() {
+    return Duration.ofNanos(maxNanos);
+  }
+
+  /**
+   * Returns latency percentile.
+   *
+   * @param percentile the percentile in range from 0 to 100.
+   * @return the latency not exceeded by the given percent of the sampled calls.
+   */
+  public Duration percentile(double percentile) {
+    if (sampleCount == 0) {
+      return Duration.ZERO;
+    }
+    long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * sampleCount));
+    long accumulated = 0;
+    for (int i = 0; i < bucketCounts.length; i++) {
+      accumulated += bucketCounts[i];
+      if (accumulated >= rank) {
+        return Duration.ofNanos(Math.min(LogLinearHistogram.highestValue(i), maxNanos));
+      }
+    }
+    return Duration.ofNanos(maxNanos);
+  }
+
+  public Duration p50() {
+    return percentile(50);
+  }
+
+  public Duration p90() {
+    return percentile(90);
+  }
+
+  public Duration p99() {
+    return percentile(99);
+  }
+
+  public Duration p999() {
+    return percentile(99.9);
+  }
+
+  @Override
+  public String toString() {
+    return "LatencySnapshot{name=" + name + ", count=" + count + ", errorCount=" + errorCount
+        + ", sampleCount=" + sampleCount + ", mean=" + mean() + ", p50=" + p50() + ", p99=" + p99()
+        + ", max=" + max() + "}";
+  }
+}
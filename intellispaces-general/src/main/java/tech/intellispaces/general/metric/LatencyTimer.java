@@ -0,0 +1,105 @@
+package tech.intellispaces.general.metric;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timer recording call latencies into the log-linear histogram.
+ * <p>
+ * Recording is lock-free. Usage:
+ * <pre>{@code
+ * long start = timer.start(sampleRate);
+ * try {
+ *   ...
+ *   timer.stop(start);
+ * } catch (Throwable e) {
+ *   timer.stopWithError(start);
+ *   throw e;
+ * }
+ * }</pre>
+ */
+public final class LatencyTimer {
+  /**
+   * Start time of the call which latency is not sampled.
+   */
+  private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+  private final String name;
+  private final long creationTime = System.nanoTime();
+  private final LogLinearHistogram histogram = new LogLinearHistogram();
+  private final LongAdder count = new LongAdder();
+  private final LongAdder errorCount = new LongAdder();
+  private final LongAdder totalSampledNanos = new LongAdder();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  LatencyTimer(String name) {
+    this.name = name;
+  }
+
+  public String name() {
+    return name;
+  }
+
+  /**
+   * Starts the call.
+   *
+   * @param sampleRate the sample rate: the latency of one of {@code sampleRate} calls is recorded.
+   * @return the start time to pass to methods {@link #stop(long)} or {@link #stopWithError(long)}.
+   */
+  public long start(int sampleRate) {
+    if (sampleRate > 1 && ThreadLocalRandom.current().nextInt(sampleRate) != 0) {
+      return NOT_SAMPLED;
+    }
+    long start = System.nanoTime();
+    return start != NOT_SAMPLED ? start : start + 1;
+  }
+
+  /**
+   * Stops the successfully completed call.
+   *
+   * @param start the start time returned by method {@link #start(int)}.
+   */
+  public void stop(long start) {
+    count.increment();
+    if (start != NOT_SAMPLED) {
+      record(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Stops the call completed with exception.
+   *
+   * @param start the start time returned by method {@link #start(int)}.
+   */
+  public void stopWithError(long start) {
+    errorCount.increment();
+    stop(start);
+  }
+
+  /**
+   * Records latency of the call.
+   *
+   * @param nanos the call latency in nanoseconds.
+   */
+  public void record(long nanos) {
+    histogram.record(nanos);
+    totalSampledNanos.add(nanos);
+    long max = maxNanos.get();
+    while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+      max = maxNanos.get();
+    }
+  }
+
+  public LatencySnapshot snapshot() {
+    return new LatencySnapshot(
+        name,
+        count.sum(),
+        errorCount.sum(),
+        totalSampledNanos.sum(),
+        maxNanos.get(),
+        System.nanoTime() - creationTime,
+        histogram.counts()
+    );
+  }
+}
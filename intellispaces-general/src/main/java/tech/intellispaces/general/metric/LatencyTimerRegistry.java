@@ -0,0 +1,28 @@
+package tech.intellispaces.general.metric;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the latency timers by name.
+ */
+final class LatencyTimerRegistry {
+  private static final Map<String, LatencyTimer> TIMERS = new ConcurrentHashMap<>();
+
+  static LatencyTimer get(String name) {
+    return TIMERS.computeIfAbsent(name, LatencyTimer::new);
+  }
+
+  static Map<String, LatencySnapshot> snapshots() {
+    var snapshots = new TreeMap<String, LatencySnapshot>();
+    TIMERS.forEach((name, timer) -> snapshots.put(name, timer.snapshot()));
+    return snapshots;
+  }
+
+  static void remove(String name) {
+    TIMERS.remove(name);
+  }
+
+  private LatencyTimerRegistry() {}
+}
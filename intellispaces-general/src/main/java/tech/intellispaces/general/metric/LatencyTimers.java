@@ -0,0 +1,35 @@
+package tech.intellispaces.general.metric;
+
+import java.util.Map;
+
+/**
+ * Registry of the latency timers.
+ */
+public interface LatencyTimers {
+
+  /**
+   * Returns timer with given name. Creates timer if it does not exist.
+   *
+   * @param name the timer name.
+   * @return the timer.
+   */
+  static LatencyTimer get(String name) {
+    return LatencyTimerRegistry.get(name);
+  }
+
+  /**
+   * Returns snapshots of all registered timers ordered by timer name.
+   */
+  static Map<String, LatencySnapshot> snapshots() {
+    return LatencyTimerRegistry.snapshots();
+  }
+
+  /**
+   * Removes timer with given name.
+   *
+   * @param name the timer name.
+   */
+  static void remove(String name) {
+    LatencyTimerRegistry.remove(name);
+  }
+}
@@ -0,0 +1,56 @@
+package tech.intellispaces.general.metric;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of the non-negative long values with log-linear buckets.
+ * <p>
+ * Each power of two range is divided into {@code 2^SUB_BUCKET_BITS} linear sub-buckets, so the relative error of
+ * the recorded value does not exceed {@code 1 / 2^SUB_BUCKET_BITS}. Values less than {@code 2^SUB_BUCKET_BITS} are
+ * recorded exactly.
+ */
+final class LogLinearHistogram {
+  private static final int SUB_BUCKET_BITS = 5;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+  void record(long value) {
+    counts.getAndIncrement(index(Math.max(0, value)));
+  }
+
+  /**
+   * Returns copy of the bucket counts.
+   */
+  long[] counts() {
+    var copy = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      copy[i] = counts.get(i);
+    }
+    return copy;
+  }
+
+  static int index(long value) {
+    if (value < SUB_BUCKET_COUNT) {
+      return (int) value;
+    }
+    int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+    return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  /**
+   * Returns the highest value recorded into the bucket.
+   */
+  static long highestValue(int index) {
+    if (index < SUB_BUCKET_COUNT) {
+      return index;
+    }
+    int shift = index / SUB_BUCKET_COUNT - 1;
+    long subBucket = index % SUB_BUCKET_COUNT;
+    long lowest = (SUB_BUCKET_COUNT + subBucket) << shift;
+    long highest = lowest + (1L << shift) - 1;
+    return highest < 0 ? Long.MAX_VALUE : highest;
+  }
+}
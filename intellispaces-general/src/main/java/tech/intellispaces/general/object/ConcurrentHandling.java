@@ -0,0 +1,186 @@
+package tech.intellispaces.general.object;
+
+import tech.intellispaces.general.concurrent.ThreadFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Structured concurrent execution of the object handlers.
+ * <p>
+ * Each handler is run on its own virtual thread. The caller waits for all handlers, or until the deadline or
+ * the first failure when all handlers must succeed. Unfinished handlers are interrupted, and the caller waits for
+ * their threads to terminate, so no handler outlives the call.
+ */
+final class ConcurrentHandling {
+  private static final int RUNNING = 0;
+  private static final int SUCCEEDED = 1;
+  private static final int FAILED = 2;
+  private static final int CANCELLED = 3;
+
+  private final List<Runnable> tasks;
+  private final HandlingPolicy policy;
+  private final int[] states;
+  private final Throwable[] exceptions;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+  private int remaining;
+  private boolean failed;
+  private boolean cancelled;
+
+  private ConcurrentHandling(List<Runnable> tasks, HandlingPolicy policy) {
+    this.tasks = tasks;
+    this.policy = policy;
+    this.states = new int[tasks.size()];
+    this.exceptions = new Throwable[tasks.size()];
+    this.remaining = tasks.size();
+  }
+
+  /**
+   * Runs tasks with default policy and rethrows the first failure.
+   */
+  static void run(List<Runnable> tasks) {
+    run(tasks, null, HandlingPolicy.ALL_MUST_SUCCEED).throwIfFailed();
+  }
+
+  static HandlingReport run(List<Runnable> tasks, Duration deadline, HandlingPolicy policy) {
+    return new ConcurrentHandling(tasks, policy).execute(deadline);
+  }
+
+  private HandlingReport execute(Duration deadline) {
+    var threads = new Thread[tasks.size()];
+    for (int i = 0; i < threads.length; i++) {
+      int index = i;
+      threads[i] = ThreadFunctions.virtualThreadFactory().newThread(() -> runTask(index));
+    }
+    for (Thread thread : threads) {
+      thread.start();
+    }
+
+    boolean timedOut;
+    try {
+      timedOut = !await(deadline);
+    } catch (InterruptedException e) {
+      cancel(threads);
+      joinUninterruptibly(threads);
+      Thread.currentThread().interrupt();
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Interrupted while waiting for object handlers");
+    }
+    cancel(threads);
+    joinUninterruptibly(threads);
+    return report(timedOut);
+  }
+
+  private void runTask(int index) {
+    int state;
+    Throwable exception = null;
+    try {
+      tasks.get(index).run();
+      state = SUCCEEDED;
+    } catch (Throwable e) {
+      state = FAILED;
+      exception = e;
+    }
+    lock.lock();
+    try {
+      if (cancelled) {
+        // Handler completed after the deadline or the failure of other handler
+        state = CANCELLED;
+      }
+      states[index] = state;
+      exceptions[index] = exception;
+      remaining--;
+      if (state == FAILED) {
+        failed = true;
+      }
+      changed.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Waits for completion of all handlers or for the first failure.
+   *
+   * @return {@code false} if deadline was exceeded.
+   */
+  private boolean await(Duration deadline) throws InterruptedException {
+    long nanos = deadline != null ? deadline.toNanos() : Long.MAX_VALUE;
+    lock.lock();
+    try {
+      while (remaining > 0 && !(failed && policy == HandlingPolicy.ALL_MUST_SUCCEED)) {
+        if (deadline == null) {
+          changed.await();
+        } else {
+          if (nanos <= 0) {
+            return false;
+          }
+          nanos = changed.awaitNanos(nanos);
+        }
+      }
+      return true;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void cancel(Thread[] threads) {
+    lock.lock();
+    try {
+      if (remaining == 0) {
+        return;
+      }
+      cancelled = true;
+    } finally {
+      lock.unlock();
+    }
+    for (Thread thread : threads) {
+      thread.interrupt();
+    }
+  }
+
+  private HandlingReport report(boolean timedOut) {
+    lock.lock();
+    try {
+      int succeededCount = 0;
+      int cancelledCount = 0;
+      var failures = new ArrayList<Throwable>();
+      for (int i = 0; i < states.length; i++) {
+        switch (states[i]) {
+          case SUCCEEDED:
+            succeededCount++;
+            break;
+          case FAILED:
+            failures.add(exceptions[i]);
+            break;
+          default:
+            cancelledCount++;
+        }
+      }
+      return new HandlingReport(succeededCount, cancelledCount, timedOut, failures);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private static void joinUninterruptibly(Thread[] threads) {
+    boolean interrupted = false;
+    for (Thread thread : threads) {
+      while (true) {
+        try {
+          thread.join();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        }
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
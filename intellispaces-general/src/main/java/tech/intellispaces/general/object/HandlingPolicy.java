@@ -0,0 +1,17 @@
+package tech.intellispaces.general.object;
+
+/**
+ * Policy of the concurrent object handling.
+ */
+public enum HandlingPolicy {
+
+  /**
+   * The first failed handler cancels other handlers.
+   */
+  ALL_MUST_SUCCEED,
+
+  /**
+   * All handlers are completed regardless of failures of other handlers.
+   */
+  BEST_EFFORT
+}
@@ -0,0 +1,94 @@
+package tech.intellispaces.general.object;
+
+import tech.intellispaces.general.exception.ExceptionFunctions;
+
+import java.util.List;
+
+/**
+ * Report of the concurrent object handling.
+ */
+public final class HandlingReport {
+  private final int succeededCount;
+  private final int cancelledCount;
+  private final boolean timedOut;
+  private final List<Throwable> exceptions;
+
+  HandlingReport(int succeededCount, int cancelledCount, boolean timedOut, List<Throwable> exceptions) {
+    this.succeededCount = succeededCount;
+    this.cancelledCount = cancelledCount;
+    this.timedOut = timedOut;
+    this.exceptions = List.copyOf(exceptions);
+    if (!exceptions.isEmpty()) {
+      Throwable first = exceptions.get(0);
+      for (int i = 1; i < exceptions.size(); i++) {
+        if (exceptions.get(i) != first) {
+          first.addSuppressed(exceptions.get(i));
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns number of the successfully completed handlers.
+   */
+  public int succeededCount() {
+    return succeededCount;
+  }
+
+  /**
+   * Returns number of the failed handlers.
+   */
+  public int failedCount() {
+    return exceptions.size();
+  }
+
+  /**
+   * Returns number of the handlers cancelled because of the deadline or failure of other handler.
+   */
+  public int cancelledCount() {
+    return cancelledCount;
+  }
+
+  /**
+   * Checks that deadline was exceeded.
+   */
+  public boolean isTimedOut() {
+    return timedOut;
+  }
+
+  /**
+   * Checks that all handlers completed successfully.
+   */
+  public boolean isSuccessful() {
+    return exceptions.isEmpty() && cancelledCount == 0;
+  }
+
+  /**
+   * Returns exceptions thrown by the failed handlers in order of the handlers.
+   * <p>
+   * Other exceptions are added to the first one as suppressed.
+   */
+  public List<Throwable> exceptions() {
+    return exceptions;
+  }
+
+  /**
+   * Rethrows the first exception as is. Other exceptions are added to it as suppressed.
+   */
+  public void throwIfFailed() {
+    if (exceptions.isEmpty()) {
+      return;
+    }
+    Throwable first = exceptions.get(0);
+    if (first instanceof Error) {
+      throw (Error) first;
+    }
+    throw ExceptionFunctions.sneakyThrow((Exception) first);
+  }
+
+  @Override
+  public String toString() {
+    return "HandlingReport{succeededCount=" + succeededCount + ", failedCount=" + exceptions.size()
+        + ", cancelledCount=" + cancelledCount + ", timedOut=" + timedOut + "}";
+  }
+}
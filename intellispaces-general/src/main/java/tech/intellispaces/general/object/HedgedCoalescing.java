@@ -0,0 +1,153 @@
+package tech.intellispaces.general.object;
+
+import tech.intellispaces.general.concurrent.ThreadFunctions;
+import tech.intellispaces.general.exception.ExceptionFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Concurrent coalescing of the suppliers with hedged launching.
+ * <p>
+ * Suppliers are launched on virtual threads in priority order. The next supplier is launched when the hedge delay
+ * since the previous launch elapses or when all launched suppliers completed without result. Completions are
+ * processed on the caller thread.
+ */
+final class HedgedCoalescing<T> {
+  private final List<Supplier<T>> suppliers;
+  private final long hedgeDelayNanos;
+  private final Thread[] threads;
+  private final boolean[] completed;
+  private final Object[] values;
+  private final Throwable[] exceptions;
+  private final LinkedBlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+  private int launchedCount;
+  private int completedCount;
+
+  private HedgedCoalescing(List<Supplier<T>> suppliers, Duration hedgeDelay) {
+    this.suppliers = suppliers;
+    this.hedgeDelayNanos = hedgeDelay.toNanos();
+    this.threads = new Thread[suppliers.size()];
+    this.completed = new boolean[suppliers.size()];
+    this.values = new Object[suppliers.size()];
+    this.exceptions = new Throwable[suppliers.size()];
+  }
+
+  static <T> T coalesce(List<Supplier<T>> suppliers, Duration hedgeDelay) {
+    if (suppliers.isEmpty()) {
+      return null;
+    }
+    return new HedgedCoalescing<>(suppliers, hedgeDelay).execute();
+  }
+
+  @SuppressWarnings("unchecked")
+  private T execute() {
+    int resolvedCount = 0;
+    long nextLaunchTime = launch();
+    try {
+      while (true) {
+        // Results are accepted in priority order only
+        while (resolvedCount < suppliers.size() && completed[resolvedCount]) {
+          if (values[resolvedCount] != null) {
+            return (T) values[resolvedCount];
+          }
+          resolvedCount++;
+        }
+        if (resolvedCount == suppliers.size()) {
+          rethrowFirstException();
+          return null;
+        }
+
+        if (launchedCount < suppliers.size() && completedCount == launchedCount) {
+          nextLaunchTime = launch();
+          continue;
+        }
+        Completion completion;
+        if (launchedCount < suppliers.size()) {
+          completion = completions.poll(nextLaunchTime - System.nanoTime(), TimeUnit.NANOSECONDS);
+          if (completion == null) {
+            nextLaunchTime = launch();
+            continue;
+          }
+        } else {
+          completion = completions.take();
+        }
+        complete(completion);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Interrupted while waiting for supplier results");
+    } finally {
+      cancel();
+    }
+  }
+
+  private long launch() {
+    int index = launchedCount++;
+    Supplier<T> supplier = suppliers.get(index);
+    threads[index] = ThreadFunctions.virtualThreadFactory().newThread(() -> {
+      try {
+        completions.add(new Completion(index, supplier.get(), null));
+      } catch (Throwable e) {
+        completions.add(new Completion(index, null, e));
+      }
+    });
+    threads[index].start();
+    return System.nanoTime() + hedgeDelayNanos;
+  }
+
+  private void complete(Completion completion) {
+    completed[completion.index] = true;
+    values[completion.index] = completion.value;
+    exceptions[completion.index] = completion.exception;
+    completedCount++;
+  }
+
+  /**
+   * Interrupts suppliers which results are not needed anymore.
+   */
+  private void cancel() {
+    for (int i = 0; i < launchedCount; i++) {
+      if (!completed[i]) {
+        threads[i].interrupt();
+      }
+    }
+  }
+
+  private void rethrowFirstException() {
+    Throwable first = null;
+    for (Throwable exception : exceptions) {
+      if (exception == null) {
+        continue;
+      }
+      if (first == null) {
+        first = exception;
+      } else {
+        first.addSuppressed(exception);
+      }
+    }
+    if (first == null) {
+      return;
+    }
+    if (first instanceof Error) {
+      throw (Error) first;
+    }
+    throw ExceptionFunctions.sneakyThrow((Exception) first);
+  }
+
+  private static final class Completion {
+    final int index;
+    final Object value;
+    final Throwable exception;
+
+    Completion(int index, Object value, Throwable exception) {
+      this.index = index;
+      this.value = value;
+      this.exception = exception;
+    }
+  }
+}
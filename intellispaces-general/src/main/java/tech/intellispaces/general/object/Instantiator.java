@@ -0,0 +1,155 @@
+package tech.intellispaces.general.object;
+
+import tech.intellispaces.general.exception.ExceptionFunctions;
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.function.Supplier;
+
+/**
+ * Cached instantiator of the class by default constructor without parameters.
+ * <p>
+ * Instantiator is created once per class. For accessible classes it is a {@link Supplier} spun by the
+ * {@link LambdaMetafactory}, so the instantiation cost approaches that of operator {@code new}. Classes without
+ * accessible default constructor are negatively cached and fail without repeated constructor lookup. Type and
+ * message of the lookup failure are cached, and each thrown exception gets its own new cause, so callers do not share
+ * mutable exception instances.
+ * <p>
+ * Like in {@link Constructor#newInstance}, exceptions and errors thrown by the constructor are wrapped to the
+ * {@link InvocationTargetException}.
+ *
+ * @param <T> the instantiated class type.
+ */
+final class Instantiator<T> {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+  private static final ClassValue<Instantiator<?>> INSTANTIATORS = new ClassValue<>() {
+    @Override
+    protected Instantiator<?> computeValue(Class<?> type) {
+      return create(type);
+    }
+  };
+
+  private final Class<T> aClass;
+  private final Supplier<T> supplier;
+  private final Constructor<? extends Throwable> failureConstructor;
+  private final String failureCauseMessage;
+  private final String failureMessage;
+
+  private Instantiator(Class<T> aClass, Supplier<T> supplier) {
+    this.aClass = aClass;
+    this.supplier = supplier;
+    this.failureConstructor = null;
+    this.failureCauseMessage = null;
+    this.failureMessage = null;
+  }
+
+  private Instantiator(Class<T> aClass, Throwable failure, String failureMessage) {
+    this.aClass = aClass;
+    this.supplier = null;
+    this.failureConstructor = failureConstructor(failure);
+    this.failureCauseMessage = failure.getMessage();
+    this.failureMessage = failureMessage;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Instantiator<T> get(Class<T> aClass) {
+    return (Instantiator<T>) INSTANTIATORS.get(aClass);
+  }
+
+  T newInstance() {
+    if (supplier == null) {
+      throw UnexpectedExceptions.withCauseAndMessage(newFailure(), failureMessage, aClass.getCanonicalName());
+    }
+    try {
+      return supplier.get();
+    } catch (Throwable e) {
+      throw UnexpectedExceptions.withCauseAndMessage(new InvocationTargetException(e),
+          "Failed to create instance of the class {0}", aClass.getCanonicalName());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> Instantiator<T> create(Class<T> aClass) {
+    Constructor<T> constructor;
+    try {
+      constructor = aClass.getConstructor();
+    } catch (NoSuchMethodException e) {
+      return new Instantiator<>(aClass, e, "Class {0} does not contain default constructor without parameters");
+    }
+    try {
+      if (Modifier.isAbstract(aClass.getModifiers())) {
+        throw new InstantiationException(aClass.getName());
+      }
+      MethodHandle methodHandle = LOOKUP.unreflectConstructor(constructor);
+      Supplier<T> supplier;
+      if (isLinkable(aClass)) {
+        supplier = (Supplier<T>) LambdaMetafactory.metafactory(
+            LOOKUP,
+            "get",
+            MethodType.methodType(Supplier.class),
+            MethodType.methodType(Object.class),
+            methodHandle,
+            MethodType.methodType(aClass)
+        ).getTarget().invokeExact();
+      } else {
+        MethodHandle typedHandle = methodHandle.asType(MethodType.methodType(Object.class));
+        supplier = () -> {
+          try {
+            return (T) typedHandle.invokeExact();
+          } catch (RuntimeException | Error e) {
+            throw e;
+          } catch (Throwable e) {
+            throw ExceptionFunctions.sneakyThrow((Exception) e);
+          }
+        };
+      }
+      return new Instantiator<>(aClass, supplier);
+    } catch (Throwable e) {
+      return new Instantiator<>(aClass, e, "Failed to create instance of the class {0}");
+    }
+  }
+
+  /**
+   * Creates new exception of the cached failure type and message.
+   */
+  private Throwable newFailure() {
+    if (failureConstructor != null) {
+      try {
+        return failureConstructor.newInstance(failureCauseMessage);
+      } catch (ReflectiveOperationException e) {
+        // Fall back to the generic cause
+      }
+    }
+    return new InstantiationException(failureCauseMessage);
+  }
+
+  private static Constructor<? extends Throwable> failureConstructor(Throwable failure) {
+    try {
+      return failure.getClass().getConstructor(String.class);
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks that constructor can be linked by the lambda class defined in this library.
+   */
+  private static boolean isLinkable(Class<?> aClass) {
+    if (!Modifier.isPublic(aClass.getModifiers())
+        || !aClass.getModule().isExported(aClass.getPackageName(), LOOKUP.lookupClass().getModule())) {
+      return false;
+    }
+    try {
+      return Class.forName(aClass.getName(), false, Instantiator.class.getClassLoader()) == aClass;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+}
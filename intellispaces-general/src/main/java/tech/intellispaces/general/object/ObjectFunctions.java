@@ -2,6 +2,7 @@ package tech.intellispaces.general.object;
 
 import tech.intellispaces.general.exception.UnexpectedExceptions;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Consumer;
@@ -265,6 +266,462 @@ public interface ObjectFunctions {
     handler.accept(object5);
   }
 
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. The first failed handler cancels other handlers, its exception
+   * is rethrown as is.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object)
+    ));
+  }
+
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. Handlers not completed before the deadline are cancelled.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object)
+    ), deadline, policy);
+  }
+
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. The first failed handler cancels other handlers, its exception
+   * is rethrown as is.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param handler3 third object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2,
+      Consumer<T> handler3
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object),
+        () -> handler3.accept(object)
+    ));
+  }
+
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. Handlers not completed before the deadline are cancelled.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param handler3 third object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2,
+      Consumer<T> handler3,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object),
+        () -> handler3.accept(object)
+    ), deadline, policy);
+  }
+
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. The first failed handler cancels other handlers, its exception
+   * is rethrown as is.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param handler3 third object handler.
+   * @param handler4 fourth object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2,
+      Consumer<T> handler3,
+      Consumer<T> handler4
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object),
+        () -> handler3.accept(object),
+        () -> handler4.accept(object)
+    ));
+  }
+
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. Handlers not completed before the deadline are cancelled.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param handler3 third object handler.
+   * @param handler4 fourth object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2,
+      Consumer<T> handler3,
+      Consumer<T> handler4,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object),
+        () -> handler3.accept(object),
+        () -> handler4.accept(object)
+    ), deadline, policy);
+  }
+
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. The first failed handler cancels other handlers, its exception
+   * is rethrown as is.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param handler3 third object handler.
+   * @param handler4 fourth object handler.
+   * @param handler5 fifth object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2,
+      Consumer<T> handler3,
+      Consumer<T> handler4,
+      Consumer<T> handler5
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object),
+        () -> handler3.accept(object),
+        () -> handler4.accept(object),
+        () -> handler5.accept(object)
+    ));
+  }
+
+  /**
+   * Concurrently processes the object with the listed handlers.
+   * <p>
+   * Each handler is run on its own virtual thread. Handlers not completed before the deadline are cancelled.
+   *
+   * @param object object for processing.
+   * @param handler1 first object handler.
+   * @param handler2 second object handler.
+   * @param handler3 third object handler.
+   * @param handler4 fourth object handler.
+   * @param handler5 fifth object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleConcurrently(
+      T object,
+      Consumer<T> handler1,
+      Consumer<T> handler2,
+      Consumer<T> handler3,
+      Consumer<T> handler4,
+      Consumer<T> handler5,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler1.accept(object),
+        () -> handler2.accept(object),
+        () -> handler3.accept(object),
+        () -> handler4.accept(object),
+        () -> handler5.accept(object)
+    ), deadline, policy);
+  }
+
+  /**
+   * Concurrently processes two values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. The first failure cancels processing of other values, its
+   * exception is rethrown as is.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param handler object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleEachConcurrently(
+      T object1,
+      T object2,
+      Consumer<T> handler
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2)
+    ));
+  }
+
+  /**
+   * Concurrently processes two values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. Values not processed before the deadline are cancelled.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param handler object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleEachConcurrently(
+      T object1,
+      T object2,
+      Consumer<T> handler,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2)
+    ), deadline, policy);
+  }
+
+  /**
+   * Concurrently processes three values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. The first failure cancels processing of other values, its
+   * exception is rethrown as is.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param object3 third object for processing.
+   * @param handler object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleEachConcurrently(
+      T object1,
+      T object2,
+      T object3,
+      Consumer<T> handler
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2),
+        () -> handler.accept(object3)
+    ));
+  }
+
+  /**
+   * Concurrently processes three values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. Values not processed before the deadline are cancelled.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param object3 third object for processing.
+   * @param handler object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleEachConcurrently(
+      T object1,
+      T object2,
+      T object3,
+      Consumer<T> handler,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2),
+        () -> handler.accept(object3)
+    ), deadline, policy);
+  }
+
+  /**
+   * Concurrently processes four values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. The first failure cancels processing of other values, its
+   * exception is rethrown as is.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param object3 third object for processing.
+   * @param object4 fourth object for processing.
+   * @param handler object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleEachConcurrently(
+      T object1,
+      T object2,
+      T object3,
+      T object4,
+      Consumer<T> handler
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2),
+        () -> handler.accept(object3),
+        () -> handler.accept(object4)
+    ));
+  }
+
+  /**
+   * Concurrently processes four values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. Values not processed before the deadline are cancelled.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param object3 third object for processing.
+   * @param object4 fourth object for processing.
+   * @param handler object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleEachConcurrently(
+      T object1,
+      T object2,
+      T object3,
+      T object4,
+      Consumer<T> handler,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2),
+        () -> handler.accept(object3),
+        () -> handler.accept(object4)
+    ), deadline, policy);
+  }
+
+  /**
+   * Concurrently processes five values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. The first failure cancels processing of other values, its
+   * exception is rethrown as is.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param object3 third object for processing.
+   * @param object4 fourth object for processing.
+   * @param object5 fifth object for processing.
+   * @param handler object handler.
+   * @param <T> object type.
+   */
+  static <T> void handleEachConcurrently(
+      T object1,
+      T object2,
+      T object3,
+      T object4,
+      T object5,
+      Consumer<T> handler
+  ) {
+    ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2),
+        () -> handler.accept(object3),
+        () -> handler.accept(object4),
+        () -> handler.accept(object5)
+    ));
+  }
+
+  /**
+   * Concurrently processes five values with the given handler.
+   * <p>
+   * Each value is processed on its own virtual thread. Values not processed before the deadline are cancelled.
+   *
+   * @param object1 first object for processing.
+   * @param object2 second object for processing.
+   * @param object3 third object for processing.
+   * @param object4 fourth object for processing.
+   * @param object5 fifth object for processing.
+   * @param handler object handler.
+   * @param deadline the maximum duration of the handling.
+   * @param policy the handling policy.
+   * @param <T> object type.
+   * @return the handling report.
+   */
+  static <T> HandlingReport handleEachConcurrently(
+      T object1,
+      T object2,
+      T object3,
+      T object4,
+      T object5,
+      Consumer<T> handler,
+      Duration deadline,
+      HandlingPolicy policy
+  ) {
+    return ConcurrentHandling.run(List.of(
+        () -> handler.accept(object1),
+        () -> handler.accept(object2),
+        () -> handler.accept(object3),
+        () -> handler.accept(object4),
+        () -> handler.accept(object5)
+    ), deadline, policy);
+  }
+
   static <T> T coalesce(Supplier<T> suppler1, Supplier<T> suppler2) {
     return coalesce(List.of(suppler1, suppler2));
   }
@@ -279,6 +736,40 @@ public interface ObjectFunctions {
     return null;
   }
 
+  /**
+   * Returns the highest priority non-null result of two suppliers launched concurrently.
+   *
+   * @param supplier1 the first supplier.
+   * @param supplier2 the second supplier.
+   * @param hedgeDelay the delay before launching the second supplier.
+   * @return the first non-null result in order of the suppliers or {@code null} if all results are null.
+   * @param <T> the result type.
+   * @see #coalesceConcurrently(List, Duration)
+   */
+  static <T> T coalesceConcurrently(Supplier<T> supplier1, Supplier<T> supplier2, Duration hedgeDelay) {
+    return coalesceConcurrently(List.of(supplier1, supplier2), hedgeDelay);
+  }
+
+  /**
+   * Returns the highest priority non-null result of the suppliers launched concurrently.
+   * <p>
+   * Suppliers are launched on virtual threads in the list order. Each next supplier is launched when the hedge delay
+   * since the previous launch elapses or when all launched suppliers returned null. Zero delay launches all suppliers
+   * at once. The result of the supplier is returned as soon as all preceding suppliers returned null, the remaining
+   * suppliers are interrupted.
+   * <p>
+   * The exception thrown by the supplier is treated as null result. If no supplier returns non-null result,
+   * the first exception is rethrown as is.
+   *
+   * @param suppliers the suppliers in priority order.
+   * @param hedgeDelay the delay before launching the next supplier.
+   * @return the first non-null result in order of the suppliers or {@code null} if all results are null.
+   * @param <T> the result type.
+   */
+  static <T> T coalesceConcurrently(List<Supplier<T>> suppliers, Duration hedgeDelay) {
+    return HedgedCoalescing.coalesce(suppliers, hedgeDelay);
+  }
+
   static <T, R> R coalesce(T object, Function<T, R> function1, Function<T, R> function2) {
     return coalesce(object, List.of(function1, function2));
   }
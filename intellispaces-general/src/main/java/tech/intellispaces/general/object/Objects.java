@@ -1,26 +1,22 @@
 package tech.intellispaces.general.object;
 
-import tech.intellispaces.general.exception.UnexpectedExceptions;
-
-import java.lang.reflect.Constructor;
-
 /**
  * Object provider.
  */
 public interface Objects {
 
+  /**
+   * Creates instance of the class by default constructor without parameters.
+   * <p>
+   * Constructor lookup is performed once per class, the instantiator is cached.
+   *
+   * @param aClass the class.
+   * @return the new instance.
+   * @param <T> the class type.
+   */
   static <T> T get(Class<T> aClass) {
     java.util.Objects.requireNonNull(aClass);
-    try {
-      Constructor<T> constructor = aClass.getConstructor();
-      return constructor.newInstance();
-    } catch (NoSuchMethodException e) {
-      throw UnexpectedExceptions.withCauseAndMessage(e, "Class {0} does not contain default constructor " +
-          "without parameters", aClass.getCanonicalName());
-    } catch (Exception e) {
-      throw UnexpectedExceptions.withCauseAndMessage(e, "Failed to create instance of the class {0}",
-          aClass.getCanonicalName());
-    }
+    return Instantiator.get(aClass).newInstance();
   }
 
   /**
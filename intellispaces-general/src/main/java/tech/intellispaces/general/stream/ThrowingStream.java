@@ -0,0 +1,70 @@
+package tech.intellispaces.general.stream;
+
+import tech.intellispaces.general.function.ThrowingBiFunction;
+import tech.intellispaces.general.function.ThrowingConsumer;
+import tech.intellispaces.general.function.ThrowingFunction;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Stream of elements which stages can throw checked exception.
+ * <p>
+ * Intermediate stages are fused and executed element by element in one loop when the stream is sequential.
+ * Terminal operations rethrow the exception thrown by any stage as is.
+ *
+ * @param <T> the stream element type.
+ * @param <E> the exception type.
+ */
+public interface ThrowingStream<T, E extends Exception> {
+
+  /**
+   * Returns stream consisting of the results of applying the given function to the elements of this stream.
+   *
+   * @param mapper the element mapper.
+   * @return new stream.
+   * @param <R> the new element type.
+   */
+  <R> ThrowingStream<R, E> map(ThrowingFunction<? super T, ? extends R, ? extends E> mapper);
+
+  /**
+   * Returns stream consisting of the elements of this stream that match the given predicate.
+   *
+   * @param predicate the element predicate.
+   * @return new stream.
+   */
+  ThrowingStream<T, E> filter(ThrowingFunction<? super T, Boolean, ? extends E> predicate);
+
+  /**
+   * Returns stream that additionally performs the given action on each element.
+   *
+   * @param action the element action.
+   * @return new stream.
+   */
+  ThrowingStream<T, E> peek(ThrowingConsumer<? super T, ? extends E> action);
+
+  /**
+   * Returns parallel stream with the same stages.
+   */
+  ThrowingStream<T, E> parallel();
+
+  /**
+   * Returns sequential stream with the same stages.
+   */
+  ThrowingStream<T, E> sequential();
+
+  boolean isParallel();
+
+  /**
+   * Returns unmodifiable list of the stream elements.
+   */
+  List<T> toList() throws E;
+
+  void forEach(ThrowingConsumer<? super T, ? extends E> action) throws E;
+
+  T reduce(T identity, ThrowingBiFunction<T, T, T, ? extends E> accumulator) throws E;
+
+  Optional<T> findFirst() throws E;
+
+  long count() throws E;
+}
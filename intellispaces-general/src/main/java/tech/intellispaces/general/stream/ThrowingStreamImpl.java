@@ -0,0 +1,247 @@
+package tech.intellispaces.general.stream;
+
+import tech.intellispaces.general.collection.CollectionFunctions;
+import tech.intellispaces.general.function.ThrowingBiFunction;
+import tech.intellispaces.general.function.ThrowingConsumer;
+import tech.intellispaces.general.function.ThrowingFunction;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+class ThrowingStreamImpl<T, E extends Exception> implements ThrowingStream<T, E> {
+  private final Iterable<?> source;
+  private final ThrowingFunction<Object, Object, E>[] stages;
+  private final boolean mappersOnly;
+  private final boolean parallel;
+
+  ThrowingStreamImpl(Iterable<T> source) {
+    this(source, newStages(0), true, false);
+  }
+
+  private ThrowingStreamImpl(
+      Iterable<?> source, ThrowingFunction<Object, Object, E>[] stages, boolean mappersOnly, boolean parallel
+  ) {
+    this.source = Objects.requireNonNull(source);
+    this.stages = stages;
+    this.mappersOnly = mappersOnly;
+    this.parallel = parallel;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <R> ThrowingStream<R, E> map(ThrowingFunction<? super T, ? extends R, ? extends E> mapper) {
+    Objects.requireNonNull(mapper);
+    return addStage((ThrowingFunction<Object, Object, E>) mapper, mappersOnly);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ThrowingStream<T, E> filter(ThrowingFunction<? super T, Boolean, ? extends E> predicate) {
+    Objects.requireNonNull(predicate);
+    var objectPredicate = (ThrowingFunction<Object, Boolean, E>) predicate;
+    return addStage(value -> objectPredicate.applyThrows(value) ? value : SKIPPED, false);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ThrowingStream<T, E> peek(ThrowingConsumer<? super T, ? extends E> action) {
+    Objects.requireNonNull(action);
+    var objectAction = (ThrowingConsumer<Object, E>) action;
+    return addStage(value -> {
+      objectAction.acceptThrows(value);
+      return value;
+    }, mappersOnly);
+  }
+
+  @Override
+  public ThrowingStream<T, E> parallel() {
+    return parallel ? this : new ThrowingStreamImpl<>(source, stages, mappersOnly, true);
+  }
+
+  @Override
+  public ThrowingStream<T, E> sequential() {
+    return parallel ? new ThrowingStreamImpl<>(source, stages, mappersOnly, false) : this;
+  }
+
+  @Override
+  public boolean isParallel() {
+    return parallel;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<T> toList() throws E {
+    if (parallel) {
+      return evaluateParallel(stream -> (List<T>) stream.toList());
+    }
+    if (mappersOnly && source instanceof Collection) {
+      return Collections.unmodifiableList(
+          (List<T>) CollectionFunctions.mapEach((Collection<Object>) source, this::process)
+      );
+    }
+    var result = new ArrayList<T>(source instanceof Collection ? ((Collection<?>) source).size() : 10);
+    for (Object element : source) {
+      Object value = process(element);
+      if (value != SKIPPED) {
+        result.add((T) value);
+      }
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(ThrowingConsumer<? super T, ? extends E> action) throws E {
+    Objects.requireNonNull(action);
+    if (parallel) {
+      evaluateParallel(stream -> {
+        var objectAction = (ThrowingConsumer<Object, ? extends E>) action;
+        stream.forEach(value -> {
+          try {
+            objectAction.acceptThrows(value);
+          } catch (Exception e) {
+            throw new StageException(e);
+          }
+        });
+        return null;
+      });
+      return;
+    }
+    for (Object element : source) {
+      Object value = process(element);
+      if (value != SKIPPED) {
+        action.acceptThrows((T) value);
+      }
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T reduce(T identity, ThrowingBiFunction<T, T, T, ? extends E> accumulator) throws E {
+    Objects.requireNonNull(accumulator);
+    if (parallel) {
+      var objectAccumulator = (ThrowingBiFunction<Object, Object, Object, ? extends E>) accumulator;
+      return evaluateParallel(stream -> (T) stream.reduce(identity, (value1, value2) -> {
+        try {
+          return objectAccumulator.applyThrows(value1, value2);
+        } catch (Exception e) {
+          throw new StageException(e);
+        }
+      }));
+    }
+    T result = identity;
+    for (Object element : source) {
+      Object value = process(element);
+      if (value != SKIPPED) {
+        result = accumulator.applyThrows(result, (T) value);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Optional<T> findFirst() throws E {
+    if (parallel) {
+      return evaluateParallel(stream -> (Optional<T>) stream.findFirst());
+    }
+    for (Object element : source) {
+      Object value = process(element);
+      if (value != SKIPPED) {
+        return Optional.of((T) value);
+      }
+    }
+    return Optional.empty();
+  }
+
+  @Override
+  public long count() throws E {
+    if (parallel) {
+      return evaluateParallel(Stream::count);
+    }
+    long count = 0;
+    for (Object element : source) {
+      if (process(element) != SKIPPED) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Passes the element through all stages.
+   *
+   * @param element the source element.
+   * @return the processed value or {@link #SKIPPED} if element was filtered out.
+   */
+  private Object process(Object element) throws E {
+    Object value = element;
+    for (ThrowingFunction<Object, Object, E> stage : stages) {
+      value = stage.applyThrows(value);
+      if (value == SKIPPED) {
+        return SKIPPED;
+      }
+    }
+    return value;
+  }
+
+  private Object processInStream(Object element) {
+    try {
+      return process(element);
+    } catch (Exception e) {
+      throw new StageException(e);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R> R evaluateParallel(Function<Stream<Object>, R> terminalOperation) throws E {
+    Stream<Object> stream = StreamSupport.stream(source.spliterator(), true)
+        .map(this::processInStream)
+        .filter(value -> value != SKIPPED);
+    try {
+      return terminalOperation.apply(stream);
+    } catch (StageException e) {
+      // Fork/join framework may rethrow a copy of the exception thrown in the worker thread
+      Throwable exception = e.getCause();
+      while (exception instanceof StageException) {
+        exception = exception.getCause();
+      }
+      if (exception instanceof RuntimeException) {
+        throw (RuntimeException) exception;
+      }
+      throw (E) exception;
+    }
+  }
+
+  private <R> ThrowingStream<R, E> addStage(ThrowingFunction<Object, Object, E> stage, boolean mappersOnly) {
+    ThrowingFunction<Object, Object, E>[] newStages = Arrays.copyOf(stages, stages.length + 1);
+    newStages[stages.length] = stage;
+    return new ThrowingStreamImpl<>(source, newStages, mappersOnly, parallel);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <E extends Exception> ThrowingFunction<Object, Object, E>[] newStages(int length) {
+    return (ThrowingFunction<Object, Object, E>[]) new ThrowingFunction<?, ?, ?>[length];
+  }
+
+  private static final Object SKIPPED = new Object();
+
+  /**
+   * Carrier of the exception thrown by the stage or terminal operation in the parallel stream.
+   */
+  @SuppressWarnings("serial")
+  private static final class StageException extends RuntimeException {
+
+    StageException(Exception cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package tech.intellispaces.general.stream;
+
+/**
+ * Throwing stream provider.
+ */
+public interface ThrowingStreams {
+
+  static <T, E extends Exception> ThrowingStream<T, E> get(Iterable<T> source) {
+    return new ThrowingStreamImpl<>(source);
+  }
+
+  static <T, E extends Exception> ThrowingStream<T, E> get(Iterable<T> source, Class<E> exceptionClass) {
+    return new ThrowingStreamImpl<>(source);
+  }
+}
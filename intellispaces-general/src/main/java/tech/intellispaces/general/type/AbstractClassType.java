@@ -1,5 +1,6 @@
 package tech.intellispaces.general.type;
 
+import java.util.List;
 import java.util.Objects;
 
 public abstract class AbstractClassType<T> implements ClassType<T> {
@@ -22,6 +23,9 @@ public abstract class AbstractClassType<T> implements ClassType<T> {
     if (o == null || !Type.class.isAssignableFrom(o.getClass())) {
       return false;
     }
+    if (o instanceof AbstractClassType && hashCode() != o.hashCode()) {
+      return false;
+    }
     var type = (ClassType<?>) o;
     return Objects.equals(baseClass(), type.baseClass())
         && Objects.equals(qualifierTypes(), type.qualifierTypes());
@@ -29,6 +33,15 @@ public abstract class AbstractClassType<T> implements ClassType<T> {
 
   @Override
   public int hashCode() {
-    return Objects.hash(baseClass(), qualifierTypes());
+    return hash(baseClass(), qualifierTypes());
+  }
+
+  /**
+   * Calculates structural hash of the class type.
+   * <p>
+   * The hash is equal to {@code Objects.hash(baseClass, qualifierTypes)}, but is calculated without allocation.
+   */
+  static int hash(Class<?> baseClass, List<Type<?>> qualifierTypes) {
+    return 31 * (31 + Objects.hashCode(baseClass)) + Objects.hashCode(qualifierTypes);
   }
 }
@@ -8,7 +8,6 @@ import tech.intellispaces.general.exception.UnexpectedExceptions;
 
 import java.io.File;
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -23,29 +22,107 @@ import java.util.function.Supplier;
 public class ClassFunctions {
   private static final Logger LOG = LoggerFactory.getLogger(ClassFunctions.class);
 
+  /**
+   * Returns class by name using class loader of this library.
+   * <p>
+   * Lookups of the found and missing classes are cached, see {@link #invalidateClassCache(ClassLoader)}.
+   *
+   * @param className the class name.
+   * @return the class or empty optional if class is not found.
+   */
   public static Optional<Class<?>> getClass(String className) {
-    try {
-      return Optional.of(Class.forName(className));
-    } catch (ClassNotFoundException e) {
-      return Optional.empty();
-    }
+    return getClass(className, ClassFunctions.class.getClassLoader());
+  }
+
+  /**
+   * Returns class by name using given class loader.
+   *
+   * @param className the class name.
+   * @param classLoader the class loader or <code>null</code> for the bootstrap class loader.
+   * @return the class or empty optional if class is not found.
+   */
+  public static Optional<Class<?>> getClass(String className, ClassLoader classLoader) {
+    return ClassLookupCache.get(className, classLoader);
+  }
+
+  /**
+   * Invalidates cached class lookups of the class loader.
+   * <p>
+   * Should be called when new classes become available to the class loader, for example after extension of the
+   * class path of the plugin class loader.
+   *
+   * @param classLoader the class loader or <code>null</code> for the bootstrap class loader.
+   */
+  public static void invalidateClassCache(ClassLoader classLoader) {
+    ClassLookupCache.invalidate(classLoader);
+  }
+
+  /**
+   * Invalidates all cached class lookups.
+   */
+  public static void invalidateClassCache() {
+    ClassLookupCache.invalidateAll();
   }
 
-  @SuppressWarnings("unchecked")
   public static <F> F getStaticField(
       Class<?> aClass, String fieldName, Class<F> fieldClass
   ) throws NoSuchFieldException, IllegalAccessException {
-    Field field = aClass.getDeclaredField(fieldName);
-    field.setAccessible(true);
-    return (F) field.get(null);
+    return StaticFieldAccessorImpl.<F>get(aClass, fieldName).get();
   }
 
+  /**
+   * Sets value of the static field.
+   * <p>
+   * Value is set by the cached field accessor. Value must be an instance of the field type or its wrapper class,
+   * otherwise {@link IllegalArgumentException} is thrown. Widening conversions are not applied.
+   *
+   * @param aClass the class declaring the field.
+   * @param fieldName the field name.
+   * @param newValue the new value.
+   * @throws NoSuchFieldException if the field is not found.
+   * @throws IllegalAccessException if the field is final or not accessible.
+   * @throws IllegalArgumentException if the value does not match the field type.
+   */
   public static void setStaticField(
       Class<?> aClass, String fieldName, Object newValue
   ) throws NoSuchFieldException, IllegalAccessException {
-    Field field = aClass.getDeclaredField(fieldName);
-    field.setAccessible(true);
-    field.set(null, newValue);
+    StaticFieldAccessorImpl<Object> accessor = StaticFieldAccessorImpl.get(aClass, fieldName);
+    if (accessor.isReadOnly()) {
+      throw new IllegalAccessException("Can not set static final field " + fieldName + " of the class "
+          + aClass.getCanonicalName());
+    }
+    if (newValue == null ? accessor.fieldType().isPrimitive()
+        : !getObjectClass(accessor.fieldType()).isInstance(newValue)) {
+      throw new IllegalArgumentException("Can not set static field " + fieldName + " of the class "
+          + aClass.getCanonicalName() + " of type " + accessor.fieldType().getCanonicalName() + " to value "
+          + (newValue == null ? "null" : "of type " + newValue.getClass().getCanonicalName()));
+    }
+    accessor.set(newValue);
+  }
+
+  /**
+   * Returns accessor of the static field.
+   * <p>
+   * Accessor is created once per class and field name. Private fields are accessible if the package of the class is
+   * open to this library.
+   *
+   * @param aClass the class declaring the field.
+   * @param fieldName the field name.
+   * @param fieldClass the field class or its wrapper class.
+   * @return the field accessor.
+   * @param <F> the field type.
+   * @throws NoSuchFieldException if the field is not found.
+   * @throws IllegalAccessException if the field is not accessible.
+   */
+  public static <F> StaticFieldAccessor<F> getStaticFieldAccessor(
+      Class<?> aClass, String fieldName, Class<F> fieldClass
+  ) throws NoSuchFieldException, IllegalAccessException {
+    StaticFieldAccessorImpl<F> accessor = StaticFieldAccessorImpl.get(aClass, fieldName);
+    if (!getObjectClass(fieldClass).isAssignableFrom(getObjectClass(accessor.fieldType()))) {
+      throw UnexpectedExceptions.withMessage("Field {0} of the class {1} has type {2}",
+          fieldName, aClass.getCanonicalName(), accessor.fieldType().getCanonicalName());
+    }
+    return accessor;
   }
 
   public static Class<?> getClassOrElseThrow(String className) {
@@ -59,19 +136,29 @@ public class ClassFunctions {
     return getClass(className).orElseThrow(exceptionSupplier);
   }
 
+  /**
+   * Checks that annotation is present on the class, its superclasses or any of its interfaces.
+   * <p>
+   * Annotations of the class hierarchy are indexed on the first call.
+   *
+   * @param aClass the class.
+   * @param annotation the annotation class.
+   * @return <code>true</code> if annotation is present.
+   */
   public static boolean hasAnnotationDeep(Class<?> aClass, Class<? extends Annotation> annotation) {
-    if (aClass.isAnnotationPresent(annotation)) {
-      return true;
-    }
-    if (aClass.getSuperclass() != null && hasAnnotationDeep(aClass.getSuperclass(), annotation)) {
-      return true;
-    }
-    for (Class<?> interfaceClass : aClass.getInterfaces()) {
-      if (hasAnnotationDeep(interfaceClass, annotation)) {
-        return true;
-      }
-    }
-    return false;
+    return DeepAnnotations.has(aClass, annotation);
+  }
+
+  /**
+   * Returns annotation of the class, its superclasses or any of its interfaces.
+   *
+   * @param aClass the class.
+   * @param annotation the annotation class.
+   * @return the annotation or empty optional if annotation is not present.
+   * @param <A> the annotation type.
+   */
+  public static <A extends Annotation> Optional<A> findAnnotationDeep(Class<?> aClass, Class<A> annotation) {
+    return Optional.ofNullable(DeepAnnotations.find(aClass, annotation));
   }
 
   public static Optional<String> getJavaLibraryName(Class<?> aClass) {
@@ -95,26 +182,10 @@ public class ClassFunctions {
     if (!aClass.isPrimitive()) {
       return aClass;
     }
-    if (aClass == boolean.class) {
-      return Boolean.class;
-    } else if (aClass == byte.class) {
-      return Byte.class;
-    } else if (aClass == short.class) {
-      return Short.class;
-    } else if (aClass == int.class) {
-      return Integer.class;
-    } else if (aClass == long.class) {
-      return Long.class;
-    } else if (aClass == char.class) {
-      return Character.class;
-    } else if (aClass == float.class) {
-      return Float.class;
-    } else if (aClass == double.class) {
-      return Double.class;
-    } else if (aClass == void.class) {
+    if (aClass == void.class) {
       return Void.class;
     }
-    return aClass;
+    return PrimitiveRegistry.ofClass(aClass).wrapperClass();
   }
 
   @SuppressWarnings("unchecked")
@@ -123,11 +194,11 @@ public class ClassFunctions {
   }
 
   public static Class<?> getPrimitiveWrapperClass(String primitiveType) {
-    Class<?> primitiveClass = PRIMITIVE_TO_WRAPPER_CLASSES_MAP.get(primitiveType);
-    if (primitiveClass == null) {
+    PrimitiveTypes primitive = PrimitiveRegistry.ofTypename(primitiveType);
+    if (primitive == null) {
       throw UnexpectedExceptions.withMessage("Not primitive typename: {0}", primitiveType);
     }
-    return primitiveClass;
+    return primitive.wrapperClass();
   }
 
   public static List<Class<?>> getParents(Class<?> aClass) {
@@ -137,6 +208,33 @@ public class ClassFunctions {
     return result;
   }
 
+  /**
+   * Returns all supertypes of the class.
+   * <p>
+   * Supertypes are linearized: superclasses from the nearest one to the {@link Object} go first, then interfaces
+   * follow. Every interface precedes its superinterfaces, otherwise interfaces are ordered by declaration. The result
+   * is computed once per class.
+   *
+   * @param aClass the class.
+   * @return the unmodifiable list of supertypes without the class itself.
+   */
+  public static List<Class<?>> getAllSupertypes(Class<?> aClass) {
+    return ClassHierarchy.supertypes(aClass);
+  }
+
+  /**
+   * Checks if the class is the same as or is a subtype of the other class.
+   * <p>
+   * Result is the same as of {@link Class#isAssignableFrom(Class)}, but check is backed by cached hierarchy.
+   *
+   * @param aClass the class.
+   * @param supertype the supposed supertype.
+   * @return <code>true</code> if class is subtype of the other class.
+   */
+  public static boolean isSubtypeOf(Class<?> aClass, Class<?> supertype) {
+    return ClassHierarchy.isSubtype(aClass, supertype);
+  }
+
   public static boolean isLanguageClass(Class<?> aClass) {
     return isLanguageClass(aClass.getCanonicalName());
   }
@@ -160,26 +258,29 @@ public class ClassFunctions {
   }
 
   public static String getPrimitiveTypeOfWrapper(String wrapperCanonicalName) {
-    String primitiveType = WRAPPER_CLASS_TO_PRIMITIVE_MAP.get(wrapperCanonicalName);
-    if (primitiveType == null) {
+    PrimitiveTypes primitive = PrimitiveRegistry.ofWrapperName(wrapperCanonicalName);
+    if (primitive == null) {
       throw UnexpectedExceptions.withMessage("Not primitive wrapper: {0}", wrapperCanonicalName);
     }
-    return primitiveType;
+    return primitive.typename();
   }
 
   public static Optional<PrimitiveType> primitiveByWrapperClassName(String canonicalName) {
-    PrimitiveType primitiveType = null;
-    for (PrimitiveType p : PrimitiveTypes.values()) {
-      if (p.wrapperClass().getCanonicalName().equals(canonicalName)) {
-        primitiveType = p;
-        break;
-      }
-    }
-    return Optional.ofNullable(primitiveType);
+    return Optional.ofNullable(PrimitiveRegistry.ofWrapperName(canonicalName));
+  }
+
+  /**
+   * Returns primitive type of the wrapper class.
+   *
+   * @param wrapperClass the wrapper class.
+   * @return the primitive type or empty optional if class is not wrapper of the primitive type.
+   */
+  public static Optional<PrimitiveType> primitiveByWrapperClass(Class<?> wrapperClass) {
+    return Optional.ofNullable(PrimitiveRegistry.ofWrapperClass(wrapperClass));
   }
 
   public static boolean isPrimitiveWrapperClass(String classCanonicalName) {
-    return WRAPPER_CLASS_TO_PRIMITIVE_MAP.containsKey(classCanonicalName);
+    return PrimitiveRegistry.ofWrapperName(classCanonicalName) != null;
   }
 
   private ClassFunctions() {}
@@ -204,26 +305,4 @@ public class ClassFunctions {
     DEFAULT_VALUES.put(Float.class, 0.0f);
     DEFAULT_VALUES.put(Double.class, 0.0);
   }
-
-  private static final Map<String, String> WRAPPER_CLASS_TO_PRIMITIVE_MAP = Map.of(
-      Boolean.class.getCanonicalName(), "boolean",
-      Character.class.getCanonicalName(), "char",
-      Byte.class.getCanonicalName(), "byte",
-      Short.class.getCanonicalName(), "short",
-      Integer.class.getCanonicalName(), "int",
-      Long.class.getCanonicalName(), "long",
-      Float.class.getCanonicalName(), "float",
-      Double.class.getCanonicalName(), "double"
-  );
-
-  private static final Map<String, Class<?>> PRIMITIVE_TO_WRAPPER_CLASSES_MAP = Map.of(
-      "boolean", Boolean.class,
-      "char", Character.class,
-      "byte", Byte.class,
-      "short", Short.class,
-      "int", Integer.class,
-      "long", Long.class,
-      "float", Float.class,
-      "double", Double.class
-  );
 }
@@ -0,0 +1,92 @@
+package tech.intellispaces.general.type;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Linearized hierarchy of the class.
+ * <p>
+ * Linearization contains superclasses from the nearest one to the {@link Object}, then all interfaces. Every interface
+ * precedes its superinterfaces, otherwise interfaces are ordered by declaration, interfaces of the class before the
+ * interfaces of its superclasses. {@link Object} is the last supertype of the interface.
+ * <p>
+ * Hierarchy stores the set of the class and its supertypes, so the subtype check is one hash lookup. The set size is
+ * proportional to the number of the supertypes of the class only.
+ */
+final class ClassHierarchy {
+
+  private static final ClassValue<ClassHierarchy> HIERARCHIES = new ClassValue<>() {
+    @Override
+    protected ClassHierarchy computeValue(Class<?> aClass) {
+      return new ClassHierarchy(aClass, linearize(aClass));
+    }
+  };
+
+  private final List<Class<?>> supertypes;
+  private final Set<Class<?>> types;
+
+  private ClassHierarchy(Class<?> aClass, List<Class<?>> supertypes) {
+    this.supertypes = supertypes;
+
+    var types = new ArrayList<Class<?>>(supertypes.size() + 1);
+    types.add(aClass);
+    types.addAll(supertypes);
+    this.types = Set.copyOf(types);
+  }
+
+  static List<Class<?>> supertypes(Class<?> aClass) {
+    return HIERARCHIES.get(aClass).supertypes;
+  }
+
+  static boolean isSubtype(Class<?> aClass, Class<?> supertype) {
+    if (aClass == supertype) {
+      return true;
+    }
+    if (aClass.isArray()) {
+      return supertype.isAssignableFrom(aClass);
+    }
+    return HIERARCHIES.get(aClass).types.contains(supertype);
+  }
+
+  private static List<Class<?>> linearize(Class<?> aClass) {
+    if (aClass.isPrimitive()) {
+      return List.of();
+    }
+    var supertypes = new ArrayList<Class<?>>();
+    var classes = new ArrayList<Class<?>>();
+    classes.add(aClass);
+    Class<?> superclass = aClass.getSuperclass();
+    while (superclass != null) {
+      supertypes.add(superclass);
+      classes.add(superclass);
+      superclass = superclass.getSuperclass();
+    }
+
+    // Reverse post-order of the interface graph is a topological order
+    var visited = new HashSet<Class<?>>();
+    var postOrder = new ArrayList<Class<?>>();
+    for (int i = classes.size() - 1; i >= 0; i--) {
+      visitInterfaces(classes.get(i), visited, postOrder);
+    }
+    for (int i = postOrder.size() - 1; i >= 0; i--) {
+      supertypes.add(postOrder.get(i));
+    }
+
+    if (aClass.isInterface()) {
+      supertypes.add(Object.class);
+    }
+    return List.copyOf(supertypes);
+  }
+
+  private static void visitInterfaces(Class<?> aClass, Set<Class<?>> visited, List<Class<?>> postOrder) {
+    Class<?>[] interfaces = aClass.getInterfaces();
+    for (int i = interfaces.length - 1; i >= 0; i--) {
+      if (visited.add(interfaces[i])) {
+        visitInterfaces(interfaces[i], visited, postOrder);
+        postOrder.add(interfaces[i]);
+      }
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package tech.intellispaces.general.type;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of the class lookups by name.
+ * <p>
+ * Cache tables are kept per class loader and do not prevent unloading of the class loaders. Found classes are
+ * referenced weakly. Names of the missing classes are remembered in the bounded FIFO table, so repeated probing of
+ * the missing class does not throw {@link ClassNotFoundException} again until the table is invalidated.
+ */
+final class ClassLookupCache {
+  static final int MAX_MISSING_CLASSES = 4096;
+
+  private static final LoaderTable BOOTSTRAP_TABLE = new LoaderTable();
+  private static final ConcurrentHashMap<LoaderKey, LoaderTable> TABLES = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<ClassLoader> QUEUE = new ReferenceQueue<>();
+
+  static Optional<Class<?>> get(String className, ClassLoader classLoader) {
+    return table(classLoader).get(className, classLoader);
+  }
+
+  static void invalidate(ClassLoader classLoader) {
+    if (classLoader == null) {
+      BOOTSTRAP_TABLE.clear();
+    } else {
+      TABLES.remove(new LoaderKey(classLoader, null));
+    }
+  }
+
+  static void invalidateAll() {
+    BOOTSTRAP_TABLE.clear();
+    TABLES.clear();
+  }
+
+  private static LoaderTable table(ClassLoader classLoader) {
+    if (classLoader == null) {
+      return BOOTSTRAP_TABLE;
+    }
+    LoaderTable table = TABLES.get(new LoaderKey(classLoader, null));
+    if (table == null) {
+      expunge();
+      table = TABLES.computeIfAbsent(new LoaderKey(classLoader, QUEUE), k -> new LoaderTable());
+    }
+    return table;
+  }
+
+  private static void expunge() {
+    Object reference;
+    while ((reference = QUEUE.poll()) != null) {
+      TABLES.remove(reference);
+    }
+  }
+
+  private ClassLookupCache() {}
+
+  private static final class LoaderTable {
+    private final ConcurrentHashMap<String, WeakReference<Class<?>>> classes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Boolean> missingClasses = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> missingClassQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger missingClassCount = new AtomicInteger();
+
+    Optional<Class<?>> get(String className, ClassLoader classLoader) {
+      WeakReference<Class<?>> reference = classes.get(className);
+      Class<?> aClass = reference != null ? reference.get() : null;
+      if (aClass != null) {
+        return Optional.of(aClass);
+      }
+      if (missingClasses.containsKey(className)) {
+        return Optional.empty();
+      }
+      try {
+        aClass = Class.forName(className, true, classLoader);
+      } catch (ClassNotFoundException e) {
+        addMissingClass(className);
+        return Optional.empty();
+      }
+      classes.put(className, new WeakReference<>(aClass));
+      return Optional.of(aClass);
+    }
+
+    void clear() {
+      classes.clear();
+      missingClasses.clear();
+      missingClassQueue.clear();
+      missingClassCount.set(0);
+    }
+
+    private void addMissingClass(String className) {
+      if (missingClasses.putIfAbsent(className, Boolean.TRUE) != null) {
+        return;
+      }
+      missingClassQueue.add(className);
+      if (missingClassCount.incrementAndGet() > MAX_MISSING_CLASSES) {
+        String eldestClassName = missingClassQueue.poll();
+        if (eldestClassName != null) {
+          missingClasses.remove(eldestClassName);
+          missingClassCount.decrementAndGet();
+        }
+      }
+    }
+  }
+
+  /**
+   * Weak key of the class loader compared by identity.
+   */
+  private static final class LoaderKey extends WeakReference<ClassLoader> {
+    private final int hash;
+
+    LoaderKey(ClassLoader classLoader, ReferenceQueue<ClassLoader> queue) {
+      super(classLoader, queue);
+      this.hash = System.identityHashCode(classLoader);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof LoaderKey)) {
+        return false;
+      }
+      ClassLoader classLoader = get();
+      return classLoader != null && classLoader == ((LoaderKey) o).get();
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+}
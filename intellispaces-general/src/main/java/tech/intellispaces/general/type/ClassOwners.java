@@ -0,0 +1,135 @@
+package tech.intellispaces.general.type;
+
+import java.lang.reflect.Executable;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Selector of the class that can own memoized data referring to the other classes.
+ * <p>
+ * The class can own the references to the other classes when their class loaders are the class loader of this class
+ * or its ancestors. Such references do not prevent unloading of the class loaders, because the class loader
+ * references its parent itself. When the classes are loaded by unrelated class loaders, there is no owner class.
+ */
+final class ClassOwners {
+
+  /**
+   * Returns the class which class loader is the same as or descendant of the class loaders of both classes.
+   *
+   * @param class1 the first class or null.
+   * @param class2 the second class or null.
+   * @return the owner class or null, if any of classes is null or class loaders are unrelated.
+   */
+  static Class<?> owner(Class<?> class1, Class<?> class2) {
+    if (class1 == null || class2 == null) {
+      return null;
+    }
+    if (class1 == class2 || isAncestorOrSelf(class2.getClassLoader(), class1.getClassLoader())) {
+      return class1;
+    }
+    if (isAncestorOrSelf(class1.getClassLoader(), class2.getClassLoader())) {
+      return class2;
+    }
+    return null;
+  }
+
+  /**
+   * Returns owner of the classes mentioned in the reflection type and the given class.
+   *
+   * @param type the reflection type.
+   * @param aClass the class or null.
+   * @return the owner class or null.
+   */
+  static Class<?> owner(java.lang.reflect.Type type, Class<?> aClass) {
+    if (aClass == null) {
+      return null;
+    }
+    if (type instanceof Class<?>) {
+      return owner(aClass, (Class<?>) type);
+    }
+    if (type instanceof ParameterizedType) {
+      var parameterizedType = (ParameterizedType) type;
+      Class<?> owner = owner(parameterizedType.getRawType(), aClass);
+      if (parameterizedType.getOwnerType() != null) {
+        owner = owner(parameterizedType.getOwnerType(), owner);
+      }
+      for (java.lang.reflect.Type typeArgument : parameterizedType.getActualTypeArguments()) {
+        owner = owner(typeArgument, owner);
+      }
+      return owner;
+    }
+    if (type instanceof WildcardType) {
+      var wildcardType = (WildcardType) type;
+      Class<?> owner = aClass;
+      for (java.lang.reflect.Type bound : wildcardType.getUpperBounds()) {
+        owner = owner(bound, owner);
+      }
+      for (java.lang.reflect.Type bound : wildcardType.getLowerBounds()) {
+        owner = owner(bound, owner);
+      }
+      return owner;
+    }
+    if (type instanceof TypeVariable<?>) {
+      return owner(declaringClass((TypeVariable<?>) type), aClass);
+    }
+    if (type instanceof GenericArrayType) {
+      return owner(((GenericArrayType) type).getGenericComponentType(), aClass);
+    }
+    return null;
+  }
+
+  /**
+   * Returns owner of the classes mentioned in the type and the given class.
+   *
+   * @param type the type.
+   * @param aClass the class or null.
+   * @return the owner class or null.
+   */
+  static Class<?> owner(Type<?> type, Class<?> aClass) {
+    if (aClass == null) {
+      return null;
+    }
+    if (type instanceof ClassTypeImpl) {
+      Class<?> owner = ((ClassTypeImpl<?, ?>) type).owner();
+      if (owner != null) {
+        return owner(aClass, owner);
+      }
+    }
+    ClassType<?> classType = type.asClassType();
+    if (classType == null) {
+      return aClass;
+    }
+    Class<?> owner = owner(aClass, classType.baseClass());
+    for (Type<?> qualifierType : classType.qualifierTypes()) {
+      owner = owner(qualifierType, owner);
+    }
+    return owner;
+  }
+
+  private static Class<?> declaringClass(TypeVariable<?> typeVariable) {
+    Object declaration = typeVariable.getGenericDeclaration();
+    if (declaration instanceof Class<?>) {
+      return (Class<?>) declaration;
+    }
+    if (declaration instanceof Executable) {
+      return ((Executable) declaration).getDeclaringClass();
+    }
+    return null;
+  }
+
+  private static boolean isAncestorOrSelf(ClassLoader ancestor, ClassLoader classLoader) {
+    if (ancestor == null) {
+      return true;
+    }
+    for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+      if (loader == ancestor) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private ClassOwners() {}
+}
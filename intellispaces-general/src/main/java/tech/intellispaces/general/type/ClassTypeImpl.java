@@ -2,18 +2,22 @@ package tech.intellispaces.general.type;
 
 import java.util.List;
 
+/**
+ * Class type implementation.
+ * <p>
+ * Instances are created by the {@link ClassTypeInterner} only, so equal types are identical.
+ */
 class ClassTypeImpl<T, B> extends AbstractClassType<T> {
   private final Class<B> baseClass;
   private final List<Type<?>> qualifierTypes;
-
-  ClassTypeImpl(Class<B> baseClass) {
-    this.baseClass = baseClass;
-    this.qualifierTypes = List.of();
-  }
+  private final int hash;
+  private final Class<?> owner;
 
   ClassTypeImpl(Class<B> baseClass, List<Type<?>> qualifierTypes) {
     this.baseClass = baseClass;
     this.qualifierTypes = qualifierTypes;
+    this.hash = hash(baseClass, qualifierTypes);
+    this.owner = ClassOwners.owner(this, baseClass);
   }
 
   @Override
@@ -23,11 +27,35 @@ class ClassTypeImpl<T, B> extends AbstractClassType<T> {
 
   @Override
   public Type<?> baseType() {
-    return Types.get(baseClass);
+    return qualifierTypes.isEmpty() ? this : Types.get(baseClass);
   }
 
   @Override
   public List<Type<?>> qualifierTypes() {
     return qualifierTypes;
   }
+
+  /**
+   * Returns the class that can own memoized data about this type, or null, if classes of the type are loaded by
+   * unrelated class loaders.
+   */
+  Class<?> owner() {
+    return owner;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o instanceof ClassTypeImpl) {
+      return false;
+    }
+    return super.equals(o);
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
 }
@@ -0,0 +1,135 @@
+package tech.intellispaces.general.type;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hash-consing factory of the class types.
+ * <p>
+ * Equal class types are represented by identical instances. Raw types are cached in the {@link ClassValue}, so they
+ * live as long as their classes. Parameterized types are cached in the weak tables of the owner class, which class
+ * loader can see the base class and all qualifier classes (see {@link ClassOwners}), so the tables do not keep
+ * reachable other class loaders, even when the interned type is referenced from the data of its qualifier class.
+ * When the classes are loaded by unrelated class loaders, the type is cached in the table of the base class. Entries
+ * of the collected types are expunged from all tables through the common reference queue on every access to the
+ * interner, so qualifier types of the collected types do not keep their classes reachable from the base class.
+ */
+final class ClassTypeInterner {
+  private static final ReferenceQueue<ClassTypeImpl<?, ?>> QUEUE = new ReferenceQueue<>();
+
+  private static final ClassValue<ClassTypeImpl<?, ?>> RAW_TYPES = new ClassValue<>() {
+    @Override
+    protected ClassTypeImpl<?, ?> computeValue(Class<?> baseClass) {
+      return new ClassTypeImpl<>(baseClass, List.of());
+    }
+  };
+
+  private static final ClassValue<ParameterizedTypes> PARAMETERIZED_TYPES = new ClassValue<>() {
+    @Override
+    protected ParameterizedTypes computeValue(Class<?> baseClass) {
+      return new ParameterizedTypes(baseClass);
+    }
+  };
+
+  private static final ClassValue<ConcurrentHashMap<Class<?>, ParameterizedTypes>> OWNED_PARAMETERIZED_TYPES =
+      new ClassValue<>() {
+        @Override
+        protected ConcurrentHashMap<Class<?>, ParameterizedTypes> computeValue(Class<?> owner) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  @SuppressWarnings("unchecked")
+  static <T> ClassType<T> get(Class<?> baseClass) {
+    expunge();
+    return (ClassType<T>) RAW_TYPES.get(baseClass);
+  }
+
+  /**
+   * Returns interned class type.
+   *
+   * @param baseClass the base class.
+   * @param qualifierTypes the immutable list of qualifier types.
+   * @return the class type.
+   * @param <T> the class type.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> ClassType<T> get(Class<?> baseClass, List<Type<?>> qualifierTypes) {
+    if (qualifierTypes.isEmpty()) {
+      return get(baseClass);
+    }
+    expunge();
+    return (ClassType<T>) parameterizedTypes(baseClass, qualifierTypes).get(qualifierTypes);
+  }
+
+  private static ParameterizedTypes parameterizedTypes(Class<?> baseClass, List<Type<?>> qualifierTypes) {
+    Class<?> owner = baseClass;
+    for (Type<?> qualifierType : qualifierTypes) {
+      owner = ClassOwners.owner(qualifierType, owner);
+    }
+    if (owner == null || owner == baseClass) {
+      return PARAMETERIZED_TYPES.get(baseClass);
+    }
+    return OWNED_PARAMETERIZED_TYPES.get(owner).computeIfAbsent(baseClass, ParameterizedTypes::new);
+  }
+
+  private static void expunge() {
+    Object reference;
+    while ((reference = QUEUE.poll()) != null) {
+      var typeReference = (TypeReference) reference;
+      typeReference.table.remove(typeReference.qualifierTypes, typeReference);
+    }
+  }
+
+  private ClassTypeInterner() {}
+
+  private static final class ParameterizedTypes {
+    private final Class<?> baseClass;
+    private final ConcurrentHashMap<List<Type<?>>, TypeReference> types = new ConcurrentHashMap<>();
+
+    ParameterizedTypes(Class<?> baseClass) {
+      this.baseClass = baseClass;
+    }
+
+    ClassTypeImpl<?, ?> get(List<Type<?>> qualifierTypes) {
+      TypeReference reference = types.get(qualifierTypes);
+      ClassTypeImpl<?, ?> type = reference != null ? reference.get() : null;
+      if (type != null) {
+        return type;
+      }
+
+      var newType = new ClassTypeImpl<>(baseClass, qualifierTypes);
+      var newReference = new TypeReference(newType, qualifierTypes, types);
+      while (true) {
+        reference = types.putIfAbsent(qualifierTypes, newReference);
+        if (reference == null) {
+          return newType;
+        }
+        type = reference.get();
+        if (type != null) {
+          return type;
+        }
+        if (types.replace(qualifierTypes, reference, newReference)) {
+          return newType;
+        }
+      }
+    }
+  }
+
+  private static final class TypeReference extends WeakReference<ClassTypeImpl<?, ?>> {
+    final List<Type<?>> qualifierTypes;
+    final ConcurrentHashMap<List<Type<?>>, TypeReference> table;
+
+    TypeReference(
+        ClassTypeImpl<?, ?> type,
+        List<Type<?>> qualifierTypes,
+        ConcurrentHashMap<List<Type<?>>, TypeReference> table
+    ) {
+      super(type, QUEUE);
+      this.qualifierTypes = qualifierTypes;
+      this.table = table;
+    }
+  }
+}
@@ -12,6 +12,10 @@ public interface Classes {
     return ClassFunctions.getClass(className);
   }
 
+  static Optional<Class<?>> get(String className, ClassLoader classLoader) {
+    return ClassFunctions.getClass(className, classLoader);
+  }
+
   /**
    * Generic unchecked cast.
    *
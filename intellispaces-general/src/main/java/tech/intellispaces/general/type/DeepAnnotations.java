@@ -0,0 +1,41 @@
+package tech.intellispaces.general.type;
+
+import java.lang.annotation.Annotation;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Index of the annotations of the class, its superclasses and all its interfaces.
+ * <p>
+ * Index of the class is built once from the indexes of the direct supertypes, so shared super-interfaces are
+ * examined once. If annotation is present on several supertypes, the annotation of the class itself wins, then the
+ * annotation of the superclass hierarchy, then the annotations of the interfaces in declaration order.
+ */
+final class DeepAnnotations {
+  private static final ClassValue<Map<Class<? extends Annotation>, Annotation>> INDEX = new ClassValue<>() {
+    @Override
+    protected Map<Class<? extends Annotation>, Annotation> computeValue(Class<?> aClass) {
+      var annotations = new HashMap<Class<? extends Annotation>, Annotation>();
+      for (Annotation annotation : aClass.getAnnotations()) {
+        annotations.put(annotation.annotationType(), annotation);
+      }
+      if (aClass.getSuperclass() != null) {
+        INDEX.get(aClass.getSuperclass()).forEach(annotations::putIfAbsent);
+      }
+      for (Class<?> interfaceClass : aClass.getInterfaces()) {
+        INDEX.get(interfaceClass).forEach(annotations::putIfAbsent);
+      }
+      return Map.copyOf(annotations);
+    }
+  };
+
+  static boolean has(Class<?> aClass, Class<? extends Annotation> annotation) {
+    return INDEX.get(aClass).containsKey(annotation);
+  }
+
+  static <A extends Annotation> A find(Class<?> aClass, Class<A> annotation) {
+    return annotation.cast(INDEX.get(aClass).get(annotation));
+  }
+
+  private DeepAnnotations() {}
+}
@@ -0,0 +1,223 @@
+package tech.intellispaces.general.type;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.QualifiedNameable;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converter of the Java reflection and Java Model types to the class types.
+ * <p>
+ * Type variables are resolved against the declaring context class. Unresolved type variables and wildcards are
+ * replaced by their upper bounds. Generic array types are converted to raw array class types.
+ * <p>
+ * Resolutions of the reflection types are memoized in the {@link ClassValue} table of the owner class, which class
+ * loader can see all classes mentioned in the type and the context class (see {@link ClassOwners}). So memoized
+ * types do not keep reachable class loaders other than the owner's one and its ancestors. When the classes are loaded
+ * by unrelated class loaders, the resolution is not memoized.
+ */
+final class JavaTypes {
+
+  /**
+   * Type variables bound by the superclasses and interfaces of the context class.
+   */
+  private static final ClassValue<Map<TypeVariable<?>, java.lang.reflect.Type>> BINDINGS = new ClassValue<>() {
+    @Override
+    protected Map<TypeVariable<?>, java.lang.reflect.Type> computeValue(Class<?> context) {
+      var bindings = new HashMap<TypeVariable<?>, java.lang.reflect.Type>();
+      collectBindings(context, bindings);
+      return bindings;
+    }
+  };
+
+  private static final ClassValue<Map<java.lang.reflect.Type, Type<?>>> CONTEXT_RESOLUTIONS = new ClassValue<>() {
+    @Override
+    protected Map<java.lang.reflect.Type, Type<?>> computeValue(Class<?> context) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private static final ClassValue<Map<java.lang.reflect.Type, Type<?>>> RESOLUTIONS = new ClassValue<>() {
+    @Override
+    protected Map<java.lang.reflect.Type, Type<?>> computeValue(Class<?> owner) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  static Type<?> of(java.lang.reflect.Type type) {
+    if (type instanceof Class<?>) {
+      return Types.get((Class<?>) type);
+    }
+    if (type instanceof ParameterizedType) {
+      Class<?> owner = ClassOwners.owner(type, Object.class);
+      if (owner != null) {
+        return RESOLUTIONS.get(owner).computeIfAbsent(type, t -> convert(t, Map.of(), new HashSet<>()));
+      }
+    }
+    return convert(type, Map.of(), new HashSet<>());
+  }
+
+  static Type<?> of(java.lang.reflect.Type type, Class<?> context) {
+    if (type instanceof Class<?>) {
+      return Types.get((Class<?>) type);
+    }
+    if (ClassOwners.owner(type, context) != context) {
+      return convert(type, BINDINGS.get(context), new HashSet<>());
+    }
+    return CONTEXT_RESOLUTIONS.get(context).computeIfAbsent(
+        type, t -> convert(t, BINDINGS.get(context), new HashSet<>())
+    );
+  }
+
+  static Type<?> of(TypeMirror typeMirror) {
+    switch (typeMirror.getKind()) {
+      case BOOLEAN:
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case CHAR:
+      case FLOAT:
+      case DOUBLE:
+        return PrimitiveTypes.get(typeMirror.getKind().name().toLowerCase(Locale.ROOT)).asClassType();
+      case VOID:
+        return Types.get(void.class);
+      case ARRAY:
+        Class<?> componentClass = of(((ArrayType) typeMirror).getComponentType()).asClassType().baseClass();
+        return Types.get(Array.newInstance(componentClass, 0).getClass());
+      case DECLARED:
+        var declaredType = (DeclaredType) typeMirror;
+        Class<?> baseClass = ClassFunctions.getClassOrElseThrow(
+            binaryName((TypeElement) declaredType.asElement())
+        );
+        var qualifierTypes = new ArrayList<Type<?>>(declaredType.getTypeArguments().size());
+        for (TypeMirror typeArgument : declaredType.getTypeArguments()) {
+          qualifierTypes.add(of(typeArgument));
+        }
+        return ClassTypeInterner.get(baseClass, List.copyOf(qualifierTypes));
+      case TYPEVAR:
+        return of(((javax.lang.model.type.TypeVariable) typeMirror).getUpperBound());
+      case WILDCARD:
+        TypeMirror extendsBound = ((javax.lang.model.type.WildcardType) typeMirror).getExtendsBound();
+        return extendsBound != null ? of(extendsBound) : Types.get(Object.class);
+      case INTERSECTION:
+        return of(((javax.lang.model.type.IntersectionType) typeMirror).getBounds().get(0));
+      default:
+        throw UnexpectedExceptions.withMessage("Unsupported type {0}", typeMirror);
+    }
+  }
+
+  private static Type<?> convert(
+      java.lang.reflect.Type type, Map<TypeVariable<?>, java.lang.reflect.Type> bindings, Set<TypeVariable<?>> visited
+  ) {
+    if (type instanceof Class<?>) {
+      return Types.get((Class<?>) type);
+    }
+    if (type instanceof ParameterizedType) {
+      var parameterizedType = (ParameterizedType) type;
+      java.lang.reflect.Type[] typeArguments = parameterizedType.getActualTypeArguments();
+      var qualifierTypes = new Type<?>[typeArguments.length];
+      for (int i = 0; i < typeArguments.length; i++) {
+        qualifierTypes[i] = convert(typeArguments[i], bindings, visited);
+      }
+      return ClassTypeInterner.get((Class<?>) parameterizedType.getRawType(), List.of(qualifierTypes));
+    }
+    if (type instanceof WildcardType) {
+      return convert(((WildcardType) type).getUpperBounds()[0], bindings, visited);
+    }
+    if (type instanceof TypeVariable<?>) {
+      var typeVariable = (TypeVariable<?>) type;
+      java.lang.reflect.Type boundType = bindings.get(typeVariable);
+      if (boundType != null) {
+        return convert(boundType, bindings, visited);
+      }
+      if (!visited.add(typeVariable)) {
+        return Types.get(erasure(typeVariable));
+      }
+      Type<?> result = convert(typeVariable.getBounds()[0], bindings, visited);
+      visited.remove(typeVariable);
+      return result;
+    }
+    if (type instanceof GenericArrayType) {
+      Type<?> componentType = convert(((GenericArrayType) type).getGenericComponentType(), bindings, visited);
+      return Types.get(Array.newInstance(componentType.asClassType().baseClass(), 0).getClass());
+    }
+    throw UnexpectedExceptions.withMessage("Unsupported type {0}", type);
+  }
+
+  private static Class<?> erasure(java.lang.reflect.Type type) {
+    if (type instanceof Class<?>) {
+      return (Class<?>) type;
+    }
+    if (type instanceof ParameterizedType) {
+      return (Class<?>) ((ParameterizedType) type).getRawType();
+    }
+    if (type instanceof TypeVariable<?>) {
+      return erasure(((TypeVariable<?>) type).getBounds()[0]);
+    }
+    if (type instanceof WildcardType) {
+      return erasure(((WildcardType) type).getUpperBounds()[0]);
+    }
+    if (type instanceof GenericArrayType) {
+      return Array.newInstance(erasure(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+    }
+    throw UnexpectedExceptions.withMessage("Unsupported type {0}", type);
+  }
+
+  private static void collectBindings(Class<?> aClass, Map<TypeVariable<?>, java.lang.reflect.Type> bindings) {
+    if (aClass == null) {
+      return;
+    }
+    collectBindings(aClass.getGenericSuperclass(), bindings);
+    for (java.lang.reflect.Type genericInterface : aClass.getGenericInterfaces()) {
+      collectBindings(genericInterface, bindings);
+    }
+  }
+
+  private static void collectBindings(
+      java.lang.reflect.Type supertype, Map<TypeVariable<?>, java.lang.reflect.Type> bindings
+  ) {
+    if (supertype instanceof ParameterizedType) {
+      var parameterizedType = (ParameterizedType) supertype;
+      var rawClass = (Class<?>) parameterizedType.getRawType();
+      TypeVariable<?>[] typeParameters = rawClass.getTypeParameters();
+      java.lang.reflect.Type[] typeArguments = parameterizedType.getActualTypeArguments();
+      for (int i = 0; i < typeParameters.length; i++) {
+        bindings.putIfAbsent(typeParameters[i], typeArguments[i]);
+      }
+      collectBindings(rawClass, bindings);
+    } else if (supertype instanceof Class<?>) {
+      collectBindings((Class<?>) supertype, bindings);
+    }
+  }
+
+  private static String binaryName(TypeElement typeElement) {
+    if (typeElement.getNestingKind() == NestingKind.MEMBER) {
+      Element enclosingElement = typeElement.getEnclosingElement();
+      if (enclosingElement instanceof TypeElement) {
+        return binaryName((TypeElement) enclosingElement) + "$" + typeElement.getSimpleName();
+      }
+    }
+    return ((QualifiedNameable) typeElement).getQualifiedName().toString();
+  }
+
+  private JavaTypes() {}
+}
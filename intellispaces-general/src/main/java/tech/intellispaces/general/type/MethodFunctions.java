@@ -1,7 +1,9 @@
 package tech.intellispaces.general.type;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -9,20 +11,109 @@ import java.util.Optional;
  */
 public interface MethodFunctions {
 
+  /**
+   * Returns public method without parameters.
+   * <p>
+   * Public methods of the class are indexed on the first call, so lookups of the missing methods are cheap and do not
+   * allocate memory. Found method is a new copy made by {@link Class#getMethod}, so it can be made accessible without
+   * affecting other callers, but every hit pays for the copy. Use {@link #getMethodHandle} for the allocation-free
+   * lookup of the found methods.
+   *
+   * @param aClass the class.
+   * @param methodName the method name.
+   * @return the method or empty optional if method is not found.
+   */
   static Optional<Method> getMethod(Class<?> aClass, String methodName) {
-    try {
-      return Optional.of(aClass.getMethod(methodName));
-    } catch (NoSuchMethodException e) {
-      return Optional.empty();
-    }
+    return MethodIndex.get(aClass).method(methodName, null);
   }
 
   static Optional<Method> getMethod(Class<?> aClass, String name, Class<?>... parameterTypes) {
-    try {
-      return Optional.of(aClass.getMethod(name, parameterTypes));
-    } catch (NoSuchMethodException e) {
-      return Optional.empty();
-    }
+    return MethodIndex.get(aClass).method(name, parameterTypes);
+  }
+
+  /**
+   * Returns method handle of the public method.
+   * <p>
+   * Method handle is created once per method.
+   *
+   * @param aClass the class.
+   * @param name the method name.
+   * @param parameterTypes the method parameter types.
+   * @return the method handle or empty optional if method is not found or is not accessible.
+   */
+  static Optional<MethodHandle> getMethodHandle(Class<?> aClass, String name, Class<?>... parameterTypes) {
+    return MethodIndex.get(aClass).methodHandle(name, parameterTypes);
+  }
+
+  /**
+   * Returns public methods with given name, including inherited ones.
+   *
+   * @param aClass the class.
+   * @param name the method name.
+   * @return the unmodifiable list of methods.
+   */
+  static List<Method> getMethods(Class<?> aClass, String name) {
+    return MethodIndex.get(aClass).methods(name);
+  }
+
+  /**
+   * Returns public abstract methods, including inherited ones.
+   *
+   * @param aClass the class.
+   * @return the unmodifiable list of methods.
+   */
+  static List<Method> getAbstractMethods(Class<?> aClass) {
+    return MethodIndex.get(aClass).abstractMethods();
+  }
+
+  /**
+   * Returns public static methods, including inherited ones.
+   *
+   * @param aClass the class.
+   * @return the unmodifiable list of methods.
+   */
+  static List<Method> getStaticMethods(Class<?> aClass) {
+    return MethodIndex.get(aClass).staticMethods();
+  }
+
+  /**
+   * Returns invoker of the method.
+   * <p>
+   * Invoker is an instance of the functional interface which arguments are the method target object, if the method
+   * is not static, and the method parameters:
+   * <ul>
+   *   <li>{@link java.util.function.Supplier}, {@link java.util.function.Function},
+   *   {@link java.util.function.BiFunction}, {@link tech.intellispaces.general.function.TriFunction},
+   *   {@link tech.intellispaces.general.function.QuadriFunction} or
+   *   {@link tech.intellispaces.general.function.QuintiFunction} for methods returning value;</li>
+   *   <li>{@link Runnable}, {@link java.util.function.Consumer}, {@link java.util.function.BiConsumer} and other
+   *   consumers for void methods;</li>
+   *   <li>primitive specializations like
+   *   {@link tech.intellispaces.general.function.primitive.ObjectAndIntToIntFunction} for methods with
+   *   {@code int}, {@code long} or {@code double} parameters or result.</li>
+   * </ul>
+   * Invoker is spun by the {@link java.lang.invoke.LambdaMetafactory} and cached per method. Checked exceptions
+   * thrown by the method are propagated unchanged.
+   *
+   * @param method the method.
+   * @return the invoker.
+   * @param <F> the functional interface type.
+   */
+  @SuppressWarnings("unchecked")
+  static <F> F invoker(Method method) {
+    return (F) MethodInvokers.get(method);
+  }
+
+  /**
+   * Returns invoker of the method implementing given functional interface.
+   *
+   * @param method the method.
+   * @param functionalInterface the functional interface.
+   * @return the invoker.
+   * @param <F> the functional interface type.
+   */
+  static <F> F invoker(Method method, Class<F> functionalInterface) {
+    return functionalInterface.cast(MethodInvokers.get(method, functionalInterface));
   }
 
   static boolean isAbstractMethod(Method method) {
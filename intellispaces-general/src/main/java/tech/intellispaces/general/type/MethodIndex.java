@@ -0,0 +1,193 @@
+package tech.intellispaces.general.type;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Index of the public methods of the class, including inherited ones.
+ * <p>
+ * Index is built once per class. Lookup of the missing methods does not allocate memory. Found methods are returned
+ * as copies, because {@link Method} objects are mutable by {@link Method#setAccessible} and must not be shared between
+ * callers: single method is copied by {@link Class#getMethod}, lists of methods are picked from one call of the
+ * {@link Class#getMethods}. Method handles are immutable and are cached. Like {@link Class#getMethod}, when several
+ * methods have the same signature, the method with the most specific return type is indexed.
+ */
+final class MethodIndex {
+  private static final Class<?>[] NO_PARAMETERS = new Class<?>[0];
+  private static final Entry[] NO_ENTRIES = new Entry[0];
+
+  private static final ClassValue<MethodIndex> INDEXES = new ClassValue<>() {
+    @Override
+    protected MethodIndex computeValue(Class<?> aClass) {
+      return new MethodIndex(aClass);
+    }
+  };
+
+  private final Class<?> aClass;
+  private final Map<String, Entry[]> entries;
+  private final List<Entry> abstractEntries;
+  private final List<Entry> staticEntries;
+
+  private MethodIndex(Class<?> aClass) {
+    var groupedEntries = new LinkedHashMap<String, List<Entry>>();
+    for (Method method : aClass.getMethods()) {
+      List<Entry> nameEntries = groupedEntries.computeIfAbsent(method.getName(), k -> new ArrayList<>());
+      Class<?>[] parameterTypes = method.getParameterTypes();
+      Entry sameEntry = find(nameEntries, parameterTypes);
+      if (sameEntry == null) {
+        nameEntries.add(new Entry(method, parameterTypes));
+      } else if (sameEntry.method.getReturnType().isAssignableFrom(method.getReturnType())
+          && sameEntry.method.getReturnType() != method.getReturnType()) {
+        nameEntries.set(nameEntries.indexOf(sameEntry), new Entry(method, parameterTypes));
+      }
+    }
+
+    var entries = new HashMap<String, Entry[]>();
+    var abstractEntries = new ArrayList<Entry>();
+    var staticEntries = new ArrayList<Entry>();
+    groupedEntries.forEach((name, nameEntries) -> {
+      entries.put(name, nameEntries.toArray(NO_ENTRIES));
+      for (Entry entry : nameEntries) {
+        if (MethodFunctions.isAbstractMethod(entry.method)) {
+          abstractEntries.add(entry);
+        }
+        if (MethodFunctions.isStaticMethod(entry.method)) {
+          staticEntries.add(entry);
+        }
+      }
+    });
+    this.aClass = aClass;
+    this.entries = entries;
+    this.abstractEntries = List.copyOf(abstractEntries);
+    this.staticEntries = List.copyOf(staticEntries);
+  }
+
+  static MethodIndex get(Class<?> aClass) {
+    return INDEXES.get(aClass);
+  }
+
+  Optional<Method> method(String name, Class<?>[] parameterTypes) {
+    Entry entry = entry(name, parameterTypes);
+    return entry != null ? Optional.of(copy(entry)) : Optional.empty();
+  }
+
+  Optional<MethodHandle> methodHandle(String name, Class<?>[] parameterTypes) {
+    Entry entry = entry(name, parameterTypes);
+    return entry != null ? entry.methodHandle(aClass) : Optional.empty();
+  }
+
+  List<Method> methods(String name) {
+    Entry[] nameEntries = entries.get(name);
+    return nameEntries != null ? copy(Arrays.asList(nameEntries)) : List.of();
+  }
+
+  List<Method> abstractMethods() {
+    return copy(abstractEntries);
+  }
+
+  List<Method> staticMethods() {
+    return copy(staticEntries);
+  }
+
+  private List<Method> copy(List<Entry> entries) {
+    if (entries.isEmpty()) {
+      return List.of();
+    }
+    var positions = new HashMap<Method, Integer>();
+    for (int i = 0; i < entries.size(); i++) {
+      positions.put(entries.get(i).method, i);
+    }
+    var methods = new Method[entries.size()];
+    for (Method method : aClass.getMethods()) {
+      Integer position = positions.get(method);
+      if (position != null) {
+        methods[position] = method;
+      }
+    }
+    return List.of(methods);
+  }
+
+  private Method copy(Entry entry) {
+    try {
+      return aClass.getMethod(entry.method.getName(), entry.parameterTypes);
+    } catch (NoSuchMethodException e) {
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Method {0} is not found", entry.method);
+    }
+  }
+
+  private Entry entry(String name, Class<?>[] parameterTypes) {
+    Entry[] nameEntries = entries.get(name);
+    if (nameEntries == null) {
+      return null;
+    }
+    Class<?>[] types = parameterTypes != null ? parameterTypes : NO_PARAMETERS;
+    for (Entry entry : nameEntries) {
+      if (Arrays.equals(entry.parameterTypes, types)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private static Entry find(List<Entry> entries, Class<?>[] parameterTypes) {
+    for (Entry entry : entries) {
+      if (Arrays.equals(entry.parameterTypes, parameterTypes)) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private static final class Entry {
+    final Method method;
+    final Class<?>[] parameterTypes;
+    private volatile Optional<MethodHandle> methodHandle;
+
+    Entry(Method method, Class<?>[] parameterTypes) {
+      this.method = method;
+      this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Returns method handle of the method. Public method declared in non-public class is looked up in the indexed
+     * class. Returns empty optional if the method is not accessible.
+     */
+    Optional<MethodHandle> methodHandle(Class<?> aClass) {
+      Optional<MethodHandle> methodHandle = this.methodHandle;
+      if (methodHandle == null) {
+        methodHandle = Optional.ofNullable(lookup(aClass));
+        this.methodHandle = methodHandle;
+      }
+      return methodHandle;
+    }
+
+    private MethodHandle lookup(Class<?> aClass) {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      try {
+        return lookup.unreflect(method);
+      } catch (IllegalAccessException e) {
+        // Try to find method in the indexed class
+      }
+      MethodType methodType = MethodType.methodType(method.getReturnType(), parameterTypes);
+      try {
+        if (MethodFunctions.isStaticMethod(method)) {
+          return lookup.findStatic(aClass, method.getName(), methodType);
+        }
+        return lookup.findVirtual(aClass, method.getName(), methodType);
+      } catch (NoSuchMethodException | IllegalAccessException e) {
+        return null;
+      }
+    }
+  }
+}
@@ -0,0 +1,222 @@
+package tech.intellispaces.general.type;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+import tech.intellispaces.general.function.QuadriConsumer;
+import tech.intellispaces.general.function.QuadriFunction;
+import tech.intellispaces.general.function.QuintiConsumer;
+import tech.intellispaces.general.function.QuintiFunction;
+import tech.intellispaces.general.function.TriConsumer;
+import tech.intellispaces.general.function.TriFunction;
+import tech.intellispaces.general.function.primitive.ObjectToIntFunction;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Factory of the method invokers.
+ * <p>
+ * Invokers are spun by the {@link LambdaMetafactory} and cached per method. Invokers of the methods which are not
+ * accessible from this library are created as method handle proxies.
+ */
+final class MethodInvokers {
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final String PRIMITIVE_FUNCTIONS_PACKAGE = ObjectToIntFunction.class.getPackageName();
+  private static final List<Class<?>> FUNCTIONS = List.of(
+      Supplier.class, Function.class, BiFunction.class, TriFunction.class, QuadriFunction.class, QuintiFunction.class
+  );
+  private static final List<Class<?>> CONSUMERS = List.of(
+      Runnable.class, Consumer.class, BiConsumer.class, TriConsumer.class, QuadriConsumer.class, QuintiConsumer.class
+  );
+
+  /**
+   * Invokers of the methods declared in class. Key is the method or the list of method and interface.
+   */
+  private static final ClassValue<Map<Object, Object>> INVOKERS = new ClassValue<>() {
+    @Override
+    protected Map<Object, Object> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  static Object get(Method method) {
+    return INVOKERS.get(method.getDeclaringClass()).computeIfAbsent(
+        method, m -> create(method, interfaceOf(method))
+    );
+  }
+
+  static Object get(Method method, Class<?> functionalInterface) {
+    return INVOKERS.get(method.getDeclaringClass()).computeIfAbsent(
+        List.of(method, functionalInterface), k -> create(method, functionalInterface)
+    );
+  }
+
+  private static List<Class<?>> argumentTypes(Method method) {
+    var argumentTypes = new ArrayList<Class<?>>();
+    if (!Modifier.isStatic(method.getModifiers())) {
+      argumentTypes.add(method.getDeclaringClass());
+    }
+    argumentTypes.addAll(List.of(method.getParameterTypes()));
+    return argumentTypes;
+  }
+
+  private static Class<?> interfaceOf(Method method) {
+    List<Class<?>> argumentTypes = argumentTypes(method);
+    Class<?> primitiveFunction = primitiveFunctionOf(argumentTypes, method.getReturnType());
+    if (primitiveFunction != null) {
+      return primitiveFunction;
+    }
+    List<Class<?>> interfaces = method.getReturnType() == void.class ? CONSUMERS : FUNCTIONS;
+    if (argumentTypes.size() >= interfaces.size()) {
+      throw UnexpectedExceptions.withMessage("Method {0} has too many parameters to create invoker", method);
+    }
+    return interfaces.get(argumentTypes.size());
+  }
+
+  /**
+   * Returns primitive specialization of the function interface or null.
+   */
+  private static Class<?> primitiveFunctionOf(List<Class<?>> argumentTypes, Class<?> returnType) {
+    int objectCount = 0;
+    while (objectCount < argumentTypes.size() && !argumentTypes.get(objectCount).isPrimitive()) {
+      objectCount++;
+    }
+    if (objectCount == 0 || argumentTypes.size() > 3 || returnType == void.class) {
+      return null;
+    }
+    var name = new StringBuilder(objectCount == 1 ? "Object" : (objectCount == 2 ? "TwoObjects" : "ThreeObjects"));
+    int index = objectCount;
+    boolean primitive = returnType.isPrimitive();
+    for (Class<?> type : List.of(int.class, long.class, double.class)) {
+      int count = 0;
+      while (index < argumentTypes.size() && argumentTypes.get(index) == type) {
+        count++;
+        index++;
+      }
+      if (count > 0) {
+        primitive = true;
+        name.append(count == 1 ? "And" : "AndTwo").append(primitiveName(type)).append(count == 1 ? "" : "s");
+      }
+    }
+    if (index < argumentTypes.size() || !primitive) {
+      return null;
+    }
+    if (returnType.isPrimitive() && returnType != int.class && returnType != long.class
+        && returnType != double.class) {
+      return null;
+    }
+    name.append("To").append(returnType.isPrimitive() ? primitiveName(returnType) : "Object").append("Function");
+    try {
+      return Class.forName(
+          PRIMITIVE_FUNCTIONS_PACKAGE + "." + name, false, ObjectToIntFunction.class.getClassLoader()
+      );
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
+  private static String primitiveName(Class<?> type) {
+    String name = type.getName();
+    return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private static Object create(Method method, Class<?> functionalInterface) {
+    Method interfaceMethod = abstractMethodOf(functionalInterface);
+    List<Class<?>> argumentTypes = argumentTypes(method);
+    if (interfaceMethod.getParameterCount() != argumentTypes.size()) {
+      throw UnexpectedExceptions.withMessage("Interface {0} does not match arguments of the method {1}",
+          functionalInterface.getCanonicalName(), method);
+    }
+    try {
+      if (!isAccessible(method)) {
+        MethodHandles.Lookup lookup = Modifier.isPublic(method.getModifiers())
+            && Modifier.isPublic(method.getDeclaringClass().getModifiers())
+            ? LOOKUP : MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP);
+        return MethodHandleProxies.asInterfaceInstance(functionalInterface, lookup.unreflect(method));
+      }
+
+      var instantiatedTypes = new Class<?>[argumentTypes.size()];
+      Class<?>[] interfaceTypes = interfaceMethod.getParameterTypes();
+      for (int i = 0; i < instantiatedTypes.length; i++) {
+        instantiatedTypes[i] = interfaceTypes[i].isPrimitive() ? argumentTypes.get(i) : wrap(argumentTypes.get(i));
+      }
+      Class<?> instantiatedReturnType = interfaceMethod.getReturnType().isPrimitive()
+          ? method.getReturnType() : wrap(method.getReturnType());
+      MethodType samType = MethodType.methodType(interfaceMethod.getReturnType(), interfaceTypes);
+      return LambdaMetafactory.metafactory(
+          LOOKUP,
+          interfaceMethod.getName(),
+          MethodType.methodType(functionalInterface),
+          samType,
+          LOOKUP.unreflect(method),
+          MethodType.methodType(instantiatedReturnType, instantiatedTypes)
+      ).getTarget().invoke();
+    } catch (Throwable e) {
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Failed to create invoker of the method {0}", method);
+    }
+  }
+
+  /**
+   * Checks that method can be linked by the lambda class defined in this library.
+   */
+  private static boolean isAccessible(Method method) {
+    Class<?> declaringClass = method.getDeclaringClass();
+    if (!Modifier.isPublic(method.getModifiers()) || !Modifier.isPublic(declaringClass.getModifiers())
+        || !declaringClass.getModule().isExported(declaringClass.getPackageName(), LOOKUP.lookupClass().getModule())) {
+      return false;
+    }
+    try {
+      return Class.forName(declaringClass.getName(), false, MethodInvokers.class.getClassLoader()) == declaringClass;
+    } catch (ClassNotFoundException e) {
+      return false;
+    }
+  }
+
+  private static Method abstractMethodOf(Class<?> functionalInterface) {
+    if (!functionalInterface.isInterface()) {
+      throw UnexpectedExceptions.withMessage("Class {0} is not interface", functionalInterface.getCanonicalName());
+    }
+    Method abstractMethod = null;
+    for (Method method : functionalInterface.getMethods()) {
+      if (Modifier.isAbstract(method.getModifiers()) && !isObjectMethod(method)) {
+        if (abstractMethod != null && !abstractMethod.getName().equals(method.getName())) {
+          throw UnexpectedExceptions.withMessage("Interface {0} is not functional interface",
+              functionalInterface.getCanonicalName());
+        }
+        abstractMethod = method;
+      }
+    }
+    if (abstractMethod == null) {
+      throw UnexpectedExceptions.withMessage("Interface {0} is not functional interface",
+          functionalInterface.getCanonicalName());
+    }
+    return abstractMethod;
+  }
+
+  private static boolean isObjectMethod(Method method) {
+    try {
+      Object.class.getMethod(method.getName(), method.getParameterTypes());
+      return true;
+    } catch (NoSuchMethodException e) {
+      return false;
+    }
+  }
+
+  private static Class<?> wrap(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+  private MethodInvokers() {}
+}
@@ -1,17 +1,24 @@
 package tech.intellispaces.general.type;
 
+import java.util.Optional;
+
 /**
  * Primitive related functions.
  */
 public interface PrimitiveFunctions {
 
   static boolean isPrimitiveTypename(String typename) {
-    for (var type : PrimitiveTypes.values()) {
-      if (type.typename().equals(typename)) {
-        return true;
-      }
-    }
-    return false;
+    return PrimitiveRegistry.ofTypename(typename) != null;
+  }
+
+  /**
+   * Returns class of the primitive array by JVM descriptor, like {@code [I} for {@code int[]}.
+   *
+   * @param descriptor the array descriptor.
+   * @return the array class or empty optional if descriptor is not descriptor of primitive array.
+   */
+  static Optional<Class<?>> getPrimitiveArrayClass(String descriptor) {
+    return Optional.ofNullable(PrimitiveRegistry.ofArrayDescriptor(descriptor));
   }
 
   static int booleanToInt(boolean value) {
@@ -0,0 +1,137 @@
+package tech.intellispaces.general.type;
+
+/**
+ * Registry of the primitive types.
+ * <p>
+ * Lookups by the type name, canonical name of the wrapper class and JVM descriptor are switches, lookups by the
+ * class compare the class with the single candidate found by the class name. Lookups do not allocate memory.
+ */
+final class PrimitiveRegistry {
+
+  /**
+   * Returns primitive type by the type name, like {@code int}, or <code>null</code>.
+   */
+  static PrimitiveTypes ofTypename(String typename) {
+    if (typename == null) {
+      return null;
+    }
+    switch (typename) {
+      case "boolean":
+        return PrimitiveTypes.Boolean;
+      case "char":
+        return PrimitiveTypes.Char;
+      case "byte":
+        return PrimitiveTypes.Byte;
+      case "short":
+        return PrimitiveTypes.Short;
+      case "int":
+        return PrimitiveTypes.Int;
+      case "long":
+        return PrimitiveTypes.Long;
+      case "float":
+        return PrimitiveTypes.Float;
+      case "double":
+        return PrimitiveTypes.Double;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns primitive type by the canonical name of the wrapper class, like {@code java.lang.Integer}, or
+   * <code>null</code>.
+   */
+  static PrimitiveTypes ofWrapperName(String wrapperCanonicalName) {
+    if (wrapperCanonicalName == null) {
+      return null;
+    }
+    switch (wrapperCanonicalName) {
+      case "java.lang.Boolean":
+        return PrimitiveTypes.Boolean;
+      case "java.lang.Character":
+        return PrimitiveTypes.Char;
+      case "java.lang.Byte":
+        return PrimitiveTypes.Byte;
+      case "java.lang.Short":
+        return PrimitiveTypes.Short;
+      case "java.lang.Integer":
+        return PrimitiveTypes.Int;
+      case "java.lang.Long":
+        return PrimitiveTypes.Long;
+      case "java.lang.Float":
+        return PrimitiveTypes.Float;
+      case "java.lang.Double":
+        return PrimitiveTypes.Double;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns primitive type by the JVM descriptor, like {@code I}, or <code>null</code>.
+   */
+  static PrimitiveTypes ofDescriptor(char descriptor) {
+    switch (descriptor) {
+      case 'Z':
+        return PrimitiveTypes.Boolean;
+      case 'C':
+        return PrimitiveTypes.Char;
+      case 'B':
+        return PrimitiveTypes.Byte;
+      case 'S':
+        return PrimitiveTypes.Short;
+      case 'I':
+        return PrimitiveTypes.Int;
+      case 'J':
+        return PrimitiveTypes.Long;
+      case 'F':
+        return PrimitiveTypes.Float;
+      case 'D':
+        return PrimitiveTypes.Double;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns primitive type of the primitive class or <code>null</code>.
+   */
+  static PrimitiveTypes ofClass(Class<?> aClass) {
+    return aClass.isPrimitive() ? ofTypename(aClass.getName()) : null;
+  }
+
+  /**
+   * Returns primitive type of the wrapper class or <code>null</code>.
+   */
+  static PrimitiveTypes ofWrapperClass(Class<?> aClass) {
+    PrimitiveTypes primitiveType = ofWrapperName(aClass.getName());
+    return primitiveType != null && primitiveType.wrapperClass() == aClass ? primitiveType : null;
+  }
+
+  /**
+   * Returns array class of the primitive array descriptor, like {@code [I} or {@code [[J}, or <code>null</code>.
+   */
+  static Class<?> ofArrayDescriptor(String descriptor) {
+    if (descriptor == null) {
+      return null;
+    }
+    int dimensions = 0;
+    while (dimensions < descriptor.length() && descriptor.charAt(dimensions) == '[') {
+      dimensions++;
+    }
+    if (dimensions == 0 || dimensions != descriptor.length() - 1) {
+      return null;
+    }
+    PrimitiveTypes primitiveType = ofDescriptor(descriptor.charAt(dimensions));
+    if (primitiveType == null) {
+      return null;
+    }
+    Class<?> arrayClass = primitiveType.arrayClass();
+    for (int i = 1; i < dimensions; i++) {
+      arrayClass = arrayClass.arrayType();
+    }
+    return arrayClass;
+  }
+
+  private PrimitiveRegistry() {}
+}
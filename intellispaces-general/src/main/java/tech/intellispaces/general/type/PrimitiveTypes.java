@@ -3,49 +3,72 @@ package tech.intellispaces.general.type;
 import tech.intellispaces.general.entity.Enumeration;
 import tech.intellispaces.general.exception.UnexpectedExceptions;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Optional;
 
 /**
  * Primitive type provider.
  */
 public enum PrimitiveTypes implements PrimitiveType, Enumeration<PrimitiveType> {
 
-  Boolean("boolean", boolean.class, java.lang.Boolean.class),
+  Boolean("boolean", boolean.class, java.lang.Boolean.class, 'Z'),
 
-  Char("char", char.class, java.lang.Character.class),
+  Char("char", char.class, java.lang.Character.class, 'C'),
 
-  Byte("byte", byte.class, java.lang.Byte.class),
+  Byte("byte", byte.class, java.lang.Byte.class, 'B'),
 
-  Short("short", short.class, java.lang.Short.class),
+  Short("short", short.class, java.lang.Short.class, 'S'),
 
-  Int("int", int.class, java.lang.Integer.class),
+  Int("int", int.class, java.lang.Integer.class, 'I'),
 
-  Long("long", long.class, java.lang.Long.class),
+  Long("long", long.class, java.lang.Long.class, 'J'),
 
-  Float("float", float.class, java.lang.Float.class),
+  Float("float", float.class, java.lang.Float.class, 'F'),
 
-  Double("double", double.class, java.lang.Double.class);
+  Double("double", double.class, java.lang.Double.class, 'D');
 
   private final String typename;
   private final Class<?> baseClass;
   private final Class<?> wrapperClass;
+  private final char descriptor;
+  private final Class<?> arrayClass;
   private final ClassType<?> classType;
 
   public static PrimitiveType get(String typename) {
-    PrimitiveType primitiveType = PRIMITIVES.get(typename);
+    PrimitiveType primitiveType = PrimitiveRegistry.ofTypename(typename);
     if (primitiveType == null) {
       throw UnexpectedExceptions.withMessage("Not primitive typename: {0}", typename);
     }
     return primitiveType;
   }
 
-  PrimitiveTypes(String typename, Class<?> baseClass, Class<?> wrapperClass) {
+  /**
+   * Returns primitive type of the primitive class.
+   *
+   * @param aClass the primitive class.
+   * @return the primitive type or empty optional if class is not primitive or is {@code void}.
+   */
+  public static Optional<PrimitiveType> getByClass(Class<?> aClass) {
+    return Optional.ofNullable(PrimitiveRegistry.ofClass(aClass));
+  }
+
+  /**
+   * Returns primitive type by JVM descriptor, like {@code I} for {@code int}.
+   *
+   * @param descriptor the descriptor.
+   * @return the primitive type or empty optional if descriptor is not descriptor of primitive type.
+   */
+  public static Optional<PrimitiveType> getByDescriptor(char descriptor) {
+    return Optional.ofNullable(PrimitiveRegistry.ofDescriptor(descriptor));
+  }
+
+  PrimitiveTypes(String typename, Class<?> baseClass, Class<?> wrapperClass, char descriptor) {
     this.typename = typename;
     this.baseClass = baseClass;
     this.wrapperClass = wrapperClass;
-    this.classType = new ClassTypeImpl<>(baseClass, List.of());
+    this.descriptor = descriptor;
+    this.arrayClass = baseClass.arrayType();
+    this.classType = Types.get(baseClass);
   }
 
   @Override
@@ -58,6 +81,20 @@ public enum PrimitiveTypes implements PrimitiveType, Enumeration<PrimitiveType>
     return wrapperClass;
   }
 
+  /**
+   * Returns JVM descriptor of the primitive type.
+   */
+  public char descriptor() {
+    return descriptor;
+  }
+
+  /**
+   * Returns one-dimensional array class of the primitive type.
+   */
+  public Class<?> arrayClass() {
+    return arrayClass;
+  }
+
   @Override
   public Type<?> baseType() {
     return Types.get(baseClass);
@@ -118,16 +155,4 @@ public enum PrimitiveTypes implements PrimitiveType, Enumeration<PrimitiveType>
   }
 
   private static final PrimitiveTypes[] VALUES = values();
-
-  private static final Map<String, PrimitiveType> PRIMITIVES = new HashMap<>();
-  static {
-    PRIMITIVES.put("boolean", Boolean);
-    PRIMITIVES.put("char", Char);
-    PRIMITIVES.put("byte", Byte);
-    PRIMITIVES.put("short", Short);
-    PRIMITIVES.put("long", Long);
-    PRIMITIVES.put("int", Int);
-    PRIMITIVES.put("float", Float);
-    PRIMITIVES.put("double", Double);
-  }
 }
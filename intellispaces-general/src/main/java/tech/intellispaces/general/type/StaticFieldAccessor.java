@@ -0,0 +1,57 @@
+package tech.intellispaces.general.type;
+
+/**
+ * Accessor of the static field.
+ * <p>
+ * Access modes correspond to the access modes of the {@link java.lang.invoke.VarHandle}.
+ *
+ * @param <F> the field type.
+ */
+public interface StaticFieldAccessor<F> {
+
+  /**
+   * Returns the declared type of the field.
+   */
+  Class<?> fieldType();
+
+  /**
+   * Returns <code>true</code> if the field is final and cannot be set.
+   */
+  boolean isReadOnly();
+
+  F get();
+
+  void set(F value);
+
+  F getVolatile();
+
+  void setVolatile(F value);
+
+  F getOpaque();
+
+  void setOpaque(F value);
+
+  F getAcquire();
+
+  void setRelease(F value);
+
+  /**
+   * Returns value of the field of type {@code int} or {@link Integer}.
+   */
+  int getInt();
+
+  /**
+   * Returns value of the field of type {@code long} or {@link Long}.
+   */
+  long getLong();
+
+  /**
+   * Returns value of the field of type {@code double} or {@link Double}.
+   */
+  double getDouble();
+
+  /**
+   * Returns value of the field of type {@code boolean} or {@link Boolean}.
+   */
+  boolean getBoolean();
+}
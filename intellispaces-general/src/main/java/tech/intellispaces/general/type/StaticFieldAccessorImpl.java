@@ -0,0 +1,154 @@
+package tech.intellispaces.general.type;
+
+import tech.intellispaces.general.exception.UnexpectedExceptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Static field accessor based on the {@link VarHandle}.
+ * <p>
+ * Each accessor is an instance of its own hidden class, defined from the bytecode of the
+ * {@link StaticFieldAccessorTemplate} class. Method handles of the access modes are passed as class data and stored
+ * to the static final fields, so they are constant for JIT compiler and the field access can be inlined into the call
+ * site. Accessors are cached per class and field name.
+ */
+abstract class StaticFieldAccessorImpl<F> implements StaticFieldAccessor<F> {
+  static final int GET = 0;
+  static final int SET = 1;
+  static final int GET_VOLATILE = 2;
+  static final int SET_VOLATILE = 3;
+  static final int GET_OPAQUE = 4;
+  static final int SET_OPAQUE = 5;
+  static final int GET_ACQUIRE = 6;
+  static final int SET_RELEASE = 7;
+  static final int GET_INT = 8;
+  static final int GET_LONG = 9;
+  static final int GET_DOUBLE = 10;
+  static final int GET_BOOLEAN = 11;
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class);
+  private static final byte[] ACCESSOR_TEMPLATE = readAccessorTemplate();
+
+  private static final ClassValue<Map<String, StaticFieldAccessorImpl<?>>> ACCESSORS = new ClassValue<>() {
+    @Override
+    protected Map<String, StaticFieldAccessorImpl<?>> computeValue(Class<?> aClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private final Class<?> fieldType;
+  private final boolean readOnly;
+
+  StaticFieldAccessorImpl(Class<?> fieldType, boolean readOnly) {
+    this.fieldType = fieldType;
+    this.readOnly = readOnly;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <F> StaticFieldAccessorImpl<F> get(
+      Class<?> aClass, String fieldName
+  ) throws NoSuchFieldException, IllegalAccessException {
+    Map<String, StaticFieldAccessorImpl<?>> accessors = ACCESSORS.get(aClass);
+    StaticFieldAccessorImpl<?> accessor = accessors.get(fieldName);
+    if (accessor == null) {
+      accessor = create(aClass, fieldName);
+      StaticFieldAccessorImpl<?> existingAccessor = accessors.putIfAbsent(fieldName, accessor);
+      if (existingAccessor != null) {
+        accessor = existingAccessor;
+      }
+    }
+    return (StaticFieldAccessorImpl<F>) accessor;
+  }
+
+  @Override
+  public Class<?> fieldType() {
+    return fieldType;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return readOnly;
+  }
+
+  static RuntimeException accessFailure(Throwable e) {
+    return UnexpectedExceptions.withCauseAndMessage(e, "Failed to access static field");
+  }
+
+  private static StaticFieldAccessorImpl<?> create(
+      Class<?> aClass, String fieldName
+  ) throws NoSuchFieldException, IllegalAccessException {
+    Field field = aClass.getDeclaredField(fieldName);
+    if (!Modifier.isStatic(field.getModifiers())) {
+      throw UnexpectedExceptions.withMessage("Field {0} of the class {1} is not static",
+          fieldName, aClass.getCanonicalName());
+    }
+    VarHandle varHandle;
+    try {
+      varHandle = MethodHandles.privateLookupIn(aClass, MethodHandles.lookup()).unreflectVarHandle(field);
+    } catch (IllegalAccessException e) {
+      varHandle = MethodHandles.lookup().unreflectVarHandle(field);
+    }
+    List<MethodHandle> handles = List.of(
+        varHandle.toMethodHandle(VarHandle.AccessMode.GET).asType(GETTER_TYPE),
+        varHandle.toMethodHandle(VarHandle.AccessMode.SET).asType(SETTER_TYPE),
+        varHandle.toMethodHandle(VarHandle.AccessMode.GET_VOLATILE).asType(GETTER_TYPE),
+        varHandle.toMethodHandle(VarHandle.AccessMode.SET_VOLATILE).asType(SETTER_TYPE),
+        varHandle.toMethodHandle(VarHandle.AccessMode.GET_OPAQUE).asType(GETTER_TYPE),
+        varHandle.toMethodHandle(VarHandle.AccessMode.SET_OPAQUE).asType(SETTER_TYPE),
+        varHandle.toMethodHandle(VarHandle.AccessMode.GET_ACQUIRE).asType(GETTER_TYPE),
+        varHandle.toMethodHandle(VarHandle.AccessMode.SET_RELEASE).asType(SETTER_TYPE),
+        getter(varHandle, int.class),
+        getter(varHandle, long.class),
+        getter(varHandle, double.class),
+        getter(varHandle, boolean.class)
+    );
+    try {
+      MethodHandles.Lookup accessorLookup = MethodHandles.lookup().defineHiddenClassWithClassData(
+          ACCESSOR_TEMPLATE, handles, true
+      );
+      return (StaticFieldAccessorImpl<?>) accessorLookup.findConstructor(
+          accessorLookup.lookupClass(), MethodType.methodType(void.class, Class.class, boolean.class)
+      ).invoke(field.getType(), Modifier.isFinal(field.getModifiers()));
+    } catch (Throwable e) {
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Failed to create accessor of the field {0} of the class {1}",
+          fieldName, aClass.getCanonicalName());
+    }
+  }
+
+  /**
+   * Returns getter of the field value converted to the given primitive type. If the field type is not convertible,
+   * getter fails on invocation.
+   */
+  private static MethodHandle getter(VarHandle varHandle, Class<?> type) {
+    MethodHandle getter = varHandle.toMethodHandle(VarHandle.AccessMode.GET);
+    try {
+      return getter.asType(MethodType.methodType(type));
+    } catch (WrongMethodTypeException e) {
+      return getter.asType(GETTER_TYPE).asType(MethodType.methodType(type));
+    }
+  }
+
+  private static byte[] readAccessorTemplate() {
+    String name = StaticFieldAccessorTemplate.class.getSimpleName() + ".class";
+    try (InputStream is = StaticFieldAccessorTemplate.class.getResourceAsStream(name)) {
+      if (is == null) {
+        throw UnexpectedExceptions.withMessage("Resource {0} is not found", name);
+      }
+      return is.readAllBytes();
+    } catch (IOException e) {
+      throw UnexpectedExceptions.withCauseAndMessage(e, "Failed to read resource {0}", name);
+    }
+  }
+}
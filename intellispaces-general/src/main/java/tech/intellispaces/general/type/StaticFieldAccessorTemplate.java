@@ -0,0 +1,186 @@
+package tech.intellispaces.general.type;
+
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+
+/**
+ * Template of the static field accessor.
+ * <p>
+ * The class is not used directly. Its bytecode is defined as hidden class per field with the list of the method
+ * handles of the access modes as class data. Method handles are stored to the static final fields, so they are
+ * constant for JIT compiler and are invoked with exact types.
+ */
+final class StaticFieldAccessorTemplate extends StaticFieldAccessorImpl<Object> {
+  private static final MethodHandle GET;
+  private static final MethodHandle SET;
+  private static final MethodHandle GET_VOLATILE;
+  private static final MethodHandle SET_VOLATILE;
+  private static final MethodHandle GET_OPAQUE;
+  private static final MethodHandle SET_OPAQUE;
+  private static final MethodHandle GET_ACQUIRE;
+  private static final MethodHandle SET_RELEASE;
+  private static final MethodHandle GET_INT;
+  private static final MethodHandle GET_LONG;
+  private static final MethodHandle GET_DOUBLE;
+  private static final MethodHandle GET_BOOLEAN;
+
+  static {
+    try {
+      GET = handle(StaticFieldAccessorImpl.GET);
+      SET = handle(StaticFieldAccessorImpl.SET);
+      GET_VOLATILE = handle(StaticFieldAccessorImpl.GET_VOLATILE);
+      SET_VOLATILE = handle(StaticFieldAccessorImpl.SET_VOLATILE);
+      GET_OPAQUE = handle(StaticFieldAccessorImpl.GET_OPAQUE);
+      SET_OPAQUE = handle(StaticFieldAccessorImpl.SET_OPAQUE);
+      GET_ACQUIRE = handle(StaticFieldAccessorImpl.GET_ACQUIRE);
+      SET_RELEASE = handle(StaticFieldAccessorImpl.SET_RELEASE);
+      GET_INT = handle(StaticFieldAccessorImpl.GET_INT);
+      GET_LONG = handle(StaticFieldAccessorImpl.GET_LONG);
+      GET_DOUBLE = handle(StaticFieldAccessorImpl.GET_DOUBLE);
+      GET_BOOLEAN = handle(StaticFieldAccessorImpl.GET_BOOLEAN);
+    } catch (IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  StaticFieldAccessorTemplate(Class<?> fieldType, boolean readOnly) {
+    super(fieldType, readOnly);
+  }
+
+  @Override
+  public Object get() {
+    try {
+      return (Object) GET.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public void set(Object value) {
+    try {
+      SET.invokeExact(value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public Object getVolatile() {
+    try {
+      return (Object) GET_VOLATILE.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public void setVolatile(Object value) {
+    try {
+      SET_VOLATILE.invokeExact(value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public Object getOpaque() {
+    try {
+      return (Object) GET_OPAQUE.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public void setOpaque(Object value) {
+    try {
+      SET_OPAQUE.invokeExact(value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public Object getAcquire() {
+    try {
+      return (Object) GET_ACQUIRE.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public void setRelease(Object value) {
+    try {
+      SET_RELEASE.invokeExact(value);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public int getInt() {
+    try {
+      return (int) GET_INT.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public long getLong() {
+    try {
+      return (long) GET_LONG.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public double getDouble() {
+    try {
+      return (double) GET_DOUBLE.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  @Override
+  public boolean getBoolean() {
+    try {
+      return (boolean) GET_BOOLEAN.invokeExact();
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable e) {
+      throw accessFailure(e);
+    }
+  }
+
+  private static MethodHandle handle(int index) throws IllegalAccessException {
+    return MethodHandles.classDataAt(MethodHandles.lookup(), ConstantDescs.DEFAULT_NAME, MethodHandle.class, index);
+  }
+}
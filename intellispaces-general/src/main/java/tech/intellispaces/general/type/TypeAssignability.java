@@ -0,0 +1,250 @@
+package tech.intellispaces.general.type;
+
+import tech.intellispaces.general.function.MemoizedBiFunction;
+import tech.intellispaces.general.function.Memoizers;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Assignability checker of the class types.
+ * <p>
+ * Qualifiers are covariant: type {@code List<Integer>} is assignable to {@code List<Number>}, like to the
+ * {@code List<? extends Number>}. Raw type of the generic class is assignable to any parameterization of its
+ * supertypes, like in unchecked conversion. Primitive types are assignable to the same primitive types only.
+ * <p>
+ * Supertype tables are cached per base class. Results are memoized per pair of the types in the bounded memoizer
+ * of the owner class, which class loader can see all classes of both types (see {@link ClassOwners}), so memoized
+ * results do not keep reachable other class loaders, and only limited number of the types is held strongly. Results
+ * for the types from unrelated class loaders are not memoized.
+ */
+final class TypeAssignability {
+
+  /**
+   * Linearized supertypes of the class, including the class itself, and their type arguments expressed through the
+   * type parameters of the class.
+   */
+  private static final ClassValue<Map<Class<?>, Template[]>> SUPERTYPES = new ClassValue<>() {
+    @Override
+    protected Map<Class<?>, Template[]> computeValue(Class<?> aClass) {
+      return Collections.unmodifiableMap(buildSupertypes(aClass));
+    }
+  };
+
+  /**
+   * Maximum number of the memoized results per owner class.
+   */
+  static final int MAX_RESULTS = 1024;
+
+  private static final ClassValue<MemoizedBiFunction<ClassType<?>, ClassType<?>, Boolean>> RESULTS =
+      new ClassValue<>() {
+        @Override
+        protected MemoizedBiFunction<ClassType<?>, ClassType<?>, Boolean> computeValue(Class<?> owner) {
+          return Memoizers.memoize(TypeAssignability::check, Memoizers.settings().maximumSize(MAX_RESULTS));
+        }
+      };
+
+  static boolean isAssignable(Type<?> from, Type<?> to) {
+    ClassType<?> fromClassType = from.asClassType();
+    ClassType<?> toClassType = to.asClassType();
+    if (fromClassType == null || toClassType == null) {
+      return Objects.equals(from, to);
+    }
+    if (fromClassType == toClassType) {
+      return true;
+    }
+    Class<?> owner = ClassOwners.owner(toClassType, ClassOwners.owner(fromClassType, Object.class));
+    if (owner == null) {
+      return check(fromClassType, toClassType);
+    }
+    return RESULTS.get(owner).apply(fromClassType, toClassType);
+  }
+
+  /**
+   * Returns number of the results memoized in the table of the owner class.
+   */
+  static long resultCount(Class<?> owner) {
+    return RESULTS.get(owner).stats().size();
+  }
+
+  private static boolean check(ClassType<?> from, ClassType<?> to) {
+    Class<?> fromClass = from.baseClass();
+    Class<?> toClass = to.baseClass();
+    if (fromClass.isPrimitive() || toClass.isPrimitive()) {
+      return fromClass == toClass;
+    }
+    if (!toClass.isAssignableFrom(fromClass)) {
+      return false;
+    }
+    List<Type<?>> toQualifiers = to.qualifierTypes();
+    List<Type<?>> fromQualifiers = from.qualifierTypes();
+    if (toQualifiers.isEmpty() || (fromQualifiers.isEmpty() && fromClass.getTypeParameters().length > 0)) {
+      return true;
+    }
+    Template[] arguments = SUPERTYPES.get(fromClass).get(toClass);
+    if (arguments == null || arguments.length == 0) {
+      return true;
+    }
+    if (arguments.length != toQualifiers.size()) {
+      return false;
+    }
+    for (int i = 0; i < arguments.length; i++) {
+      if (!isAssignable(arguments[i].resolve(fromQualifiers), toQualifiers.get(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static Map<Class<?>, Template[]> buildSupertypes(Class<?> aClass) {
+    var table = new LinkedHashMap<Class<?>, Template[]>();
+    TypeVariable<?>[] typeParameters = aClass.getTypeParameters();
+    var ownArguments = new Template[typeParameters.length];
+    for (int i = 0; i < typeParameters.length; i++) {
+      ownArguments[i] = new Variable(i, Types.of(typeParameters[i]));
+    }
+    table.put(aClass, ownArguments);
+
+    var queue = new ArrayDeque<Class<?>>();
+    queue.add(aClass);
+    while (!queue.isEmpty()) {
+      Class<?> currentClass = queue.poll();
+      Map<TypeVariable<?>, Template> environment = environment(currentClass, table.get(currentClass));
+      if (currentClass.getGenericSuperclass() != null) {
+        addSupertype(currentClass.getGenericSuperclass(), environment, table, queue);
+      }
+      for (java.lang.reflect.Type genericInterface : currentClass.getGenericInterfaces()) {
+        addSupertype(genericInterface, environment, table, queue);
+      }
+    }
+    return table;
+  }
+
+  private static void addSupertype(
+      java.lang.reflect.Type supertype,
+      Map<TypeVariable<?>, Template> environment,
+      Map<Class<?>, Template[]> table,
+      ArrayDeque<Class<?>> queue
+  ) {
+    Class<?> rawClass;
+    Template[] arguments;
+    if (supertype instanceof ParameterizedType) {
+      var parameterizedType = (ParameterizedType) supertype;
+      rawClass = (Class<?>) parameterizedType.getRawType();
+      java.lang.reflect.Type[] typeArguments = parameterizedType.getActualTypeArguments();
+      arguments = new Template[typeArguments.length];
+      for (int i = 0; i < typeArguments.length; i++) {
+        arguments[i] = template(typeArguments[i], environment);
+      }
+    } else {
+      rawClass = (Class<?>) supertype;
+      arguments = new Template[0];
+    }
+    if (table.putIfAbsent(rawClass, arguments) == null) {
+      queue.add(rawClass);
+    }
+  }
+
+  private static Map<TypeVariable<?>, Template> environment(Class<?> aClass, Template[] arguments) {
+    TypeVariable<?>[] typeParameters = aClass.getTypeParameters();
+    if (typeParameters.length != arguments.length) {
+      return Map.of();
+    }
+    var environment = new HashMap<TypeVariable<?>, Template>();
+    for (int i = 0; i < typeParameters.length; i++) {
+      environment.put(typeParameters[i], arguments[i]);
+    }
+    return environment;
+  }
+
+  private static Template template(java.lang.reflect.Type type, Map<TypeVariable<?>, Template> environment) {
+    if (type instanceof TypeVariable<?>) {
+      Template template = environment.get(type);
+      return template != null ? template : new Fixed(Types.of(type));
+    }
+    if (type instanceof WildcardType) {
+      return template(((WildcardType) type).getUpperBounds()[0], environment);
+    }
+    if (type instanceof ParameterizedType) {
+      var parameterizedType = (ParameterizedType) type;
+      java.lang.reflect.Type[] typeArguments = parameterizedType.getActualTypeArguments();
+      var arguments = new Template[typeArguments.length];
+      boolean fixed = true;
+      for (int i = 0; i < typeArguments.length; i++) {
+        arguments[i] = template(typeArguments[i], environment);
+        fixed &= arguments[i] instanceof Fixed;
+      }
+      var rawClass = (Class<?>) parameterizedType.getRawType();
+      return fixed ? new Fixed(Types.of(type)) : new Parameterized(rawClass, arguments);
+    }
+    return new Fixed(Types.of(type));
+  }
+
+  private TypeAssignability() {}
+
+  /**
+   * Type argument of the supertype.
+   */
+  private abstract static class Template {
+
+    /**
+     * Resolves type argument by the qualifiers of the subtype.
+     */
+    abstract Type<?> resolve(List<Type<?>> qualifierTypes);
+  }
+
+  private static final class Fixed extends Template {
+    private final Type<?> type;
+
+    Fixed(Type<?> type) {
+      this.type = type;
+    }
+
+    @Override
+    Type<?> resolve(List<Type<?>> qualifierTypes) {
+      return type;
+    }
+  }
+
+  private static final class Variable extends Template {
+    private final int index;
+    private final Type<?> bound;
+
+    Variable(int index, Type<?> bound) {
+      this.index = index;
+      this.bound = bound;
+    }
+
+    @Override
+    Type<?> resolve(List<Type<?>> qualifierTypes) {
+      return index < qualifierTypes.size() ? qualifierTypes.get(index) : bound;
+    }
+  }
+
+  private static final class Parameterized extends Template {
+    private final Class<?> rawClass;
+    private final Template[] arguments;
+
+    Parameterized(Class<?> rawClass, Template[] arguments) {
+      this.rawClass = rawClass;
+      this.arguments = arguments;
+    }
+
+    @Override
+    Type<?> resolve(List<Type<?>> qualifierTypes) {
+      var resolvedTypes = new Type<?>[arguments.length];
+      for (int i = 0; i < arguments.length; i++) {
+        resolvedTypes[i] = arguments[i].resolve(qualifierTypes);
+      }
+      return ClassTypeInterner.get(rawClass, List.of(resolvedTypes));
+    }
+  }
+}
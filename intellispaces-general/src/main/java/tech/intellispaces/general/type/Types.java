@@ -1,14 +1,17 @@
 package tech.intellispaces.general.type;
 
+import javax.lang.model.type.TypeMirror;
 import java.util.List;
 
 /**
  * Type provider.
+ * <p>
+ * Class types are interned: equal class types returned by the provider are identical instances.
  */
 public interface Types {
 
   static <T extends B, B> ClassType<T> get(Class<B> baseClass) {
-    return new ClassTypeImpl<>(baseClass);
+    return ClassTypeInterner.get(baseClass);
   }
 
   static <T extends B, B, Q> ClassType<T> get(
@@ -35,16 +38,13 @@ public interface Types {
   static <T extends B, B, Q> ClassType<T> get(
     Class<B> baseClass, Type<Q> qualifierType
   ) {
-    return new ClassTypeImpl<>(baseClass, List.of(qualifierType));
+    return ClassTypeInterner.get(baseClass, List.of(qualifierType));
   }
 
   static <T extends B, B, Q1, Q2> ClassType<T> get(
     Class<B> baseClass, Type<Q1> qualifierType1, Type<Q2> qualifierType2
   ) {
-    return new ClassTypeImpl<>(
-      baseClass,
-      List.of(qualifierType1, qualifierType2)
-    );
+    return ClassTypeInterner.get(baseClass, List.of(qualifierType1, qualifierType2));
   }
 
   static <T extends B, B, Q1, Q2, Q3> ClassType<T> get(
@@ -53,10 +53,62 @@ public interface Types {
     Type<Q2> qualifierType2,
     Type<Q3> qualifierType3
   ) {
-    return new ClassTypeImpl<>(baseClass, List.of(qualifierType1, qualifierType2, qualifierType3));
+    return ClassTypeInterner.get(baseClass, List.of(qualifierType1, qualifierType2, qualifierType3));
   }
 
   static <E> ClassType<List<E>> ofList(Class<E> elementClass) {
     return get(List.class, Types.get(elementClass));
   }
+
+  /**
+   * Checks that value of the type {@code from} is assignable to the type {@code to}.
+   * <p>
+   * Qualifiers are covariant, like wildcards {@code ? extends Q}. Raw type of the generic class is assignable to
+   * any parameterization of its supertypes, like in unchecked conversion.
+   *
+   * @param from the source type.
+   * @param to the target type.
+   * @return <code>true</code> if the source type is assignable to the target type.
+   */
+  static boolean isAssignable(Type<?> from, Type<?> to) {
+    return TypeAssignability.isAssignable(from, to);
+  }
+
+  /**
+   * Converts reflection type to the type.
+   * <p>
+   * Unresolved type variables and wildcards are replaced by their upper bounds.
+   *
+   * @param type the reflection type.
+   * @return the type.
+   */
+  static Type<?> of(java.lang.reflect.Type type) {
+    return JavaTypes.of(type);
+  }
+
+  /**
+   * Converts reflection type to the type resolving type variables against the context class.
+   * <p>
+   * Type variables of the superclasses and interfaces bound in the declaration of the context class are replaced by
+   * the type arguments. Resolutions are memoized per context class.
+   *
+   * @param type the reflection type.
+   * @param context the context class.
+   * @return the type.
+   */
+  static Type<?> of(java.lang.reflect.Type type, Class<?> context) {
+    return JavaTypes.of(type, context);
+  }
+
+  /**
+   * Converts Java Model type to the type.
+   * <p>
+   * Declared types are resolved to loaded classes.
+   *
+   * @param typeMirror the Java Model type.
+   * @return the type.
+   */
+  static Type<?> of(TypeMirror typeMirror) {
+    return JavaTypes.of(typeMirror);
+  }
 }
@@ -3,6 +3,7 @@ package tech.intellispaces.general.collection;
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import tech.intellispaces.general.exception.UnexpectedException;
 import tech.intellispaces.general.function.ThrowingFunction;
 
 import java.io.ByteArrayInputStream;
@@ -11,6 +12,10 @@ import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -66,4 +71,93 @@ public class CollectionFunctionsTest {
           .isInstanceOf(IOException.class);
       }
   }
+
+  @Test
+  public void testMapEachConcurrently_whenVirtualThreads() throws Exception {
+    // Given
+    List<Integer> source = IntStream.range(0, 10_000).boxed().toList();
+    var concurrency = new AtomicInteger();
+    var maxObservedConcurrency = new AtomicInteger();
+    ThrowingFunction<Integer, String, IOException> mapper = i -> {
+      maxObservedConcurrency.accumulateAndGet(concurrency.incrementAndGet(), Math::max);
+      try {
+        return String.valueOf(i);
+      } finally {
+        concurrency.decrementAndGet();
+      }
+    };
+
+    // When
+    List<String> result = CollectionFunctions.mapEachConcurrently(source, mapper, 4);
+
+    // Then
+    assertThat(result).isEqualTo(source.stream().map(String::valueOf).toList());
+    assertThat(maxObservedConcurrency.get()).isLessThanOrEqualTo(4);
+    assertThat(CollectionFunctions.mapEachConcurrently(null, mapper, 4)).isNull();
+  }
+
+  @Test
+  public void testMapEachConcurrently_whenVirtualThreadsAndException() {
+    // Given
+    List<Integer> source = IntStream.range(0, 10_000).boxed().toList();
+    var blocked = new CountDownLatch(1);
+    ThrowingFunction<Integer, Integer, IOException> mapper = i -> {
+      if (i == 0) {
+        try {
+          // Cancelled by the failure of the other element
+          blocked.await();
+        } catch (InterruptedException e) {
+          return i;
+        }
+      }
+      if (i == 100) {
+        throw new IOException("Element " + i);
+      }
+      return i;
+    };
+
+    // Then
+    assertThatThrownBy(() -> CollectionFunctions.mapEachConcurrently(source, mapper, 8))
+        .isExactlyInstanceOf(IOException.class)
+        .hasMessage("Element 100");
+  }
+
+  @Test
+  public void testMapEachConcurrently_whenInvalidConcurrency() {
+    assertThatThrownBy(() -> CollectionFunctions.mapEachConcurrently(List.of(1), i -> i, 0))
+        .isExactlyInstanceOf(UnexpectedException.class)
+        .hasMessage("Max concurrency should be positive number. Actual value: 0");
+  }
+
+  @Test
+  public void testMapEachConcurrently_whenForkJoinPool() throws Exception {
+    // Given
+    List<Integer> source = IntStream.range(0, 100_000).boxed().toList();
+
+    // When
+    List<Integer> result = CollectionFunctions.mapEachConcurrently(source, i -> i * 2, ForkJoinPool.commonPool());
+
+    // Then
+    assertThat(result).isEqualTo(source.stream().map(i -> i * 2).toList());
+  }
+
+  @Test
+  public void testMapEachConcurrently_whenForkJoinPoolAndException() {
+    // Given
+    List<Integer> source = IntStream.range(0, 100_000).boxed().toList();
+    var counter = new AtomicInteger();
+    ThrowingFunction<Integer, Integer, IOException> mapper = i -> {
+      counter.incrementAndGet();
+      if (i == 10) {
+        throw new IOException("Element " + i);
+      }
+      return i;
+    };
+
+    // Then
+    assertThatThrownBy(() -> CollectionFunctions.mapEachConcurrently(source, mapper, new ForkJoinPool(2)))
+        .isExactlyInstanceOf(IOException.class)
+        .hasMessage("Element 10");
+    assertThat(counter.get()).isLessThan(source.size());
+  }
 }
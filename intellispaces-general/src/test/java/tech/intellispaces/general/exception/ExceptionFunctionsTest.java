@@ -3,6 +3,7 @@ package tech.intellispaces.general.exception;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link ExceptionFunctions} class.
@@ -22,4 +23,15 @@ public class ExceptionFunctionsTest {
         .isExactlyInstanceOf(Exception.class)
         .hasMessage("message");
   }
+
+  @Test
+  public void testSneakyThrow() {
+    // Given
+    var exception = new CheckedException("message");
+
+    // Then
+    assertThatThrownBy(() -> {
+      throw ExceptionFunctions.sneakyThrow(exception);
+    }).isSameAs(exception);
+  }
 }
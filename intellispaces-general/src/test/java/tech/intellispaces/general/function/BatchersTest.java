@@ -0,0 +1,126 @@
+package tech.intellispaces.general.function;
+
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.general.exception.CheckedException;
+import tech.intellispaces.general.exception.UnexpectedException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link Batchers} and {@link BatcherImpl} classes.
+ */
+public class BatchersTest {
+
+  @Test
+  public void testApply_whenBatchSizeReached() throws Exception {
+    // Given
+    List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+    Batcher<Integer, String, CheckedException> batcher = Batchers.get(args -> {
+      batches.add(args);
+      return args.stream().map(String::valueOf).toList();
+    }, 3, Duration.ofHours(1));
+
+    // When
+    List<CompletableFuture<String>> futures = List.of(
+        batcher.applyAsync(1), batcher.applyAsync(2), batcher.applyAsync(3)
+    );
+
+    // Then
+    assertThat(futures.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("1");
+    assertThat(futures.get(1).get(5, TimeUnit.SECONDS)).isEqualTo("2");
+    assertThat(futures.get(2).get(5, TimeUnit.SECONDS)).isEqualTo("3");
+    assertThat(batches).containsExactly(List.of(1, 2, 3));
+    assertThat(batcher.pendingCount()).isZero();
+  }
+
+  @Test
+  public void testApply_whenTimeWindowExpired() throws Exception {
+    // Given
+    List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+    Batcher<Integer, Integer, CheckedException> batcher = Batchers.get(args -> {
+      batches.add(args);
+      return args.stream().map(i -> i * 2).toList();
+    }, 100, Duration.ofMillis(50));
+
+    // Then
+    assertThat(batcher.applyThrows(21)).isEqualTo(42);
+    assertThat(batches).containsExactly(List.of(21));
+  }
+
+  @Test
+  public void testApply_whenConcurrentCallers() throws Exception {
+    // Given
+    List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<>());
+    Batcher<Integer, Integer, CheckedException> batcher = Batchers.get(args -> {
+      batchSizes.add(args.size());
+      return args.stream().map(i -> i + 1).toList();
+    }, 10, Duration.ofMillis(20), Executors.newCachedThreadPool());
+    var executor = Executors.newFixedThreadPool(8);
+
+    try {
+      // When
+      var futures = new ArrayList<Future<Integer>>();
+      for (int i = 0; i < 1000; i++) {
+        int arg = i;
+        futures.add(executor.submit(() -> batcher.applyThrows(arg)));
+      }
+
+      // Then
+      for (int i = 0; i < 1000; i++) {
+        assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i + 1);
+      }
+      assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(1000);
+      assertThat(batchSizes).allMatch(size -> size <= 10);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testApply_whenBatchFunctionThrowsException() {
+    // Given
+    Batcher<Integer, Integer, CheckedException> batcher = Batchers.get(args -> {
+      throw new CheckedException("Batch failed");
+    }, 2, Duration.ofMillis(10));
+
+    // Then
+    assertThatThrownBy(() -> batcher.applyThrows(1)).isExactlyInstanceOf(CheckedException.class)
+        .hasMessage("Batch failed");
+  }
+
+  @Test
+  public void testApply_whenResultSizeMismatch() {
+    // Given
+    Batcher<Integer, Integer, CheckedException> batcher = Batchers.get(args -> List.of(), 1, Duration.ofMillis(10));
+
+    // Then
+    assertThatThrownBy(() -> batcher.applyAsync(1).get(5, TimeUnit.SECONDS))
+        .isExactlyInstanceOf(ExecutionException.class)
+        .hasCauseExactlyInstanceOf(UnexpectedException.class)
+        .hasRootCauseMessage("Batch function returned 0 results for 1 arguments");
+  }
+
+  @Test
+  public void testFlush() throws Exception {
+    // Given
+    Batcher<Integer, Integer, CheckedException> batcher = Batchers.get(args -> args, 100, Duration.ofHours(1));
+
+    // When
+    CompletableFuture<Integer> future = batcher.applyAsync(7);
+    batcher.flush();
+
+    // Then
+    assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(7);
+  }
+}
@@ -0,0 +1,103 @@
+package tech.intellispaces.general.function;
+
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.general.function.primitive.ObjectAndIntToObjectFunction;
+import tech.intellispaces.general.function.primitive.ObjectAndLongToLongFunction;
+import tech.intellispaces.general.function.primitive.ObjectToIntFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsAndIntToObjectFunction;
+import tech.intellispaces.general.function.primitive.TwoObjectsToIntFunction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link Bindings} class.
+ */
+public class BindingsTest {
+
+  @Test
+  public void testBind_whenTriFunction() {
+    // Given
+    TriFunction<String, String, String, String> concat = (s1, s2, s3) -> s1 + s2 + s3;
+
+    // When
+    BiFunction<String, String, String> bound1 = Bindings.bind1(concat, "a");
+    Function<String, String> bound2 = Bindings.bind2(concat, "a", "b");
+    Function<String, BiFunction<String, String, String>> curried = Bindings.curry(concat);
+
+    // Then
+    assertThat(bound1.apply("b", "c")).isEqualTo("abc");
+    assertThat(bound2.apply("c")).isEqualTo("abc");
+    assertThat(curried.apply("x").apply("y", "z")).isEqualTo("xyz");
+  }
+
+  @Test
+  public void testBind_whenQuintiFunction() {
+    // Given
+    QuintiFunction<String, String, String, String, String, String> concat = (s1, s2, s3, s4, s5) ->
+        s1 + s2 + s3 + s4 + s5;
+
+    // Then
+    assertThat(Bindings.bind1(concat, "a").apply("b", "c", "d", "e")).isEqualTo("abcde");
+    assertThat(Bindings.bind2(concat, "a", "b").apply("c", "d", "e")).isEqualTo("abcde");
+    assertThat(Bindings.bind3(concat, "a", "b", "c").apply("d", "e")).isEqualTo("abcde");
+    assertThat(Bindings.bind4(concat, "a", "b", "c", "d").apply("e")).isEqualTo("abcde");
+    assertThat(Bindings.curry(concat).apply("a").apply("b", "c", "d", "e")).isEqualTo("abcde");
+  }
+
+  @Test
+  public void testBind_whenSexiConsumer() {
+    // Given
+    List<String> result = new ArrayList<>();
+    SexiConsumer<String, String, String, String, String, String> consumer = (s1, s2, s3, s4, s5, s6) ->
+        result.add(s1 + s2 + s3 + s4 + s5 + s6);
+
+    // When
+    Bindings.bind1(consumer, "a").accept("b", "c", "d", "e", "f");
+    Bindings.bind3(consumer, "a", "b", "c").accept("d", "e", "f");
+    Bindings.bind5(consumer, "a", "b", "c", "d", "e").accept("f");
+    Bindings.curry(consumer).apply("x").accept("b", "c", "d", "e", "f");
+
+    // Then
+    assertThat(result).containsExactly("abcdef", "abcdef", "abcdef", "xbcdef");
+  }
+
+  @Test
+  public void testBind_whenPrimitiveFunctions() {
+    // Given
+    TwoObjectsToIntFunction<String, String> compare = String::compareTo;
+    TwoObjectsAndIntToObjectFunction<String, String, String> repeatConcat = (s1, s2, n) -> (s1 + s2).repeat(n);
+    ObjectAndLongToLongFunction<String> multiplyLength = (s, n) -> s.length() * n;
+    ObjectAndIntToObjectFunction<String, String> repeat = String::repeat;
+
+    // When
+    ObjectToIntFunction<String> compareWithB = Bindings.bind1ToInt(compare, "b");
+    LongUnaryOperator multiplyBy3 = Bindings.bind1LongToLong(multiplyLength, "abc");
+    IntFunction<String> repeatA = Bindings.bind1IntToObject(repeat, "a");
+
+    // Then
+    assertThat(compareWithB.applyAsInt("a")).isPositive();
+    assertThat(Bindings.bind1IntToObject(repeatConcat, "a").apply("b", 2)).isEqualTo("abab");
+    assertThat(multiplyBy3.applyAsLong(5)).isEqualTo(15);
+    assertThat(repeatA.apply(3)).isEqualTo("aaa");
+  }
+
+  @Test
+  public void testBind_whenLambdas() {
+    // When
+    BiFunction<Object, Object, String> concat = Bindings.bind1((s1, s2, s3) -> s1 + s2 + s3, "a");
+    IntFunction<String> repeat = Bindings.bind1IntToObject((s, n) -> s.repeat(n), "a");
+    ObjectToIntFunction<String> length = Bindings.bind1ToInt((s1, s2) -> s1.length() + s2.length(), "ab");
+
+    // Then
+    assertThat(concat.apply("b", "c")).isEqualTo("abc");
+    assertThat(repeat.apply(2)).isEqualTo("aa");
+    assertThat(length.applyAsInt("c")).isEqualTo(3);
+  }
+}
@@ -3,11 +3,23 @@ package tech.intellispaces.general.function;
 import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
 import tech.intellispaces.general.exception.CheckedException;
+import tech.intellispaces.general.exception.UnexpectedException;
 import tech.intellispaces.general.exception.WrappedException;
 import tech.intellispaces.general.sample.ThrowingFunctions;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
@@ -62,9 +74,215 @@ public class ConsumersTest {
         .hasNoCause();
   }
 
+  @Test
+  public void testSneakyConsumer_whenCheckedException() {
+    // When
+    ThrowableAssert.ThrowingCallable callable = () -> Stream.of("a", "", "b")
+        .peek(Consumers.sneakyConsumer(ThrowingFunctions::throwingCheckedConsumer))
+        .toList();
+
+    // Then
+    assertThatThrownBy(callable).isExactlyInstanceOf(CheckedException.class)
+        .hasMessage("Empty string");
+  }
+
+  @Test
+  public void testSneakyConsumer_whenUncheckedException() {
+    // When
+    ThrowableAssert.ThrowingCallable callable = () -> Stream.of("a", "", "b")
+        .peek(Consumers.sneakyConsumer(ThrowingFunctions::throwingUncheckedConsumer))
+        .toList();
+
+    // Then
+    assertThatThrownBy(callable).isExactlyInstanceOf(RuntimeException.class)
+        .hasNoCause();
+  }
+
+  @Test
+  public void testSneakyBiConsumer_whenCheckedException() {
+    // Given
+    ThrowingBiConsumer<String, String, CheckedException> throwingConsumer = (s1, s2) -> {
+      throw new CheckedException();
+    };
+
+    // When
+    BiConsumer<String, String> consumer = Consumers.sneakyBiConsumer(throwingConsumer);
+
+    // Then
+    assertThatThrownBy(() -> consumer.accept("a", "b")).isExactlyInstanceOf(CheckedException.class);
+  }
+
   @Test
   public void testIdle() {
     Consumers.idle().accept("abc");
     Consumers.idle(String.class).accept("abc");
   }
+
+  @Test
+  public void testAsync() {
+    // Given
+    List<Integer> consumed = new ArrayList<>();
+    AsyncConsumer<Integer> consumer = Consumers.async(consumed::add, AsyncConsumerSettings.defaults().capacity(8));
+
+    // When
+    for (int i = 0; i < 1000; i++) {
+      consumer.accept(i);
+    }
+    consumer.close();
+
+    // Then
+    assertThat(consumed).isEqualTo(IntStream.range(0, 1000).boxed().toList());
+    assertThat(consumer.queueDepth()).isZero();
+    assertThat(consumer.droppedCount()).isZero();
+    assertThatThrownBy(() -> consumer.accept(0)).isExactlyInstanceOf(UnexpectedException.class)
+        .hasMessage("Asynchronous consumer is closed");
+  }
+
+  @Test
+  public void testAsync_whenConcurrentProducers() throws Exception {
+    // Given
+    var sum = new AtomicLong();
+    AsyncConsumer<Integer> consumer = Consumers.<Integer>async(sum::addAndGet,
+        AsyncConsumerSettings.defaults().capacity(16).drainBatchSize(4));
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    // When
+    for (int t = 0; t < 4; t++) {
+      executor.execute(() -> IntStream.rangeClosed(1, 10_000).forEach(consumer::accept));
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    consumer.close();
+
+    // Then
+    assertThat(sum.get()).isEqualTo(4L * 10_000 * 10_001 / 2);
+  }
+
+  @Test
+  public void testAsync_whenClosedConcurrently() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      // Given
+      var consumedCount = new AtomicLong();
+      var acceptedCount = new AtomicLong();
+      AsyncConsumer<Integer> consumer = Consumers.async(value -> consumedCount.incrementAndGet());
+      ExecutorService executor = Executors.newFixedThreadPool(2);
+      for (int t = 0; t < 2; t++) {
+        executor.execute(() -> {
+          try {
+            while (true) {
+              consumer.accept(0);
+              acceptedCount.incrementAndGet();
+            }
+          } catch (UnexpectedException e) {
+            // Consumer is closed
+          }
+        });
+      }
+
+      // When
+      Thread.sleep(1);
+      consumer.close();
+      executor.shutdown();
+      assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+      // Then
+      assertThat(consumedCount.get()).isEqualTo(acceptedCount.get());
+    }
+  }
+
+  @Test
+  public void testAsync_whenDropPolicy() {
+    // Given
+    var release = new CountDownLatch(1);
+    AsyncConsumer<Integer> consumer = Consumers.async(value -> await(release),
+        AsyncConsumerSettings.defaults().capacity(2).backpressure(BackpressurePolicy.DROP));
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      consumer.accept(i);
+    }
+
+    // Then
+    assertThat(consumer.droppedCount()).isBetween(7L, 8L);
+    release.countDown();
+    consumer.close();
+  }
+
+  @Test
+  public void testAsync_whenCallerRunsPolicy() {
+    // Given
+    var release = new CountDownLatch(1);
+    Thread caller = Thread.currentThread();
+    List<Integer> consumedByCaller = new ArrayList<>();
+    AsyncConsumer<Integer> consumer = Consumers.async(value -> {
+      if (Thread.currentThread() == caller) {
+        consumedByCaller.add(value);
+      } else {
+        await(release);
+      }
+    }, AsyncConsumerSettings.defaults().capacity(2).backpressure(BackpressurePolicy.CALLER_RUNS));
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      consumer.accept(i);
+    }
+
+    // Then
+    assertThat(consumer.callerRunsCount()).isEqualTo((long) consumedByCaller.size()).isBetween(7L, 8L);
+    release.countDown();
+    consumer.close();
+  }
+
+  @Test
+  public void testAsyncThrowing_whenException() {
+    // Given
+    AsyncConsumer<String> consumer = Consumers.asyncThrowing(ThrowingFunctions::throwingCheckedConsumer);
+
+    // When
+    consumer.accept("a");
+    consumer.accept("");
+    consumer.close();
+
+    // Then
+    assertThat(consumer.failureCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testAsync_whenError() {
+    // Given
+    var consumed = new CopyOnWriteArrayList<String>();
+    AsyncConsumer<String> consumer = Consumers.async(value -> {
+      if (value.isEmpty()) {
+        throw new AssertionError("Empty string");
+      }
+      consumed.add(value);
+    });
+
+    // When
+    consumer.accept("");
+    consumer.accept("a");
+    consumer.close();
+
+    // Then
+    assertThat(consumed).containsExactly("a");
+    assertThat(consumer.failureCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testAsync_whenNullValue() {
+    // Given
+    AsyncConsumer<String> consumer = Consumers.async(value -> {});
+
+    // Then
+    assertThatThrownBy(() -> consumer.accept(null)).isExactlyInstanceOf(NullPointerException.class);
+    consumer.close();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
 }
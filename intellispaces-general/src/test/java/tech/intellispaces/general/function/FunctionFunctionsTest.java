@@ -193,4 +193,53 @@ public class FunctionFunctionsTest {
     assertThatThrownBy(callable).isExactlyInstanceOf(WrappedException.class)
         .hasCauseExactlyInstanceOf(CheckedException.class);
   }
+
+  @Test
+  public void testApplyAndPropagate_whenSneakyFunction() {
+    // Given
+    Stream<String> stream = Stream.of("a", "", "b");
+
+    // When
+    ThrowableAssert.ThrowingCallable callable = () -> FunctionFunctions.applyAndPropagate(
+        stream,
+        (s) -> s
+            .map(Functions.sneakyFunction(ThrowingFunctions::throwingCheckedFunction))
+            .toList(),
+        CheckedException.class);
+
+    // Then
+    assertThatThrownBy(callable).isExactlyInstanceOf(CheckedException.class)
+        .hasNoCause();
+  }
+
+  @Test
+  public void testApplyAndPropagate_whenNoException() throws Exception {
+    // Given
+    Stream<String> stream = Stream.of("a", "b");
+
+    // When
+    var result = FunctionFunctions.applyAndPropagate(
+        stream,
+        (s) -> s
+            .map(Functions.sneakyFunction(ThrowingFunctions::throwingCheckedFunction))
+            .toList(),
+        CheckedException.class);
+
+    // Then
+    assertThat(result).containsExactly('a', 'b');
+  }
+
+  @Test
+  public void testRunAndPropagate_whenSneakyFunction() {
+    // When
+    ThrowableAssert.ThrowingCallable callable = () -> FunctionFunctions.runAndPropagate(
+        () -> Stream.of("a", "", "b")
+            .map(Functions.sneakyFunction(ThrowingFunctions::throwingCheckedFunction))
+            .toList(),
+        CheckedException.class);
+
+    // Then
+    assertThatThrownBy(callable).isExactlyInstanceOf(CheckedException.class)
+        .hasNoCause();
+  }
 }
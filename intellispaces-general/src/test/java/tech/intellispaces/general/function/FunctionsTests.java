@@ -4,10 +4,15 @@ import org.assertj.core.api.ThrowableAssert;
 import org.junit.jupiter.api.Test;
 import tech.intellispaces.general.exception.CheckedException;
 import tech.intellispaces.general.exception.WrappedException;
+import tech.intellispaces.general.metric.LatencySnapshot;
+import tech.intellispaces.general.metric.LatencyTimers;
 import tech.intellispaces.general.sample.ThrowingFunctions;
 
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
@@ -62,4 +67,130 @@ public class FunctionsTests {
         .hasNoCause();
   }
 
+  @Test
+  public void testSneakyFunction_whenCheckedException() {
+    // When
+    ThrowableAssert.ThrowingCallable callable = () -> Stream.of("a", "", "b")
+        .map(Functions.sneakyFunction(ThrowingFunctions::throwingCheckedFunction))
+        .toList();
+
+    // Then
+    assertThatThrownBy(callable).isExactlyInstanceOf(CheckedException.class)
+        .hasMessage("Empty string");
+  }
+
+  @Test
+  public void testSneakyFunction_whenUncheckedException() {
+    // When
+    ThrowableAssert.ThrowingCallable callable = () -> Stream.of("a", "", "b")
+        .map(Functions.sneakyFunction(ThrowingFunctions::throwingUncheckedFunction))
+        .toList();
+
+    // Then
+    assertThatThrownBy(callable).isExactlyInstanceOf(RuntimeException.class)
+        .hasNoCause();
+  }
+
+  @Test
+  public void testSneakyFunction_whenNoException() {
+    // When
+    Function<String, Character> function = Functions.sneakyFunction(ThrowingFunctions::throwingCheckedFunction);
+
+    // Then
+    assertThat(function.apply("abc")).isEqualTo('a');
+  }
+
+  @Test
+  public void testSneakyBiFunction() {
+    // Given
+    ThrowingBiFunction<String, String, Integer, CheckedException> throwingFunction = (s1, s2) -> {
+      if (s1.isEmpty()) {
+        throw new CheckedException();
+      }
+      return s1.length() + s2.length();
+    };
+
+    // When
+    BiFunction<String, String, Integer> function = Functions.sneakyBiFunction(throwingFunction);
+
+    // Then
+    assertThat(function.apply("a", "bc")).isEqualTo(3);
+    assertThatThrownBy(() -> function.apply("", "bc")).isExactlyInstanceOf(CheckedException.class);
+  }
+
+  @Test
+  public void testSneakyTriFunction() {
+    // Given
+    ThrowingTriFunction<String, String, String, Integer, CheckedException> throwingFunction = (s1, s2, s3) -> {
+      if (s1.isEmpty()) {
+        throw new CheckedException();
+      }
+      return s1.length() + s2.length() + s3.length();
+    };
+
+    // When
+    TriFunction<String, String, String, Integer> function = Functions.sneakyTriFunction(throwingFunction);
+
+    // Then
+    assertThat(function.apply("a", "bc", "def")).isEqualTo(6);
+    assertThatThrownBy(() -> function.apply("", "bc", "def")).isExactlyInstanceOf(CheckedException.class);
+  }
+
+  @Test
+  public void testSneakyQuadriFunction() {
+    // Given
+    ThrowingQuadriFunction<String, String, String, String, Integer, CheckedException> throwingFunction =
+        (s1, s2, s3, s4) -> {
+          if (s1.isEmpty()) {
+            throw new CheckedException();
+          }
+          return s1.length() + s2.length() + s3.length() + s4.length();
+        };
+
+    // When
+    QuadriFunction<String, String, String, String, Integer> function = Functions.sneakyQuadriFunction(
+        throwingFunction
+    );
+
+    // Then
+    assertThat(function.apply("a", "bc", "def", "ghij")).isEqualTo(10);
+    assertThatThrownBy(() -> function.apply("", "bc", "def", "ghij")).isExactlyInstanceOf(CheckedException.class);
+  }
+
+  @Test
+  public void testTimed() {
+    // Given
+    Function<String, Integer> function = Functions.timed("FunctionsTests.timed", String::length);
+
+    // When
+    function.apply("a");
+    function.apply("bc");
+    assertThatThrownBy(() -> function.apply(null)).isExactlyInstanceOf(NullPointerException.class);
+    LatencySnapshot snapshot = LatencyTimers.snapshots().get("FunctionsTests.timed");
+
+    // Then
+    assertThat(snapshot.count()).isEqualTo(3);
+    assertThat(snapshot.errorCount()).isEqualTo(1);
+    assertThat(snapshot.sampleCount()).isEqualTo(3);
+    LatencyTimers.remove("FunctionsTests.timed");
+  }
+
+  @Test
+  public void testTimedThrowing_whenCheckedException() {
+    // Given
+    ThrowingFunction<String, Character, CheckedException> function = Functions.timedThrowing(
+        "FunctionsTests.timedThrowing", ThrowingFunctions::throwingCheckedFunction
+    );
+
+    // Then
+    assertThatThrownBy(() -> function.applyThrows("")).isExactlyInstanceOf(CheckedException.class);
+    assertThat(LatencyTimers.get("FunctionsTests.timedThrowing").snapshot().errorCount()).isEqualTo(1);
+    LatencyTimers.remove("FunctionsTests.timedThrowing");
+  }
+
+  @Test
+  public void testTimed_whenInvalidSampleRate() {
+    assertThatThrownBy(() -> Functions.timed("FunctionsTests.invalid", String::length, 0))
+        .hasMessage("Sample rate should be positive number. Actual value: 0");
+  }
 }
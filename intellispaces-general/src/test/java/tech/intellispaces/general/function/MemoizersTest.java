@@ -0,0 +1,334 @@
+package tech.intellispaces.general.function;
+
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.general.exception.CheckedException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link Memoizers} class.
+ */
+public class MemoizersTest {
+
+  @Test
+  public void testMemoize_whenFunction() {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedFunction<String, Integer> function = Memoizers.memoize(s -> {
+      counter.incrementAndGet();
+      return s.length();
+    });
+
+    // When
+    int result1 = function.apply("abc");
+    int result2 = function.apply("abc");
+    int result3 = function.apply("de");
+
+    // Then
+    assertThat(result1).isEqualTo(3);
+    assertThat(result2).isEqualTo(3);
+    assertThat(result3).isEqualTo(2);
+    assertThat(counter.get()).isEqualTo(2);
+    assertThat(function.stats().hitCount()).isEqualTo(1);
+    assertThat(function.stats().missCount()).isEqualTo(2);
+    assertThat(function.stats().size()).isEqualTo(2);
+  }
+
+  @Test
+  public void testMemoize_whenNullResult() {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedFunction<String, String> function = Memoizers.memoize(s -> {
+      counter.incrementAndGet();
+      return null;
+    });
+
+    // Then
+    assertThat(function.apply("a")).isNull();
+    assertThat(function.apply("a")).isNull();
+    assertThat(counter.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testMemoize_whenNullArgument() {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedFunction<String, String> function = Memoizers.memoize(s -> {
+      counter.incrementAndGet();
+      return String.valueOf(s);
+    });
+
+    // When
+    String result1 = function.apply(null);
+    String result2 = function.apply(null);
+    function.invalidate(null);
+    String result3 = function.apply(null);
+
+    // Then
+    assertThat(result1).isEqualTo("null");
+    assertThat(result2).isEqualTo("null");
+    assertThat(result3).isEqualTo("null");
+    assertThat(counter.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testInvalidate() {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedFunction<String, Integer> function = Memoizers.memoize(s -> counter.incrementAndGet());
+
+    // When
+    function.apply("a");
+    function.invalidate("a");
+    function.apply("a");
+    function.invalidateAll();
+    function.apply("a");
+
+    // Then
+    assertThat(counter.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testMemoizeThrowing_whenFailuresAreNotMemoized() {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedThrowingFunction<String, Integer, CheckedException> function = Memoizers.memoizeThrowing(s -> {
+      counter.incrementAndGet();
+      throw new CheckedException(s);
+    });
+
+    // Then
+    assertThatThrownBy(() -> function.applyThrows("a")).isExactlyInstanceOf(CheckedException.class)
+        .hasMessage("a");
+    assertThatThrownBy(() -> function.applyThrows("a")).isExactlyInstanceOf(CheckedException.class);
+    assertThat(counter.get()).isEqualTo(2);
+    assertThat(function.stats().failureCount()).isEqualTo(2);
+    assertThat(function.stats().size()).isEqualTo(0);
+  }
+
+  @Test
+  public void testMemoizeThrowing_whenFailuresAreMemoized() {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedThrowingFunction<String, Integer, CheckedException> function = Memoizers.memoizeThrowing(s -> {
+      counter.incrementAndGet();
+      throw new CheckedException(s);
+    }, Memoizers.settings().memoizeFailures(true));
+
+    // Then
+    assertThatThrownBy(() -> function.applyThrows("a")).isExactlyInstanceOf(CheckedException.class);
+    assertThatThrownBy(() -> function.applyThrows("a")).isExactlyInstanceOf(CheckedException.class);
+    assertThat(counter.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testMemoize_whenConcurrentMisses() throws Exception {
+    // Given
+    var counter = new AtomicInteger();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    MemoizedFunction<String, Integer> function = Memoizers.memoize(s -> {
+      counter.incrementAndGet();
+      started.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      return s.length();
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // When
+      Future<Integer> first = executor.submit(() -> function.apply("abc"));
+      started.await();
+      List<Future<Integer>> others = List.of(
+          executor.submit(() -> function.apply("abc")),
+          executor.submit(() -> function.apply("abc")),
+          executor.submit(() -> function.apply("abc"))
+      );
+      release.countDown();
+
+      // Then
+      assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+      for (Future<Integer> future : others) {
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+      }
+      assertThat(counter.get()).isEqualTo(1);
+      assertThat(function.stats().missCount()).isEqualTo(1);
+      assertThat(function.stats().hitCount()).isEqualTo(3);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testMemoize_whenMaximumSize() {
+    // Given
+    MemoizedFunction<Integer, Integer> function = Memoizers.memoize(
+        i -> i * 2, Memoizers.settings().maximumSize(100)
+    );
+
+    // When
+    for (int i = 0; i < 1000; i++) {
+      function.apply(i);
+    }
+
+    // Then
+    assertThat(function.stats().size()).isLessThanOrEqualTo(100);
+    assertThat(function.stats().evictionCount()).isEqualTo(1000 - function.stats().size());
+  }
+
+  @Test
+  public void testMemoize_whenMaximumSizeAndFrequentlyUsedKey() {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedFunction<Integer, Integer> function = Memoizers.memoize(i -> {
+      if (i == 0) {
+        counter.incrementAndGet();
+      }
+      return i;
+    }, Memoizers.settings().maximumSize(10));
+
+    // When
+    for (int i = 1; i < 1000; i++) {
+      function.apply(0);
+      function.apply(i);
+    }
+
+    // Then
+    assertThat(counter.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testMemoize_whenMaximumWeight() {
+    // Given
+    MemoizedFunction<String, Integer> function = Memoizers.memoize(
+        String::length,
+        Memoizers.settings().maximumWeight(10, (String key, Integer value) -> value)
+    );
+
+    // When
+    function.apply("aaaa");
+    function.apply("bbbb");
+    function.apply("cccc");
+
+    // Then
+    assertThat(function.stats().size()).isEqualTo(2);
+    assertThat(function.stats().evictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testMemoize_whenBoundedCacheIsInvalidated() {
+    // Given
+    var cache = new MemoizingCache(Memoizers.settings().maximumSize(1000));
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      cache.get(i, (Integer key) -> key * 2);
+      cache.invalidate(i);
+    }
+
+    // Then
+    assertThat(cache.stats().size()).isZero();
+    assertThat(cache.queuedCount()).isLessThanOrEqualTo(1);
+  }
+
+  @Test
+  public void testMemoize_whenBoundedCacheEntriesExpire() {
+    // Given
+    var cache = new MemoizingCache(Memoizers.settings().maximumSize(1000).expireAfterWrite(Duration.ofNanos(1)));
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      cache.get(i % 10, (Integer key) -> key * 2);
+    }
+
+    // Then
+    assertThat(cache.stats().size()).isLessThanOrEqualTo(10);
+    assertThat(cache.queuedCount()).isLessThanOrEqualTo(2 * (int) cache.stats().size() + 1);
+  }
+
+  @Test
+  public void testMemoize_whenExpired() throws Exception {
+    // Given
+    var counter = new AtomicInteger();
+    MemoizedFunction<String, Integer> function = Memoizers.memoize(
+        s -> counter.incrementAndGet(), Memoizers.settings().expireAfterWrite(Duration.ofMillis(200))
+    );
+
+    // When
+    function.apply("a");
+    function.apply("a");
+    Thread.sleep(300);
+    function.apply("a");
+
+    // Then
+    assertThat(counter.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testMemoize_whenBiFunction() {
+    // Given
+    var counter = new AtomicInteger();
+    BiFunction<String, Integer, String> repeat = (s, n) -> {
+      counter.incrementAndGet();
+      return s == null ? null : s.repeat(n);
+    };
+    MemoizedBiFunction<String, Integer, String> function = Memoizers.memoize(repeat);
+
+    // Then
+    assertThat(function.apply("a", 2)).isEqualTo("aa");
+    assertThat(function.apply("a", 2)).isEqualTo("aa");
+    assertThat(function.apply("a", 3)).isEqualTo("aaa");
+    assertThat(function.apply(null, 0)).isNull();
+    assertThat(function.apply(null, 0)).isNull();
+    assertThat(counter.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void testMemoize_whenTriFunction() {
+    // Given
+    var counter = new AtomicInteger();
+    TriFunction<String, String, String, String> concat = (s1, s2, s3) -> {
+      counter.incrementAndGet();
+      return s1 + s2 + s3;
+    };
+    MemoizedTriFunction<String, String, String, String> function = Memoizers.memoize(concat);
+
+    // Then
+    assertThat(function.apply("a", "b", "c")).isEqualTo("abc");
+    assertThat(function.apply("a", "b", "c")).isEqualTo("abc");
+    assertThat(counter.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void testMemoize_whenQuadriFunction() {
+    // Given
+    var counter = new AtomicInteger();
+    QuadriFunction<String, String, String, String, String> concat = (s1, s2, s3, s4) -> {
+      counter.incrementAndGet();
+      return s1 + s2 + s3 + s4;
+    };
+    MemoizedQuadriFunction<String, String, String, String, String> function = Memoizers.memoize(concat);
+
+    // Then
+    assertThat(function.apply("a", "b", "c", "d")).isEqualTo("abcd");
+    assertThat(function.apply("a", "b", "c", "d")).isEqualTo("abcd");
+    function.invalidate("a", "b", "c", "d");
+    assertThat(function.apply("a", "b", "c", "d")).isEqualTo("abcd");
+    assertThat(counter.get()).isEqualTo(2);
+  }
+}
@@ -0,0 +1,156 @@
+package tech.intellispaces.general.function;
+
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.general.exception.CheckedException;
+import tech.intellispaces.general.exception.UnexpectedException;
+import tech.intellispaces.general.exception.WrappedException;
+import tech.intellispaces.general.sample.ThrowingFunctions;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link Pipelines} and {@link PipelineImpl} classes.
+ */
+public class PipelinesTest {
+
+  @Test
+  public void testMap() {
+    // Given
+    Function<String, Integer> function = Pipelines.of(String::trim)
+        .map(String::length)
+        .map(length -> length * 2)
+        .build();
+
+    // Then
+    assertThat(function.apply(" abc ")).isEqualTo(6);
+  }
+
+  @Test
+  public void testIdentity() {
+    assertThat(Pipelines.<String>identity().build().apply("abc")).isEqualTo("abc");
+  }
+
+  @Test
+  public void testBuild_whenSeveralFunctions() {
+    // Given
+    Pipeline<String, Integer> pipeline = Pipelines.of(String::length);
+
+    // When
+    Function<String, Integer> function1 = pipeline.build();
+    Function<String, Integer> function2 = pipeline.map(length -> length * 2).build();
+
+    // Then
+    assertThat(function1.apply("abc")).isEqualTo(3);
+    assertThat(function2.apply("abc")).isEqualTo(6);
+    assertThat(function1.getClass().isHidden()).isTrue();
+    assertThat(function2.getClass()).isNotSameAs(function1.getClass());
+  }
+
+  @Test
+  public void testMapThrowing() {
+    // Given
+    Function<String, Character> function = Pipelines.ofThrowing(ThrowingFunctions::throwingCheckedFunction).build();
+
+    // Then
+    assertThat(function.apply("abc")).isEqualTo('a');
+    assertThatThrownBy(() -> function.apply("")).isExactlyInstanceOf(WrappedException.class)
+        .hasCauseExactlyInstanceOf(CheckedException.class);
+  }
+
+  @Test
+  public void testMapThrowing_whenUncheckedException() {
+    // Given
+    Function<String, Character> function = Pipelines.<String>identity()
+        .mapThrowing(ThrowingFunctions::throwingUncheckedFunction)
+        .build();
+
+    // Then
+    assertThatThrownBy(() -> function.apply("")).isExactlyInstanceOf(RuntimeException.class)
+        .hasMessage("Empty string");
+  }
+
+  @Test
+  public void testMapThrowing_whenExceptionFactory() {
+    // Given
+    Function<String, Character> function = Pipelines.<String>identity()
+        .mapThrowing(ThrowingFunctions::throwingCheckedFunction, e -> new UnexpectedException(e.getMessage()))
+        .build();
+
+    // Then
+    assertThatThrownBy(() -> function.apply("")).isExactlyInstanceOf(UnexpectedException.class)
+        .hasMessage("Empty string");
+  }
+
+  @Test
+  public void testCoalesce() {
+    // Given
+    Function<String, String> function = Pipelines.<String>identity()
+        .<String>coalesce(List.of(
+            s -> s.startsWith("a") ? "first" : null,
+            s -> s.startsWith("b") ? "second" : null,
+            s -> s.startsWith("c") ? "third" : null
+        ))
+        .build();
+
+    // Then
+    assertThat(function.apply("a")).isEqualTo("first");
+    assertThat(function.apply("b")).isEqualTo("second");
+    assertThat(function.apply("c")).isEqualTo("third");
+    assertThat(function.apply("d")).isNull();
+  }
+
+  @Test
+  public void testCoalesce_whenTwoFunctions() {
+    // Given
+    Function<String, String> function = Pipelines.of(String::trim)
+        .coalesce(s -> s.isEmpty() ? null : s, s -> "empty")
+        .build();
+
+    // Then
+    assertThat(function.apply(" a ")).isEqualTo("a");
+    assertThat(function.apply("  ")).isEqualTo("empty");
+  }
+
+  @Test
+  public void testOrElse() {
+    // Given
+    Function<String, String> function = Pipelines.<String>identity().orElse("default").build();
+    Function<String, String> supplierFunction = Pipelines.<String>identity().orElseGet(() -> "supplied").build();
+
+    // Then
+    assertThat(function.apply("a")).isEqualTo("a");
+    assertThat(function.apply(null)).isEqualTo("default");
+    assertThat(supplierFunction.apply("a")).isEqualTo("a");
+    assertThat(supplierFunction.apply(null)).isEqualTo("supplied");
+  }
+
+  @Test
+  public void testTranslateException() {
+    // Given
+    Function<String, Integer> function = Pipelines.<String, Integer>of(Integer::parseInt)
+        .translateException(NumberFormatException.class, e -> new IllegalArgumentException("Invalid number", e))
+        .map(i -> i + 1)
+        .build();
+
+    // Then
+    assertThat(function.apply("1")).isEqualTo(2);
+    assertThatThrownBy(() -> function.apply("a")).isExactlyInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Invalid number")
+        .hasCauseExactlyInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  public void testTranslateException_whenOtherException() {
+    // Given
+    Function<String, Integer> function = Pipelines.of(String::length)
+        .translateException(NumberFormatException.class, e -> new IllegalArgumentException(e))
+        .build();
+
+    // Then
+    assertThatThrownBy(() -> function.apply(null)).isExactlyInstanceOf(NullPointerException.class);
+  }
+}
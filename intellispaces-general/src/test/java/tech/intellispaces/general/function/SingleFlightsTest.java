@@ -0,0 +1,104 @@
+package tech.intellispaces.general.function;
+
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.general.exception.CheckedException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link SingleFlights} and {@link SingleFlightImpl} classes.
+ */
+public class SingleFlightsTest {
+
+  @Test
+  public void testExecute_whenConcurrentCalls() throws Exception {
+    // Given
+    var counter = new AtomicInteger();
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    SingleFlight<String, Integer, InterruptedException> singleFlight = SingleFlights.getThrowing(key -> {
+      counter.incrementAndGet();
+      started.countDown();
+      release.await();
+      return key.length();
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    try {
+      // When
+      Future<Integer> first = executor.submit(() -> singleFlight.execute("abc"));
+      started.await();
+      List<Future<Integer>> others = new ArrayList<>();
+      for (int i = 0; i < 3; i++) {
+        others.add(executor.submit(() -> singleFlight.execute("abc")));
+      }
+      Thread.sleep(100);
+      release.countDown();
+
+      // Then
+      assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+      for (Future<Integer> future : others) {
+        assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(3);
+      }
+      assertThat(counter.get()).isEqualTo(1);
+      assertThat(singleFlight.inFlightCount()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testExecute_whenSequentialCalls() {
+    // Given
+    var counter = new AtomicInteger();
+    SingleFlight<String, Integer, RuntimeException> singleFlight = SingleFlights.get(key -> counter.incrementAndGet());
+
+    // When
+    singleFlight.execute("a");
+    singleFlight.execute("a");
+    singleFlight.execute(null);
+
+    // Then
+    assertThat(counter.get()).isEqualTo(3);
+    assertThat(singleFlight.inFlightCount()).isZero();
+  }
+
+  @Test
+  public void testExecute_whenCheckedException() throws Exception {
+    // Given
+    var started = new CountDownLatch(1);
+    var release = new CountDownLatch(1);
+    SingleFlight<String, Integer, Exception> singleFlight = SingleFlights.getThrowing(key -> {
+      started.countDown();
+      release.await();
+      throw new CheckedException(key);
+    });
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    try {
+      // When
+      Future<Integer> first = executor.submit(() -> singleFlight.execute("a"));
+      started.await();
+      Future<Integer> second = executor.submit(() -> singleFlight.execute("a"));
+      Thread.sleep(100);
+      release.countDown();
+
+      // Then
+      assertThatThrownBy(() -> first.get(5, TimeUnit.SECONDS)).hasCauseExactlyInstanceOf(CheckedException.class);
+      assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasCauseExactlyInstanceOf(CheckedException.class);
+      assertThat(singleFlight.inFlightCount()).isZero();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
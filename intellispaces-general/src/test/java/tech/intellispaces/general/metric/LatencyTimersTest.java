@@ -0,0 +1,101 @@
+package tech.intellispaces.general.metric;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LatencyTimers} and {@link LatencyTimer} classes.
+ */
+public class LatencyTimersTest {
+
+  @Test
+  public void testGet_whenSameName() {
+    // When
+    LatencyTimer timer1 = LatencyTimers.get("LatencyTimersTest.same");
+    LatencyTimer timer2 = LatencyTimers.get("LatencyTimersTest.same");
+
+    // Then
+    assertThat(timer1).isSameAs(timer2);
+    assertThat(LatencyTimers.snapshots()).containsKey("LatencyTimersTest.same");
+    LatencyTimers.remove("LatencyTimersTest.same");
+    assertThat(LatencyTimers.snapshots()).doesNotContainKey("LatencyTimersTest.same");
+  }
+
+  @Test
+  public void testSnapshot_whenPercentiles() {
+    // Given
+    LatencyTimer timer = new LatencyTimer("test");
+
+    // When
+    for (int i = 1; i <= 1000; i++) {
+      timer.record(i * 1000L);
+    }
+    LatencySnapshot snapshot = timer.snapshot();
+
+    // Then
+    assertThat(snapshot.sampleCount()).isEqualTo(1000);
+    assertThat(snapshot.max()).isEqualTo(Duration.ofNanos(1_000_000));
+    assertThat(snapshot.mean()).isEqualTo(Duration.ofNanos(500_500));
+    assertThat(snapshot.p50().toNanos()).isBetween(500_000L, 500_000L * 33 / 32);
+    assertThat(snapshot.p99().toNanos()).isBetween(990_000L, 1_000_000L);
+    assertThat(snapshot.percentile(100)).isEqualTo(Duration.ofNanos(1_000_000));
+  }
+
+  @Test
+  public void testSnapshot_whenEmpty() {
+    // When
+    LatencySnapshot snapshot = new LatencyTimer("test").snapshot();
+
+    // Then
+    assertThat(snapshot.count()).isZero();
+    assertThat(snapshot.p99()).isEqualTo(Duration.ZERO);
+    assertThat(snapshot.mean()).isEqualTo(Duration.ZERO);
+    assertThat(snapshot.errorRate()).isZero();
+  }
+
+  @Test
+  public void testStop_whenErrors() {
+    // Given
+    LatencyTimer timer = new LatencyTimer("test");
+
+    // When
+    timer.stop(timer.start(1));
+    timer.stopWithError(timer.start(1));
+    LatencySnapshot snapshot = timer.snapshot();
+
+    // Then
+    assertThat(snapshot.count()).isEqualTo(2);
+    assertThat(snapshot.errorCount()).isEqualTo(1);
+    assertThat(snapshot.sampleCount()).isEqualTo(2);
+    assertThat(snapshot.errorRate()).isEqualTo(0.5);
+    assertThat(snapshot.ratePerSecond()).isPositive();
+  }
+
+  @Test
+  public void testStart_whenSampling() {
+    // Given
+    LatencyTimer timer = new LatencyTimer("test");
+
+    // When
+    for (int i = 0; i < 10_000; i++) {
+      timer.stop(timer.start(100));
+    }
+    LatencySnapshot snapshot = timer.snapshot();
+
+    // Then
+    assertThat(snapshot.count()).isEqualTo(10_000);
+    assertThat(snapshot.sampleCount()).isBetween(20L, 300L);
+  }
+
+  @Test
+  public void testHistogramIndex() {
+    for (long value : new long[] { 0, 1, 31, 32, 33, 1000, 123_456_789, Long.MAX_VALUE }) {
+      int index = LogLinearHistogram.index(value);
+      assertThat(LogLinearHistogram.highestValue(index)).isGreaterThanOrEqualTo(value);
+      assertThat(LogLinearHistogram.highestValue(index) - value).isLessThanOrEqualTo(value / 32);
+    }
+  }
+}
@@ -3,8 +3,15 @@ package tech.intellispaces.general.object;
 import org.junit.jupiter.api.Test;
 import tech.intellispaces.general.exception.UnexpectedException;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -228,4 +235,197 @@ public class ObjectFunctionsTest {
     assertThat((String) ObjectFunctions.coalesce(1, n -> "a", n -> null)).isEqualTo("a");
     assertThat((String) ObjectFunctions.coalesce(1, n -> null, n -> null)).isNull();
   }
+
+  @Test
+  public void testHandleConcurrently() {
+    // Given
+    List<String> result = Collections.synchronizedList(new ArrayList<>());
+    var barrier = new CyclicBarrier(3);
+
+    // When
+    ObjectFunctions.handleConcurrently("a",
+        s -> { await(barrier); result.add(s + "1"); },
+        s -> { await(barrier); result.add(s + "2"); },
+        s -> { await(barrier); result.add(s + "3"); }
+    );
+
+    // Then
+    assertThat(result).containsExactlyInAnyOrder("a1", "a2", "a3");
+  }
+
+  @Test
+  public void testHandleConcurrently_whenException() {
+    // Given
+    var interrupted = new AtomicBoolean();
+
+    // Then
+    assertThatThrownBy(() -> ObjectFunctions.handleConcurrently("a",
+        s -> interrupted.set(sleep(Duration.ofSeconds(10))),
+        s -> { throw new IllegalStateException("Failed " + s); }
+    )).isExactlyInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed a");
+    assertThat(interrupted.get()).isTrue();
+  }
+
+  @Test
+  public void testHandleConcurrently_whenBestEffort() {
+    // Given
+    List<String> result = Collections.synchronizedList(new ArrayList<>());
+
+    // When
+    HandlingReport report = ObjectFunctions.handleConcurrently("a",
+        s -> { throw new IllegalStateException("Failed 1"); },
+        s -> { sleep(Duration.ofMillis(50)); result.add(s + "2"); },
+        s -> { throw new IllegalArgumentException("Failed 3"); },
+        Duration.ofSeconds(10),
+        HandlingPolicy.BEST_EFFORT
+    );
+
+    // Then
+    assertThat(result).containsExactly("a2");
+    assertThat(report.isSuccessful()).isFalse();
+    assertThat(report.isTimedOut()).isFalse();
+    assertThat(report.succeededCount()).isEqualTo(1);
+    assertThat(report.failedCount()).isEqualTo(2);
+    assertThat(report.cancelledCount()).isZero();
+    assertThat(report.exceptions()).extracting(Throwable::getMessage).containsExactly("Failed 1", "Failed 3");
+    assertThatThrownBy(report::throwIfFailed).isExactlyInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed 1");
+    assertThatThrownBy(report::throwIfFailed).satisfies(e -> assertThat(e.getSuppressed())
+        .extracting(Throwable::getMessage).containsExactly("Failed 3"));
+  }
+
+  @Test
+  public void testHandleEachConcurrently_whenDeadline() {
+    // When
+    HandlingReport report = ObjectFunctions.handleEachConcurrently(Duration.ZERO, Duration.ofSeconds(10),
+        d -> sleep(d),
+        Duration.ofMillis(100),
+        HandlingPolicy.ALL_MUST_SUCCEED
+    );
+
+    // Then
+    assertThat(report.isTimedOut()).isTrue();
+    assertThat(report.succeededCount()).isEqualTo(1);
+    assertThat(report.cancelledCount()).isEqualTo(1);
+    assertThat(report.failedCount()).isZero();
+  }
+
+  @Test
+  public void testHandleEachConcurrently() {
+    // Given
+    List<String> result = Collections.synchronizedList(new ArrayList<>());
+
+    // When
+    ObjectFunctions.handleEachConcurrently("a", "b", "c", "d", "e", result::add);
+
+    // Then
+    assertThat(result).containsExactlyInAnyOrder("a", "b", "c", "d", "e");
+  }
+
+  @Test
+  public void testCoalesceConcurrently_whenFirstSupplierIsFast() {
+    // Given
+    var secondLaunched = new AtomicBoolean();
+
+    // When
+    String result = ObjectFunctions.coalesceConcurrently(
+        () -> "first",
+        () -> {
+          secondLaunched.set(true);
+          return "second";
+        },
+        Duration.ofSeconds(10)
+    );
+
+    // Then
+    assertThat(result).isEqualTo("first");
+    assertThat(secondLaunched.get()).isFalse();
+  }
+
+  @Test
+  public void testCoalesceConcurrently_whenFirstSupplierIsSlow() {
+    // Given
+    var secondLaunched = new AtomicBoolean();
+
+    // When
+    String result = ObjectFunctions.coalesceConcurrently(
+        () -> {
+          sleep(Duration.ofMillis(300));
+          return "first";
+        },
+        () -> {
+          secondLaunched.set(true);
+          return "second";
+        },
+        Duration.ofMillis(50)
+    );
+
+    // Then
+    assertThat(result).isEqualTo("first");
+    assertThat(secondLaunched.get()).isTrue();
+  }
+
+  @Test
+  public void testCoalesceConcurrently_whenHigherPriorityReturnsNull() throws Exception {
+    // Given
+    var thirdInterrupted = new CountDownLatch(1);
+    List<Supplier<String>> suppliers = List.of(
+        () -> {
+          sleep(Duration.ofMillis(100));
+          return null;
+        },
+        () -> "second",
+        () -> {
+          if (sleep(Duration.ofSeconds(10))) {
+            thirdInterrupted.countDown();
+          }
+          return "third";
+        }
+    );
+
+    // When
+    String result = ObjectFunctions.coalesceConcurrently(suppliers, Duration.ZERO);
+
+    // Then
+    assertThat(result).isEqualTo("second");
+    assertThat(thirdInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void testCoalesceConcurrently_whenAllNullOrFailed() {
+    assertThat(ObjectFunctions.<String>coalesceConcurrently(() -> null, () -> null, Duration.ofMillis(10)))
+        .isNull();
+    assertThat(ObjectFunctions.coalesceConcurrently(
+        () -> { throw new IllegalStateException("Failed"); },
+        () -> "second",
+        Duration.ofSeconds(10)
+    )).isEqualTo("second");
+    assertThatThrownBy(() -> ObjectFunctions.<String>coalesceConcurrently(
+        () -> null,
+        () -> { throw new IllegalStateException("Failed"); },
+        Duration.ofSeconds(10)
+    )).isExactlyInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed");
+  }
+
+  private static void await(CyclicBarrier barrier) {
+    try {
+      barrier.await(10, TimeUnit.SECONDS);
+    } catch (Exception e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Sleeps and returns {@code true} if sleeping was interrupted.
+   */
+  private static boolean sleep(Duration duration) {
+    try {
+      Thread.sleep(duration.toMillis());
+      return false;
+    } catch (InterruptedException e) {
+      return true;
+    }
+  }
 }
@@ -6,8 +6,11 @@ import tech.intellispaces.general.sample.ClassWithDefaultConstructor;
 import tech.intellispaces.general.sample.ClassWithDefaultConstructorThatThrowException;
 import tech.intellispaces.general.sample.ClassWithoutDefaultConstructor;
 
+import java.lang.reflect.InvocationTargetException;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
 /**
  * Tests for {@link Objects} class.
@@ -33,11 +36,66 @@ public class ObjectsTest {
     assertThatThrownBy(() -> Objects.get(ClassWithDefaultConstructorThatThrowException.class))
         .isExactlyInstanceOf(UnexpectedException.class)
         .hasMessage("Failed to create instance of the class %s",
-            ClassWithDefaultConstructorThatThrowException.class.getCanonicalName());
+            ClassWithDefaultConstructorThatThrowException.class.getCanonicalName())
+        .cause().isExactlyInstanceOf(InvocationTargetException.class)
+        .cause().isExactlyInstanceOf(RuntimeException.class);
+  }
+
+  @Test
+  public void testGet_whenDefaultConstructorThrowsError() {
+    assertThatThrownBy(() -> Objects.get(ErrorSample.class))
+        .isExactlyInstanceOf(UnexpectedException.class)
+        .hasMessage("Failed to create instance of the class %s", ErrorSample.class.getCanonicalName())
+        .cause().isExactlyInstanceOf(InvocationTargetException.class)
+        .cause().isExactlyInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  public void testGet_whenRepeatedCalls() {
+    // When
+    ClassWithDefaultConstructor instance1 = Objects.get(ClassWithDefaultConstructor.class);
+    ClassWithDefaultConstructor instance2 = Objects.get(ClassWithDefaultConstructor.class);
+
+    // Then
+    assertThat(instance1).isNotSameAs(instance2);
+    assertThatThrownBy(() -> Objects.get(ClassWithoutDefaultConstructor.class))
+        .isExactlyInstanceOf(UnexpectedException.class)
+        .hasCauseExactlyInstanceOf(NoSuchMethodException.class);
+  }
+
+  @Test
+  public void testGet_whenRepeatedFailures() {
+    // When
+    Throwable exception1 = catchThrowable(() -> Objects.get(ClassWithoutDefaultConstructor.class));
+    Throwable exception2 = catchThrowable(() -> Objects.get(ClassWithoutDefaultConstructor.class));
+
+    // Then
+    assertThat(exception2).isNotSameAs(exception1);
+    assertThat(exception2.getCause()).isExactlyInstanceOf(NoSuchMethodException.class)
+        .isNotSameAs(exception1.getCause())
+        .hasMessage(exception1.getCause().getMessage());
+  }
+
+  @Test
+  public void testGet_whenAbstractClass() {
+    assertThatThrownBy(() -> Objects.get(AbstractSample.class))
+        .isExactlyInstanceOf(UnexpectedException.class)
+        .hasMessage("Failed to create instance of the class %s", AbstractSample.class.getCanonicalName());
   }
 
   @Test
   public void testGetVoid() {
     assertThat(Objects.getVoid()).isNull();
   }
+
+  public static class ErrorSample {
+    public ErrorSample() {
+      throw new AssertionError();
+    }
+  }
+
+  public abstract static class AbstractSample {
+    public AbstractSample() {
+    }
+  }
 }
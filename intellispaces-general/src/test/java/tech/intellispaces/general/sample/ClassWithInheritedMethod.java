@@ -0,0 +1,11 @@
+package tech.intellispaces.general.sample;
+
+public class ClassWithInheritedMethod implements NonPublicInterface {
+}
+
+interface NonPublicInterface {
+
+  default String name() {
+    return "name";
+  }
+}
@@ -0,0 +1,38 @@
+package tech.intellispaces.general.sample;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Class loader defining its own copy of the given class.
+ */
+public class IsolatedClassLoader extends ClassLoader {
+  private final String className;
+
+  public IsolatedClassLoader(Class<?> aClass) {
+    super(aClass.getClassLoader());
+    this.className = aClass.getName();
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    if (!className.equals(name)) {
+      return super.loadClass(name, resolve);
+    }
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> aClass = findLoadedClass(name);
+      if (aClass == null) {
+        try (InputStream is = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+          if (is == null) {
+            throw new ClassNotFoundException(name);
+          }
+          byte[] bytes = is.readAllBytes();
+          aClass = defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException e) {
+          throw new ClassNotFoundException(name, e);
+        }
+      }
+      return aClass;
+    }
+  }
+}
@@ -0,0 +1,229 @@
+package tech.intellispaces.general.stream;
+
+import org.junit.jupiter.api.Test;
+import tech.intellispaces.general.exception.CheckedException;
+import tech.intellispaces.general.sample.ThrowingFunctions;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link ThrowingStreams} and {@link ThrowingStreamImpl} classes.
+ */
+public class ThrowingStreamsTest {
+
+  @Test
+  public void testToList_whenMappers() throws Exception {
+    // When
+    List<Character> result = ThrowingStreams.get(List.of("a", "b", "c"), CheckedException.class)
+        .map(ThrowingFunctions::throwingCheckedFunction)
+        .map(Character::toUpperCase)
+        .toList();
+
+    // Then
+    assertThat(result).containsExactly('A', 'B', 'C');
+  }
+
+  @Test
+  public void testToList_whenFilter() throws Exception {
+    // When
+    List<String> result = ThrowingStreams.get(Set.of("a", "bb", "ccc"), CheckedException.class)
+        .filter(s -> s.length() > 1)
+        .toList();
+
+    // Then
+    assertThat(result).containsExactlyInAnyOrder("bb", "ccc");
+  }
+
+  @Test
+  public void testToList_whenCheckedException() {
+    // Given
+    var stream = ThrowingStreams.get(List.of("a", "", "b"), CheckedException.class)
+        .map(ThrowingFunctions::throwingCheckedFunction);
+
+    // Then
+    assertThatThrownBy(stream::toList).isExactlyInstanceOf(CheckedException.class)
+        .hasMessage("Empty string");
+  }
+
+  @Test
+  public void testToList_whenUncheckedException() {
+    // Given
+    var stream = ThrowingStreams.get(List.of("a", "", "b"), CheckedException.class)
+        .map(ThrowingFunctions::throwingUncheckedFunction);
+
+    // Then
+    assertThatThrownBy(stream::toList).isExactlyInstanceOf(RuntimeException.class)
+        .hasMessage("Empty string");
+  }
+
+  @Test
+  public void testToList_whenParallel() throws Exception {
+    // Given
+    List<Integer> source = IntStream.range(0, 10_000).boxed().toList();
+
+    // When
+    List<Integer> result = ThrowingStreams.get(source, CheckedException.class)
+        .parallel()
+        .map(i -> i * 2)
+        .filter(i -> i % 3 == 0)
+        .toList();
+
+    // Then
+    assertThat(result).isEqualTo(source.stream().map(i -> i * 2).filter(i -> i % 3 == 0).toList());
+  }
+
+  @Test
+  public void testToList_whenParallelAndCheckedException() {
+    // Given
+    List<String> source = IntStream.range(0, 10_000).mapToObj(i -> i == 5_000 ? "" : "a").toList();
+    var stream = ThrowingStreams.get(source, CheckedException.class)
+        .parallel()
+        .map(ThrowingFunctions::throwingCheckedFunction);
+
+    // Then
+    assertThatThrownBy(stream::toList).isExactlyInstanceOf(CheckedException.class)
+        .hasMessage("Empty string");
+  }
+
+  @Test
+  public void testToList_whenUnmodifiable() throws Exception {
+    // When
+    List<String> mapped = ThrowingStreams.get(List.of("a"), CheckedException.class).map(String::toUpperCase).toList();
+    List<String> filtered = ThrowingStreams.get(List.of("a"), CheckedException.class).filter(s -> true).toList();
+    List<String> parallel = ThrowingStreams.get(List.of("a"), CheckedException.class).parallel().toList();
+
+    // Then
+    assertThatThrownBy(() -> mapped.add("b")).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> filtered.add("b")).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> parallel.add("b")).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void testToList_whenParallelAndExceptionWrapsSameType() {
+    // Given
+    var exception = new CheckedException("Outer", new CheckedException("Inner"));
+    var stream = ThrowingStreams.get(List.of("a", "b"), CheckedException.class)
+        .parallel()
+        .map(s -> {
+          throw exception;
+        });
+
+    // Then
+    assertThatThrownBy(stream::toList).isSameAs(exception);
+  }
+
+  @Test
+  public void testForEach() throws Exception {
+    // Given
+    List<String> result = new ArrayList<>();
+
+    // When
+    ThrowingStreams.get(List.of("a", "b", "c"), CheckedException.class)
+        .map(String::toUpperCase)
+        .forEach(result::add);
+
+    // Then
+    assertThat(result).containsExactly("A", "B", "C");
+  }
+
+  @Test
+  public void testForEach_whenParallel() throws Exception {
+    // Given
+    List<String> result = Collections.synchronizedList(new ArrayList<>());
+
+    // When
+    ThrowingStreams.get(List.of("a", "b", "c"), CheckedException.class)
+        .parallel()
+        .forEach(ThrowingFunctions::throwingCheckedConsumer);
+    ThrowingStreams.get(List.of("a", "b", "c"), CheckedException.class)
+        .parallel()
+        .forEach(result::add);
+
+    // Then
+    assertThat(result).containsExactlyInAnyOrder("a", "b", "c");
+  }
+
+  @Test
+  public void testPeek() throws Exception {
+    // Given
+    List<String> peeked = new ArrayList<>();
+
+    // When
+    long count = ThrowingStreams.get(List.of("a", "b", "c"), CheckedException.class)
+        .peek(peeked::add)
+        .filter(s -> !s.equals("b"))
+        .count();
+
+    // Then
+    assertThat(count).isEqualTo(2);
+    assertThat(peeked).containsExactly("a", "b", "c");
+  }
+
+  @Test
+  public void testReduce() throws Exception {
+    // Given
+    List<Integer> source = IntStream.rangeClosed(1, 100).boxed().toList();
+
+    // Then
+    assertThat(ThrowingStreams.get(source, CheckedException.class).reduce(0, Integer::sum)).isEqualTo(5050);
+    assertThat(ThrowingStreams.get(source, CheckedException.class).parallel().reduce(0, Integer::sum))
+        .isEqualTo(5050);
+  }
+
+  @Test
+  public void testFindFirst() throws Exception {
+    assertThat(ThrowingStreams.get(List.of("a", "bb", "ccc"), CheckedException.class)
+        .filter(s -> s.length() > 1)
+        .findFirst()
+    ).contains("bb");
+    assertThat(ThrowingStreams.get(List.of("a", "bb", "ccc"), CheckedException.class)
+        .filter(s -> s.length() > 5)
+        .findFirst()
+    ).isEmpty();
+  }
+
+  @Test
+  public void testFindFirst_whenShortCircuit() throws Exception {
+    // Given
+    List<String> processed = new ArrayList<>();
+
+    // When
+    ThrowingStreams.get(List.of("a", "", "b"), CheckedException.class)
+        .peek(processed::add)
+        .findFirst();
+
+    // Then
+    assertThat(processed).containsExactly("a");
+  }
+
+  @Test
+  public void testParallelAndSequential() {
+    // Given
+    ThrowingStream<String, CheckedException> stream = ThrowingStreams.get(List.of("a"));
+
+    // Then
+    assertThat(stream.isParallel()).isFalse();
+    assertThat(stream.parallel().isParallel()).isTrue();
+    assertThat(stream.parallel().sequential().isParallel()).isFalse();
+  }
+
+  @Test
+  public void testCount_whenIterable() throws Exception {
+    // Given
+    Iterable<Integer> iterable = () -> IntStream.range(0, 10).iterator();
+
+    // Then
+    assertThat(ThrowingStreams.get(iterable, CheckedException.class).count()).isEqualTo(10);
+    assertThat(ThrowingStreams.get(iterable, CheckedException.class)
+        .map(String::valueOf)
+        .toList()
+    ).isEqualTo(IntStream.range(0, 10).mapToObj(String::valueOf).toList());
+  }
+}
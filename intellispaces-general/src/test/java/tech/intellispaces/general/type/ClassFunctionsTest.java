@@ -8,6 +8,13 @@ import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -36,6 +43,56 @@ public class ClassFunctionsTest {
     assertThat(ClassFunctions.getClass("java.lang.String12345")).isEmpty();
   }
 
+  @Test
+  public void testGetClass_whenClassLoader() {
+    // Given
+    var loader = new CountingClassLoader();
+
+    // When
+    var class1 = ClassFunctions.getClass("java.lang.String", loader);
+    var class2 = ClassFunctions.getClass("java.lang.String", loader);
+    var missing1 = ClassFunctions.getClass("java.lang.String12345", loader);
+    var missing2 = ClassFunctions.getClass("java.lang.String12345", loader);
+
+    // Then
+    assertThat(class1).contains(String.class);
+    assertThat(class2).contains(String.class);
+    assertThat(missing1).isEmpty();
+    assertThat(missing2).isEmpty();
+    assertThat(loader.count.get()).isEqualTo(2);
+    assertThat(ClassFunctions.getClass("java.lang.String", null)).contains(String.class);
+  }
+
+  @Test
+  public void testInvalidateClassCache() {
+    // Given
+    var loader = new CountingClassLoader();
+    ClassFunctions.getClass("java.lang.String12345", loader);
+
+    // When
+    ClassFunctions.invalidateClassCache(loader);
+    ClassFunctions.getClass("java.lang.String12345", loader);
+
+    // Then
+    assertThat(loader.count.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void testGetClass_whenManyMissingClasses() {
+    // Given
+    var loader = new CountingClassLoader();
+
+    // When
+    for (int i = 0; i <= ClassLookupCache.MAX_MISSING_CLASSES; i++) {
+      ClassFunctions.getClass("a.b.Missing" + i, loader);
+    }
+    ClassFunctions.getClass("a.b.Missing" + ClassLookupCache.MAX_MISSING_CLASSES, loader);
+    ClassFunctions.getClass("a.b.Missing0", loader);
+
+    // Then
+    assertThat(loader.count.get()).isEqualTo(ClassLookupCache.MAX_MISSING_CLASSES + 2);
+  }
+
   @Test
   public void testGetClassOrElseThrow() {
     assertThat(ClassFunctions.getClassOrElseThrow("java.lang.String")).isSameAs(String.class);
@@ -57,6 +114,14 @@ public class ClassFunctionsTest {
     assertThat(ClassFunctions.hasAnnotationDeep(StringToStringFunctionImpl2.class, FunctionalInterface.class)).isTrue();
   }
 
+  @Test
+  public void testFindAnnotationDeep() {
+    assertThat(ClassFunctions.findAnnotationDeep(String.class, FunctionalInterface.class)).isEmpty();
+    assertThat(ClassFunctions.findAnnotationDeep(StringToStringFunctionImpl2.class, FunctionalInterface.class))
+        .containsInstanceOf(FunctionalInterface.class);
+    assertThat(ClassFunctions.findAnnotationDeep(StringToStringFunctionImpl2.class, Deprecated.class)).isEmpty();
+  }
+
   @Test
   public void testGetJavaLibraryName() {
     assertThat(ClassFunctions.getJavaLibraryName(ClassFunctions.class)).isPresent();
@@ -181,6 +246,18 @@ public class ClassFunctionsTest {
     assertThat(ClassFunctions.primitiveByWrapperClassName(String.class.getCanonicalName())).isEmpty();
   }
 
+  @Test
+  public void testPrimitiveByWrapperClass() {
+    assertThat(ClassFunctions.primitiveByWrapperClass(Boolean.class)).contains(PrimitiveTypes.Boolean);
+    assertThat(ClassFunctions.primitiveByWrapperClass(Character.class)).contains(PrimitiveTypes.Char);
+    assertThat(ClassFunctions.primitiveByWrapperClass(Integer.class)).contains(PrimitiveTypes.Int);
+    assertThat(ClassFunctions.primitiveByWrapperClass(Double.class)).contains(PrimitiveTypes.Double);
+
+    assertThat(ClassFunctions.primitiveByWrapperClass(int.class)).isEmpty();
+    assertThat(ClassFunctions.primitiveByWrapperClass(Void.class)).isEmpty();
+    assertThat(ClassFunctions.primitiveByWrapperClass(Number.class)).isEmpty();
+  }
+
   @Test
   public void testIsPrimitiveWrapperClass() {
     assertThat(ClassFunctions.isPrimitiveWrapperClass(Boolean.class.getCanonicalName())).isTrue();
@@ -218,6 +295,44 @@ public class ClassFunctionsTest {
     assertThat(ClassFunctions.getParents(ByteArrayInputStream.class)).contains(InputStream.class);
   }
 
+  @Test
+  public void testGetAllSupertypes_whenClass() {
+    assertThat(ClassFunctions.getAllSupertypes(ByteArrayInputStream.class))
+        .containsExactly(InputStream.class, Object.class, Closeable.class, AutoCloseable.class);
+    assertThat(ClassFunctions.getAllSupertypes(Object.class)).isEmpty();
+    assertThat(ClassFunctions.getAllSupertypes(int.class)).isEmpty();
+  }
+
+  @Test
+  public void testGetAllSupertypes_whenInterface() {
+    assertThat(ClassFunctions.getAllSupertypes(Closeable.class)).containsExactly(AutoCloseable.class, Object.class);
+  }
+
+  @Test
+  public void testGetAllSupertypes_whenSharedInterfaces() {
+    // When
+    List<Class<?>> supertypes = ClassFunctions.getAllSupertypes(ArrayList.class);
+
+    // Then
+    assertThat(supertypes).doesNotHaveDuplicates()
+        .startsWith(AbstractList.class, AbstractCollection.class, Object.class)
+        .contains(List.class, Collection.class, Iterable.class, RandomAccess.class);
+    assertThat(supertypes.indexOf(List.class)).isLessThan(supertypes.indexOf(Collection.class));
+    assertThat(supertypes.indexOf(Collection.class)).isLessThan(supertypes.indexOf(Iterable.class));
+  }
+
+  @Test
+  public void testIsSubtypeOf() {
+    assertThat(ClassFunctions.isSubtypeOf(ArrayList.class, Iterable.class)).isTrue();
+    assertThat(ClassFunctions.isSubtypeOf(ArrayList.class, ArrayList.class)).isTrue();
+    assertThat(ClassFunctions.isSubtypeOf(Closeable.class, Object.class)).isTrue();
+    assertThat(ClassFunctions.isSubtypeOf(String[].class, Object[].class)).isTrue();
+    assertThat(ClassFunctions.isSubtypeOf(Iterable.class, ArrayList.class)).isFalse();
+    assertThat(ClassFunctions.isSubtypeOf(ArrayList.class, Closeable.class)).isFalse();
+    assertThat(ClassFunctions.isSubtypeOf(int.class, int.class)).isTrue();
+    assertThat(ClassFunctions.isSubtypeOf(int.class, long.class)).isFalse();
+  }
+
   @Test
   public void testIsLanguageClass() {
     assertThat(ClassFunctions.isLanguageClass(Object.class)).isTrue();
@@ -267,4 +382,77 @@ public class ClassFunctionsTest {
     assertThat(ClassSample.getField1()).isTrue();
     assertThat(ClassSample.getField2()).isFalse();
   }
+
+  @Test
+  public void testSetStaticField_whenValueOfOtherType() {
+    assertThatThrownBy(() -> ClassFunctions.setStaticField(ClassSample.class, "FIELD3", "5"))
+        .isExactlyInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Can not set static field FIELD3 of the class tech.intellispaces.general.type.ClassSample "
+            + "of type int to value of type java.lang.String");
+    assertThatThrownBy(() -> ClassFunctions.setStaticField(ClassSample.class, "FIELD3", (short) 5))
+        .isExactlyInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> ClassFunctions.setStaticField(ClassSample.class, "FIELD2", null))
+        .isExactlyInstanceOf(IllegalArgumentException.class);
+    assertThat(ClassSample.getField3()).isEqualTo(1);
+  }
+
+  @Test
+  public void testGetStaticFieldAccessor() throws Exception {
+    // Given
+    StaticFieldAccessor<Integer> accessor = ClassFunctions.getStaticFieldAccessor(
+        ClassSample.class, "FIELD3", int.class
+    );
+
+    // When
+    accessor.setVolatile(2);
+    int value1 = accessor.getInt();
+    accessor.setRelease(3);
+    Integer value2 = accessor.getAcquire();
+    accessor.set(1);
+
+    // Then
+    assertThat(value1).isEqualTo(2);
+    assertThat(value2).isEqualTo(3);
+    assertThat(ClassSample.getField3()).isEqualTo(1);
+    assertThat(accessor.fieldType()).isSameAs(int.class);
+    assertThat(accessor.isReadOnly()).isFalse();
+    assertThat(ClassFunctions.getStaticFieldAccessor(ClassSample.class, "FIELD3", Integer.class))
+        .isSameAs(accessor);
+    assertThat(accessor.getClass().isHidden()).isTrue();
+    assertThat(ClassFunctions.getStaticFieldAccessor(ClassSample.class, "FIELD2", boolean.class).getClass())
+        .isNotSameAs(accessor.getClass());
+  }
+
+  @Test
+  public void testGetStaticFieldAccessor_whenFinalField() throws Exception {
+    // Given
+    StaticFieldAccessor<String> accessor = ClassFunctions.getStaticFieldAccessor(
+        ClassSample.class, "CONSTANT", String.class
+    );
+
+    // Then
+    assertThat(accessor.get()).isEqualTo("constant");
+    assertThat(accessor.isReadOnly()).isTrue();
+    assertThatThrownBy(() -> ClassFunctions.setStaticField(ClassSample.class, "CONSTANT", "other"))
+        .isExactlyInstanceOf(IllegalAccessException.class);
+  }
+
+  @Test
+  public void testGetStaticFieldAccessor_whenWrongType() {
+    assertThatThrownBy(() -> ClassFunctions.getStaticFieldAccessor(ClassSample.class, "FIELD3", String.class))
+        .isExactlyInstanceOf(UnexpectedException.class)
+        .hasMessage("Field FIELD3 of the class tech.intellispaces.general.type.ClassSample has type int");
+    assertThatThrownBy(() -> ClassFunctions.getStaticFieldAccessor(ClassSample.class, "FIELD4", int.class))
+        .isExactlyInstanceOf(NoSuchFieldException.class);
+  }
+
+  private static class CountingClassLoader extends ClassLoader {
+    final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public Class<?> loadClass(String name) throws ClassNotFoundException {
+      count.incrementAndGet();
+      return super.loadClass(name);
+    }
+  }
 }
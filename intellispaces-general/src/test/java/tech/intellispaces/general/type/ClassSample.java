@@ -3,6 +3,8 @@ package tech.intellispaces.general.type;
 class ClassSample {
   private static Boolean FIELD1 = true;
   private static boolean FIELD2 = false;
+  private static int FIELD3 = 1;
+  private static final String CONSTANT = "constant";
 
   public static Boolean getField1() {
     return FIELD1;
@@ -11,4 +13,8 @@ class ClassSample {
   public static boolean getField2() {
     return FIELD2;
   }
+
+  public static int getField3() {
+    return FIELD3;
+  }
 }
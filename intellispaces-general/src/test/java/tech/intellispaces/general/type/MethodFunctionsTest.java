@@ -1,11 +1,21 @@
 package tech.intellispaces.general.type;
 
 import org.junit.jupiter.api.Test;
+import tech.intellispaces.general.function.primitive.ObjectAndTwoIntsToObjectFunction;
+import tech.intellispaces.general.function.primitive.ObjectToIntFunction;
+import tech.intellispaces.general.sample.ClassWithInheritedMethod;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Tests for {@link MethodFunctions} class.
@@ -41,4 +51,150 @@ public class MethodFunctionsTest {
     assertThat(MethodFunctions.getMethod(String.class, "charAt", int.class)).isPresent();
     assertThat(MethodFunctions.getMethod(String.class, "charAt", long.class)).isNotPresent();
   }
+
+  @Test
+  public void testGetMethod_whenCovariantReturnType() throws Exception {
+    // When
+    Method method = MethodFunctions.getMethod(StringBuilder.class, "append", String.class).orElseThrow();
+
+    // Then
+    assertThat(method).isEqualTo(StringBuilder.class.getMethod("append", String.class));
+    assertThat(method.getReturnType()).isSameAs(StringBuilder.class);
+  }
+
+  @Test
+  public void testGetMethodHandle() throws Throwable {
+    // When
+    MethodHandle handle = MethodFunctions.getMethodHandle(String.class, "charAt", int.class).orElseThrow();
+
+    // Then
+    assertThat((char) handle.invoke("abc", 1)).isEqualTo('b');
+    assertThat(MethodFunctions.getMethodHandle(String.class, "charAt", int.class)).containsSame(handle);
+    assertThat(MethodFunctions.getMethodHandle(String.class, "charAt", long.class)).isNotPresent();
+  }
+
+  @Test
+  public void testGetMethod_whenMadeAccessible() {
+    // Given
+    Method method1 = MethodFunctions.getMethod(String.class, "trim").orElseThrow();
+
+    // When
+    method1.setAccessible(true);
+    Method method2 = MethodFunctions.getMethod(String.class, "trim").orElseThrow();
+
+    // Then
+    assertThat(method2).isEqualTo(method1).isNotSameAs(method1);
+    assertThat(MethodFunctions.getMethods(String.class, "trim")).singleElement()
+        .isEqualTo(method1).isNotSameAs(method1).isNotSameAs(method2);
+  }
+
+  @Test
+  public void testGetMethodHandle_whenDeclaredInNonPublicInterface() throws Throwable {
+    // Given
+    Method method = ClassWithInheritedMethod.class.getMethod("name");
+
+    // When
+    MethodHandle handle = MethodFunctions.getMethodHandle(ClassWithInheritedMethod.class, "name").orElseThrow();
+
+    // Then
+    assertThat(Modifier.isPublic(method.getDeclaringClass().getModifiers())).isFalse();
+    assertThat((String) handle.invoke(new ClassWithInheritedMethod())).isEqualTo("name");
+  }
+
+  @Test
+  public void testGetMethods() {
+    assertThat(MethodFunctions.getMethods(String.class, "indexOf")).hasSizeGreaterThan(1)
+        .allMatch(method -> method.getName().equals("indexOf"));
+    assertThat(MethodFunctions.getMethods(String.class, "indexOf123")).isEmpty();
+  }
+
+  @Test
+  public void testGetAbstractMethods() {
+    assertThat(MethodFunctions.getAbstractMethods(Function.class)).extracting(Method::getName)
+        .containsExactly("apply");
+    assertThat(MethodFunctions.getAbstractMethods(String.class)).isEmpty();
+  }
+
+  @Test
+  public void testGetStaticMethods() {
+    assertThat(MethodFunctions.getStaticMethods(Function.class)).extracting(Method::getName)
+        .containsExactly("identity");
+    assertThat(MethodFunctions.getStaticMethods(String.class)).extracting(Method::getName)
+        .contains("valueOf", "join");
+  }
+
+  @Test
+  public void testInvoker_whenInstanceMethod() throws Exception {
+    // When
+    BiFunction<String, Integer, Character> charAt = MethodFunctions.invoker(
+        String.class.getMethod("charAt", int.class)
+    );
+    BiFunction<List<String>, Object, Boolean> add = MethodFunctions.invoker(List.class.getMethod("add", Object.class));
+    Consumer<List<String>> clear = MethodFunctions.invoker(List.class.getMethod("clear"));
+    var list = new ArrayList<String>();
+
+    // Then
+    assertThat(charAt.apply("abc", 1)).isEqualTo('b');
+    assertThat(add.apply(list, "a")).isTrue();
+    assertThat(list).containsExactly("a");
+    clear.accept(list);
+    assertThat(list).isEmpty();
+  }
+
+  @Test
+  public void testInvoker_whenPrimitiveSpecialization() throws Exception {
+    // When
+    ObjectToIntFunction<String> length = MethodFunctions.invoker(String.class.getMethod("length"));
+    ObjectToIntFunction<String> parseInt = MethodFunctions.invoker(Integer.class.getMethod("parseInt", String.class));
+    ObjectAndTwoIntsToObjectFunction<String, String> substring = MethodFunctions.invoker(
+        String.class.getMethod("substring", int.class, int.class)
+    );
+
+    // Then
+    assertThat(length.applyAsInt("abc")).isEqualTo(3);
+    assertThat(parseInt.applyAsInt("42")).isEqualTo(42);
+    assertThat(substring.apply("abcdef", 1, 3)).isEqualTo("bc");
+  }
+
+  @Test
+  public void testInvoker_whenCached() throws Exception {
+    // When
+    Object invoker1 = MethodFunctions.invoker(String.class.getMethod("trim"));
+    Object invoker2 = MethodFunctions.invoker(String.class.getMethod("trim"));
+
+    // Then
+    assertThat(invoker1).isSameAs(invoker2);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testInvoker_whenExplicitInterface() throws Exception {
+    // When
+    Function<String, Integer> length = MethodFunctions.invoker(String.class.getMethod("length"), Function.class);
+
+    // Then
+    assertThat(length.apply("abcd")).isEqualTo(4);
+  }
+
+  @Test
+  public void testInvoker_whenInaccessibleMethod() throws Exception {
+    // When
+    Function<String, String> function = MethodFunctions.invoker(
+        MethodFunctionsTest.class.getDeclaredMethod("privateMethod", String.class)
+    );
+
+    // Then
+    assertThat(function.apply("a")).isEqualTo("aa");
+  }
+
+  @Test
+  public void testInvoker_whenTooManyParameters() throws Exception {
+    assertThatThrownBy(() -> MethodFunctions.invoker(String.class.getMethod(
+        "regionMatches", boolean.class, int.class, String.class, int.class, int.class
+    ))).hasMessageContaining("has too many parameters to create invoker");
+  }
+
+  private static String privateMethod(String value) {
+    return value + value;
+  }
 }
@@ -27,6 +27,21 @@ public class PrimitiveFunctionsTest {
     assertThat(PrimitiveFunctions.isPrimitiveTypename(Boolean.class.getCanonicalName())).isFalse();
   }
 
+  @Test
+  public void testGetPrimitiveArrayClass() {
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("[I")).contains(int[].class);
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("[Z")).contains(boolean[].class);
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("[[J")).contains(long[][].class);
+
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass(null)).isEmpty();
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("")).isEmpty();
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("I")).isEmpty();
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("[")).isEmpty();
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("[V")).isEmpty();
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("[II")).isEmpty();
+    assertThat(PrimitiveFunctions.getPrimitiveArrayClass("[Ljava.lang.String;")).isEmpty();
+  }
+
   @Test
   public void testBooleanToInt() {
     assertThat(PrimitiveFunctions.booleanToInt(true)).isEqualTo(1);
@@ -39,6 +39,41 @@ public class PrimitiveTypesTest {
         .hasMessage("Not primitive typename: String");
   }
 
+  @Test
+  public void testGetByClass() {
+    assertThat(PrimitiveTypes.getByClass(boolean.class)).containsSame(PrimitiveTypes.Boolean);
+    assertThat(PrimitiveTypes.getByClass(int.class)).containsSame(PrimitiveTypes.Int);
+    assertThat(PrimitiveTypes.getByClass(double.class)).containsSame(PrimitiveTypes.Double);
+
+    assertThat(PrimitiveTypes.getByClass(void.class)).isEmpty();
+    assertThat(PrimitiveTypes.getByClass(Integer.class)).isEmpty();
+    assertThat(PrimitiveTypes.getByClass(int[].class)).isEmpty();
+  }
+
+  @Test
+  public void testGetByDescriptor() {
+    assertThat(PrimitiveTypes.getByDescriptor('Z')).containsSame(PrimitiveTypes.Boolean);
+    assertThat(PrimitiveTypes.getByDescriptor('C')).containsSame(PrimitiveTypes.Char);
+    assertThat(PrimitiveTypes.getByDescriptor('B')).containsSame(PrimitiveTypes.Byte);
+    assertThat(PrimitiveTypes.getByDescriptor('S')).containsSame(PrimitiveTypes.Short);
+    assertThat(PrimitiveTypes.getByDescriptor('I')).containsSame(PrimitiveTypes.Int);
+    assertThat(PrimitiveTypes.getByDescriptor('J')).containsSame(PrimitiveTypes.Long);
+    assertThat(PrimitiveTypes.getByDescriptor('F')).containsSame(PrimitiveTypes.Float);
+    assertThat(PrimitiveTypes.getByDescriptor('D')).containsSame(PrimitiveTypes.Double);
+
+    assertThat(PrimitiveTypes.getByDescriptor('V')).isEmpty();
+    assertThat(PrimitiveTypes.getByDescriptor('L')).isEmpty();
+  }
+
+  @Test
+  public void testDescriptorAndArrayClass() {
+    for (PrimitiveTypes primitiveType : PrimitiveTypes.values()) {
+      Class<?> baseClass = primitiveType.asClassType().baseClass();
+      assertThat(primitiveType.arrayClass().getComponentType()).isSameAs(baseClass);
+      assertThat(primitiveType.arrayClass().getName()).isEqualTo("[" + primitiveType.descriptor());
+    }
+  }
+
   @Test
   public void testFrom() {
     assertThat(PrimitiveTypes.from(PrimitiveTypes.Boolean)).isSameAs(PrimitiveTypes.Boolean);
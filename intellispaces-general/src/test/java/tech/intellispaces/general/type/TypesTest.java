@@ -3,9 +3,18 @@ package tech.intellispaces.general.type;
 import org.junit.jupiter.api.Test;
 import tech.intellispaces.general.data.Pair;
 import tech.intellispaces.general.data.Triad;
+import tech.intellispaces.general.sample.ClassWithDefaultConstructor;
+import tech.intellispaces.general.sample.IsolatedClassLoader;
 
+import java.lang.ref.WeakReference;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -113,8 +122,219 @@ public class TypesTest {
     assertThat(Types.get(List.class, String.class)).isNotEqualTo(Types.get(List.class));
   }
 
+  @Test
+  public void testGet_whenInterned() {
+    assertThat(Types.get(Integer.class)).isSameAs(Types.get(Integer.class));
+    assertThat(Types.get(List.class, String.class)).isSameAs(Types.get(List.class, Types.get(String.class)));
+    assertThat(Types.get(Pair.class, String.class, Integer.class))
+        .isSameAs(Types.get(Pair.class, String.class, Integer.class))
+        .isNotSameAs(Types.get(Pair.class, Integer.class, String.class));
+    assertThat(Types.ofList(String.class).baseType()).isSameAs(Types.get(List.class));
+    assertThat(Types.get(String.class).baseType()).isSameAs(Types.get(String.class));
+    assertThat(PrimitiveTypes.Int.asClassType()).isSameAs(Types.get(int.class));
+  }
+
   @Test
   public void testHashCode() {
     assertThat(Types.get(Integer.class).hashCode()).isEqualTo(Objects.hash(Integer.class, List.of()));
+    assertThat(Types.get(List.class, String.class).hashCode())
+        .isEqualTo(Objects.hash(List.class, List.of(Types.get(String.class))));
+  }
+
+  @Test
+  public void testEquals_whenOtherClassTypeImplementation() {
+    // Given
+    ClassType<List<String>> type = new AbstractClassType<>() {
+      @Override
+      public Class<?> baseClass() {
+        return List.class;
+      }
+
+      @Override
+      public List<Type<?>> qualifierTypes() {
+        return List.of(Types.get(String.class));
+      }
+    };
+
+    // Then
+    assertThat(Types.get(List.class, String.class)).isEqualTo(type);
+    assertThat(type).isEqualTo(Types.get(List.class, String.class));
+    assertThat(type.hashCode()).isEqualTo(Types.get(List.class, String.class).hashCode());
+    assertThat(type).isNotEqualTo(Types.get(List.class, Integer.class));
+  }
+
+  @Test
+  public void testOf_whenParameterizedType() throws Exception {
+    // Given
+    java.lang.reflect.Type type = GenericSample.class.getDeclaredField("map").getGenericType();
+
+    // When
+    Type<?> result = Types.of(type);
+
+    // Then
+    assertThat(result).isSameAs(Types.get(Map.class, Types.get(String.class), Types.ofList(Integer.class)));
+    assertThat(Types.of(type)).isSameAs(result);
+  }
+
+  @Test
+  public void testOf_whenWildcardAndTypeVariable() throws Exception {
+    assertThat(Types.of(GenericSample.class.getDeclaredField("numbers").getGenericType()))
+        .isEqualTo(Types.get(List.class, Number.class));
+    assertThat(Types.of(GenericSample.class.getDeclaredField("value").getGenericType()))
+        .isEqualTo(Types.get(Comparable.class, Comparable.class));
+    assertThat(Types.of(int.class)).isSameAs(PrimitiveTypes.Int.asClassType());
+  }
+
+  @Test
+  public void testOf_whenContext() throws Exception {
+    // Given
+    java.lang.reflect.Type type = ArrayList.class.getMethod("get", int.class).getGenericReturnType();
+
+    // Then
+    assertThat(Types.of(type, StringList.class)).isSameAs(Types.get(String.class));
+    assertThat(Types.of(type, ArrayList.class)).isSameAs(Types.get(Object.class));
+  }
+
+  @Test
+  public void testIsAssignable() {
+    assertThat(Types.isAssignable(Types.get(ArrayList.class, Integer.class), Types.get(List.class, Number.class)))
+        .isTrue();
+    assertThat(Types.isAssignable(Types.get(List.class, Number.class), Types.get(ArrayList.class, Number.class)))
+        .isFalse();
+    assertThat(Types.isAssignable(Types.get(ArrayList.class, String.class), Types.get(List.class, Integer.class)))
+        .isFalse();
+    assertThat(Types.isAssignable(Types.get(ArrayList.class), Types.get(List.class, String.class))).isTrue();
+    assertThat(Types.isAssignable(Types.get(ArrayList.class, String.class), Types.get(Collection.class))).isTrue();
+    assertThat(Types.isAssignable(
+        Types.get(HashMap.class, Types.get(String.class), Types.ofList(Integer.class)),
+        Types.get(Map.class, Types.get(String.class), Types.get(Collection.class, Number.class))
+    )).isTrue();
+  }
+
+  @Test
+  public void testIsAssignable_whenBoundTypeVariables() {
+    assertThat(Types.isAssignable(Types.get(StringList.class), Types.get(List.class, String.class))).isTrue();
+    assertThat(Types.isAssignable(Types.get(StringList.class), Types.get(List.class, Integer.class))).isFalse();
+    assertThat(Types.isAssignable(
+        Types.get(KeyedMap.class, Integer.class), Types.get(Map.class, String.class, Number.class)
+    )).isTrue();
+    assertThat(Types.isAssignable(
+        Types.get(KeyedMap.class, Integer.class), Types.get(Map.class, Integer.class, Integer.class)
+    )).isFalse();
+  }
+
+  @Test
+  public void testIsAssignable_whenPrimitives() {
+    assertThat(Types.isAssignable(Types.get(int.class), PrimitiveTypes.Int)).isTrue();
+    assertThat(Types.isAssignable(Types.get(int.class), Types.get(Integer.class))).isFalse();
+    assertThat(Types.isAssignable(Types.get(Integer.class), Types.get(long.class))).isFalse();
+  }
+
+  @Test
+  public void testGet_whenQualifierClassLoaderIsNotReachable() throws Exception {
+    // When
+    WeakReference<ClassLoader> classLoader = getListOfIsolatedClass();
+
+    // Then
+    assertThat(isCollected(classLoader, () -> Types.get(Optional.class, String.class))).isTrue();
+  }
+
+  @Test
+  public void testOf_whenTypeArgumentClassLoaderIsNotReachable() throws Exception {
+    // When
+    WeakReference<ClassLoader> classLoader = ofListOfIsolatedClass();
+
+    // Then
+    assertThat(isCollected(classLoader, () -> Types.of(parameterizedType(Optional.class, String.class)))).isTrue();
+  }
+
+  @Test
+  public void testIsAssignable_whenManyTypes() {
+    // Given
+    Type<?> qualifierType = Types.get(String.class);
+
+    // When
+    for (int i = 0; i < 5 * TypeAssignability.MAX_RESULTS; i++) {
+      qualifierType = Types.get(Optional.class, qualifierType);
+      assertThat(Types.isAssignable(Types.get(List.class, qualifierType), Types.get(Collection.class))).isTrue();
+    }
+
+    // Then
+    assertThat(TypeAssignability.resultCount(Object.class)).isLessThanOrEqualTo(TypeAssignability.MAX_RESULTS);
+  }
+
+  @Test
+  public void testIsAssignable_whenQualifierClassLoaderIsNotReachable() throws Exception {
+    // When
+    WeakReference<ClassLoader> classLoader = checkListOfIsolatedClass();
+
+    // Then
+    assertThat(isCollected(classLoader, () -> Types.get(Optional.class, String.class))).isTrue();
+  }
+
+  private static WeakReference<ClassLoader> getListOfIsolatedClass() throws Exception {
+    var classLoader = new IsolatedClassLoader(ClassWithDefaultConstructor.class);
+    Class<?> aClass = classLoader.loadClass(ClassWithDefaultConstructor.class.getName());
+    assertThat(Types.get(List.class, aClass).qualifierTypes()).containsExactly(Types.get(aClass));
+    return new WeakReference<>(classLoader);
+  }
+
+  private static WeakReference<ClassLoader> ofListOfIsolatedClass() throws Exception {
+    var classLoader = new IsolatedClassLoader(ClassWithDefaultConstructor.class);
+    Class<?> aClass = classLoader.loadClass(ClassWithDefaultConstructor.class.getName());
+    ParameterizedType type = parameterizedType(List.class, aClass);
+    assertThat(Types.of(type)).isSameAs(Types.of(type));
+    assertThat(Types.of(type, ArrayList.class)).isSameAs(Types.get(List.class, aClass));
+    return new WeakReference<>(classLoader);
+  }
+
+  private static WeakReference<ClassLoader> checkListOfIsolatedClass() throws Exception {
+    var classLoader = new IsolatedClassLoader(ClassWithDefaultConstructor.class);
+    Class<?> aClass = classLoader.loadClass(ClassWithDefaultConstructor.class.getName());
+    assertThat(Types.isAssignable(Types.get(List.class, aClass), Types.get(Collection.class))).isTrue();
+    assertThat(Types.isAssignable(Types.get(ArrayList.class, aClass), Types.get(List.class, Object.class))).isTrue();
+    return new WeakReference<>(classLoader);
+  }
+
+  private static ParameterizedType parameterizedType(Class<?> rawClass, java.lang.reflect.Type... typeArguments) {
+    return new ParameterizedType() {
+      @Override
+      public java.lang.reflect.Type[] getActualTypeArguments() {
+        return typeArguments.clone();
+      }
+
+      @Override
+      public java.lang.reflect.Type getRawType() {
+        return rawClass;
+      }
+
+      @Override
+      public java.lang.reflect.Type getOwnerType() {
+        return null;
+      }
+    };
+  }
+
+  private static boolean isCollected(WeakReference<?> reference, Runnable action) throws InterruptedException {
+    for (int i = 0; i < 100 && reference.get() != null; i++) {
+      System.gc();
+      action.run();
+      Thread.sleep(10);
+    }
+    return reference.get() == null;
+  }
+
+  static class GenericSample<T extends Comparable<T>> {
+    Map<String, List<Integer>> map;
+    List<? extends Number> numbers;
+    T value;
+  }
+
+  @SuppressWarnings("serial")
+  static class StringList extends ArrayList<String> {
+  }
+
+  @SuppressWarnings("serial")
+  static class KeyedMap<V> extends HashMap<String, V> {
   }
 }